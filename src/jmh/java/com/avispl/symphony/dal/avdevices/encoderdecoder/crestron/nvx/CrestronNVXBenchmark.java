@@ -0,0 +1,153 @@
+/*
+ *  Copyright (c) 2024 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.avdevices.encoderdecoder.crestron.nvx;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import com.avispl.symphony.api.dal.dto.control.AdvancedControllableProperty;
+import com.avispl.symphony.dal.avdevices.encoderdecoder.crestron.nvx.common.AudioMode;
+import com.avispl.symphony.dal.avdevices.encoderdecoder.crestron.nvx.common.CrestronConstant;
+import com.avispl.symphony.dal.avdevices.encoderdecoder.crestron.nvx.common.CrestronControlCommand;
+import com.avispl.symphony.dal.avdevices.encoderdecoder.crestron.nvx.common.TimeZone;
+
+/**
+ * CrestronNVXBenchmark measures the poll and control hot paths against the NVX fixtures in src/test/resources/fixtures.
+ * Run with {@code mvn -P jmh test-compile exec:exec}, throughput and allocations per operation (gc.alloc.rate.norm)
+ * are printed and written to target/jmh-result.json.
+ * A single benchmark can be run with
+ * {@code java -cp <test classpath> org.openjdk.jmh.Main CrestronNVXBenchmark.populateFullCycle -prof gc}.
+ *
+ * @author Kevin / Symphony Dev Team<br>
+ * Created on 10/18/2026
+ * @since 1.0.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = { "-Xms512m", "-Xmx512m" })
+public class CrestronNVXBenchmark {
+	private static final String CONTROL_RESPONSE = "{\"Actions\":[{\"Operation\":\"SetPartial\",\"Results\":[{\"Path\":\"Device.DiscoveryConfig.DiscoveryAgent\",\"Property\":\"DiscoveryAgent\",\"StatusId\":0,\"StatusInfo\":\"OK\"}],\"TargetObject\":\"DiscoveryConfig\"}]}";
+
+	@Param({ "nvx-e30-transmitter", "nvx-d30-receiver", "nvx-350-transmitter", "nvx-350-receiver", "nvx-352-transmitter", "nvx-352-receiver" })
+	private String fixture;
+
+	private CrestronNVXCommunicator communicator;
+	private CrestronControlCommand discoveryAgent;
+
+	@Setup
+	public void setUp() throws Exception {
+		communicator = new CrestronNVXCommunicator();
+		communicator.cacheDeviceResponse(readFixture(fixture));
+		discoveryAgent = CrestronControlCommand.DISCOVERY_AGENT;
+	}
+
+	/**
+	 * Populate every group of a poll cycle without reusing the groups populated in the previous cycle.
+	 * The allocation target of a poll is measured here: gc.alloc.rate.norm must stay under 32768 B/op for every fixture,
+	 * it is between 21 KB (E30 transmitter) and 26 KB (350/352 receiver) on 1.0.0.
+	 */
+	@Benchmark
+	public List<AdvancedControllableProperty> populateFullCycle() throws Exception {
+		communicator.invalidatePopulatedGroups();
+		return populate(false, CrestronConstant.EMPTY);
+	}
+
+	/**
+	 * Populate a poll cycle where every payload is unchanged since the previous cycle
+	 */
+	@Benchmark
+	public List<AdvancedControllableProperty> populateUnchangedCycle() throws Exception {
+		return populate(false, CrestronConstant.EMPTY);
+	}
+
+	/**
+	 * Populate a single group as done after a filter control
+	 */
+	@Benchmark
+	public List<AdvancedControllableProperty> populateForcedGroup() throws Exception {
+		return populate(true, CrestronConstant.INPUT_GROUP);
+	}
+
+	@Benchmark
+	public JsonNode buildControlBody() throws Exception {
+		return communicator.buildControlBody(discoveryAgent.getParam(), discoveryAgent.getApiProperty(), true);
+	}
+
+	@Benchmark
+	public Integer parseControlStatus() throws Exception {
+		return communicator.parseControlStatus(discoveryAgent.getUrl(), discoveryAgent.getName(), CONTROL_RESPONSE);
+	}
+
+	@Benchmark
+	public void enumLookups(Blackhole blackhole) {
+		blackhole.consume(TimeZone.getEnumByName("(UTC-05:00) Eastern Time (US & Canada)"));
+		blackhole.consume(TimeZone.getEnumByValue("014"));
+		blackhole.consume(CrestronControlCommand.getEnumByName("TTL"));
+		blackhole.consume(AudioMode.getEnumByValue("Insert"));
+	}
+
+	private List<AdvancedControllableProperty> populate(boolean isForcePopulate, String group) throws Exception {
+		Map<String, String> stats = new HashMap<>();
+		Map<String, String> controlStats = new HashMap<>();
+		List<AdvancedControllableProperty> controls = new ArrayList<>();
+		communicator.populateMonitoringAndControllableProperties(stats, isForcePopulate ? stats : controlStats, controls, isForcePopulate, group);
+		return controls;
+	}
+
+	private static String readFixture(String name) throws IOException {
+		try (InputStream stream = CrestronNVXBenchmark.class.getResourceAsStream("/fixtures/" + name + ".json")) {
+			if (stream == null) {
+				throw new IOException("Fixture not found: " + name);
+			}
+			ByteArrayOutputStream output = new ByteArrayOutputStream();
+			byte[] buffer = new byte[8192];
+			int length;
+			while ((length = stream.read(buffer)) != -1) {
+				output.write(buffer, 0, length);
+			}
+			return new String(output.toByteArray(), StandardCharsets.UTF_8);
+		}
+	}
+
+	public static void main(String[] args) throws Exception {
+		Options options = new OptionsBuilder()
+				.include(CrestronNVXBenchmark.class.getSimpleName())
+				.addProfiler(GCProfiler.class)
+				.resultFormat(ResultFormatType.JSON)
+				.result("target/jmh-result.json")
+				.build();
+		new Runner(options).run();
+	}
+}
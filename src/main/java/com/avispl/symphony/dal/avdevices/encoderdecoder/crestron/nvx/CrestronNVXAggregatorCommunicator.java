@@ -0,0 +1,747 @@
+/*
+ *  Copyright (c) 2024 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.avdevices.encoderdecoder.crestron.nvx;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.apache.commons.lang3.math.NumberUtils;
+import org.springframework.util.CollectionUtils;
+
+import com.avispl.symphony.api.dal.control.Controller;
+import com.avispl.symphony.api.dal.dto.control.ControllableProperty;
+import com.avispl.symphony.api.dal.dto.monitor.ExtendedStatistics;
+import com.avispl.symphony.api.dal.dto.monitor.Statistics;
+import com.avispl.symphony.api.dal.dto.monitor.aggregator.AggregatedDevice;
+import com.avispl.symphony.api.dal.monitor.Monitorable;
+import com.avispl.symphony.api.dal.monitor.aggregator.Aggregator;
+import com.avispl.symphony.dal.avdevices.encoderdecoder.crestron.nvx.common.CircuitBreaker;
+import com.avispl.symphony.dal.avdevices.encoderdecoder.crestron.nvx.common.CrestronConstant;
+import com.avispl.symphony.dal.avdevices.encoderdecoder.crestron.nvx.common.CrestronPropertyList;
+import com.avispl.symphony.dal.avdevices.encoderdecoder.crestron.nvx.common.RequestMetrics;
+import com.avispl.symphony.dal.avdevices.encoderdecoder.crestron.nvx.common.SharedHttpTransport;
+import com.avispl.symphony.dal.communicator.RestCommunicator;
+import com.avispl.symphony.dal.util.StringUtils;
+
+/**
+ * An implementation of RestCommunicator to provide communication and interaction with a fleet of Crestron NVX devices.
+ * Every device is polled and populated by its own {@link CrestronNVXCommunicator}, which keeps the per-device state
+ * (session, caches, populated groups), while all devices share one scheduler and one connection pool.
+ * Each device is reported as an aggregated device identified by its address.
+ * <p>
+ * Aggregator monitoring properties:
+ * <ul>
+ *   <li>MonitoredDevices</li>
+ *   <li>OnlineDevices</li>
+ *   <li>FailedPolls</li>
+ *   <li>OpenConnections</li>
+ *   <li>OpenCircuitBreakers</li>
+ * </ul>
+ *
+ * @author Kevin / Symphony Dev Team<br>
+ * Created on 10/18/2026
+ * @since 1.0.0
+ */
+public class CrestronNVXAggregatorCommunicator extends RestCommunicator implements Aggregator, Monitorable, Controller {
+
+	/**
+	 * ManagedDevice holds the adapter instance and the last aggregated device of one NVX device
+	 */
+	private static class ManagedDevice {
+		private final String deviceId;
+		private final CrestronNVXCommunicator communicator;
+		private volatile AggregatedDevice aggregatedDevice;
+
+		/**
+		 * Constructs a new instance of ManagedDevice.
+		 *
+		 * @param deviceId address the device is identified by
+		 * @param communicator adapter instance of the device
+		 */
+		private ManagedDevice(String deviceId, CrestronNVXCommunicator communicator) {
+			this.deviceId = deviceId;
+			this.communicator = communicator;
+		}
+	}
+
+	/**
+	 * Comma separated list of device addresses, host or host:port, imported from the user interface
+	 */
+	private String deviceAddresses;
+
+	/**
+	 * Number of threads polling the devices
+	 */
+	private int pollingThreads = CrestronConstant.DEFAULT_POLLING_THREADS;
+
+	/**
+	 * Delay in seconds between two polls of the same device
+	 */
+	private long devicePollingInterval = CrestronConstant.DEFAULT_DEVICE_POLLING_INTERVAL;
+
+	/**
+	 * Settings passed to the adapter instance of every device
+	 */
+	private String configManagement;
+	private String bulkFetch;
+	private String pollingIntervals;
+	private String displayAdapterMetrics;
+	private String asyncTransport;
+	private int rebootCoalescingWindow = CrestronConstant.DEFAULT_REBOOT_COALESCING_WINDOW;
+	private int sliderControlInterval = CrestronConstant.DEFAULT_SLIDER_CONTROL_INTERVAL;
+	private String capabilityCacheFile;
+	private String snapshotDirectory;
+	private int maxRequestsPerSecond = CrestronConstant.DEFAULT_MAX_REQUESTS_PER_SECOND;
+	private int maxInFlightRequests = CrestronConstant.DEFAULT_MAX_IN_FLIGHT_REQUESTS;
+	private int circuitBreakerThreshold = CrestronConstant.DEFAULT_CIRCUIT_BREAKER_THRESHOLD;
+	private int circuitBreakerMaxBackoff = CrestronConstant.DEFAULT_CIRCUIT_BREAKER_MAX_BACKOFF;
+	private int maxDiscoveredStreams = CrestronConstant.DEFAULT_MAX_DISCOVERED_STREAMS;
+
+	/**
+	 * Devices by device id, in the order of {@link #deviceAddresses}
+	 */
+	private final Map<String, ManagedDevice> devices = new LinkedHashMap<>();
+
+	/**
+	 * Scheduler polling all devices
+	 */
+	private ScheduledExecutorService pollingScheduler;
+
+	/**
+	 * Connection pool shared by all devices
+	 */
+	private SharedHttpTransport sharedTransport;
+
+	/**
+	 * Number of failed polls since the adapter is initialized
+	 */
+	private final AtomicLong failedPollCount = new AtomicLong();
+
+	/**
+	 * Retrieves {@link #deviceAddresses}
+	 *
+	 * @return value of {@link #deviceAddresses}
+	 */
+	public String getDeviceAddresses() {
+		return deviceAddresses;
+	}
+
+	/**
+	 * Sets {@link #deviceAddresses} value
+	 *
+	 * @param deviceAddresses comma separated list of host or host:port, the adapter host is used if empty
+	 */
+	public void setDeviceAddresses(String deviceAddresses) {
+		this.deviceAddresses = deviceAddresses;
+	}
+
+	/**
+	 * Retrieves {@link #pollingThreads}
+	 *
+	 * @return value of {@link #pollingThreads}
+	 */
+	public int getPollingThreads() {
+		return pollingThreads;
+	}
+
+	/**
+	 * Sets {@link #pollingThreads} value
+	 *
+	 * @param pollingThreads new value of {@link #pollingThreads}
+	 */
+	public void setPollingThreads(int pollingThreads) {
+		this.pollingThreads = Math.max(1, pollingThreads);
+	}
+
+	/**
+	 * Retrieves {@link #devicePollingInterval}
+	 *
+	 * @return value of {@link #devicePollingInterval}
+	 */
+	public long getDevicePollingInterval() {
+		return devicePollingInterval;
+	}
+
+	/**
+	 * Sets {@link #devicePollingInterval} value
+	 *
+	 * @param devicePollingInterval delay in seconds between two polls of the same device
+	 */
+	public void setDevicePollingInterval(long devicePollingInterval) {
+		this.devicePollingInterval = devicePollingInterval > 0 ? devicePollingInterval : CrestronConstant.DEFAULT_DEVICE_POLLING_INTERVAL;
+	}
+
+	/**
+	 * Retrieves {@link #configManagement}
+	 *
+	 * @return value of {@link #configManagement}
+	 */
+	public String getConfigManagement() {
+		return configManagement;
+	}
+
+	/**
+	 * Sets {@link #configManagement} value
+	 *
+	 * @param configManagement new value of {@link #configManagement}
+	 */
+	public void setConfigManagement(String configManagement) {
+		this.configManagement = configManagement;
+	}
+
+	/**
+	 * Retrieves {@link #bulkFetch}
+	 *
+	 * @return value of {@link #bulkFetch}
+	 */
+	public String getBulkFetch() {
+		return bulkFetch;
+	}
+
+	/**
+	 * Sets {@link #bulkFetch} value
+	 *
+	 * @param bulkFetch new value of {@link #bulkFetch}
+	 */
+	public void setBulkFetch(String bulkFetch) {
+		this.bulkFetch = bulkFetch;
+	}
+
+	/**
+	 * Retrieves {@link #pollingIntervals}
+	 *
+	 * @return value of {@link #pollingIntervals}
+	 */
+	public String getPollingIntervals() {
+		return pollingIntervals;
+	}
+
+	/**
+	 * Sets {@link #pollingIntervals} value
+	 *
+	 * @param pollingIntervals new value of {@link #pollingIntervals}
+	 */
+	public void setPollingIntervals(String pollingIntervals) {
+		this.pollingIntervals = pollingIntervals;
+	}
+
+	/**
+	 * Retrieves {@link #displayAdapterMetrics}
+	 *
+	 * @return value of {@link #displayAdapterMetrics}
+	 */
+	public String getDisplayAdapterMetrics() {
+		return displayAdapterMetrics;
+	}
+
+	/**
+	 * Sets {@link #displayAdapterMetrics} value
+	 *
+	 * @param displayAdapterMetrics new value of {@link #displayAdapterMetrics}
+	 */
+	public void setDisplayAdapterMetrics(String displayAdapterMetrics) {
+		this.displayAdapterMetrics = displayAdapterMetrics;
+	}
+
+	/**
+	 * Retrieves {@link #asyncTransport}
+	 *
+	 * @return value of {@link #asyncTransport}
+	 */
+	public String getAsyncTransport() {
+		return asyncTransport;
+	}
+
+	/**
+	 * Sets {@link #asyncTransport} value
+	 *
+	 * @param asyncTransport new value of {@link #asyncTransport}
+	 */
+	public void setAsyncTransport(String asyncTransport) {
+		this.asyncTransport = asyncTransport;
+	}
+
+	/**
+	 * Retrieves {@link #rebootCoalescingWindow}
+	 *
+	 * @return value of {@link #rebootCoalescingWindow}
+	 */
+	public int getRebootCoalescingWindow() {
+		return rebootCoalescingWindow;
+	}
+
+	/**
+	 * Sets {@link #rebootCoalescingWindow} value
+	 *
+	 * @param rebootCoalescingWindow new value of {@link #rebootCoalescingWindow}
+	 */
+	public void setRebootCoalescingWindow(int rebootCoalescingWindow) {
+		this.rebootCoalescingWindow = rebootCoalescingWindow;
+	}
+
+	/**
+	 * Retrieves {@link #sliderControlInterval}
+	 *
+	 * @return value of {@link #sliderControlInterval}
+	 */
+	public int getSliderControlInterval() {
+		return sliderControlInterval;
+	}
+
+	/**
+	 * Sets {@link #sliderControlInterval} value
+	 *
+	 * @param sliderControlInterval new value of {@link #sliderControlInterval}
+	 */
+	public void setSliderControlInterval(int sliderControlInterval) {
+		this.sliderControlInterval = sliderControlInterval;
+	}
+
+	/**
+	 * Retrieves {@link #capabilityCacheFile}
+	 *
+	 * @return value of {@link #capabilityCacheFile}
+	 */
+	public String getCapabilityCacheFile() {
+		return capabilityCacheFile;
+	}
+
+	/**
+	 * Sets {@link #capabilityCacheFile} value
+	 *
+	 * @param capabilityCacheFile new value of {@link #capabilityCacheFile}
+	 */
+	public void setCapabilityCacheFile(String capabilityCacheFile) {
+		this.capabilityCacheFile = capabilityCacheFile;
+	}
+
+	/**
+	 * Retrieves {@link #snapshotDirectory}
+	 *
+	 * @return value of {@link #snapshotDirectory}
+	 */
+	public String getSnapshotDirectory() {
+		return snapshotDirectory;
+	}
+
+	/**
+	 * Sets {@link #snapshotDirectory} value
+	 *
+	 * @param snapshotDirectory new value of {@link #snapshotDirectory}
+	 */
+	public void setSnapshotDirectory(String snapshotDirectory) {
+		this.snapshotDirectory = snapshotDirectory;
+	}
+
+	/**
+	 * Retrieves {@link #maxRequestsPerSecond}
+	 *
+	 * @return value of {@link #maxRequestsPerSecond}
+	 */
+	public int getMaxRequestsPerSecond() {
+		return maxRequestsPerSecond;
+	}
+
+	/**
+	 * Sets {@link #maxRequestsPerSecond} value
+	 *
+	 * @param maxRequestsPerSecond new value of {@link #maxRequestsPerSecond}
+	 */
+	public void setMaxRequestsPerSecond(int maxRequestsPerSecond) {
+		this.maxRequestsPerSecond = maxRequestsPerSecond;
+	}
+
+	/**
+	 * Retrieves {@link #maxInFlightRequests}
+	 *
+	 * @return value of {@link #maxInFlightRequests}
+	 */
+	public int getMaxInFlightRequests() {
+		return maxInFlightRequests;
+	}
+
+	/**
+	 * Sets {@link #maxInFlightRequests} value
+	 *
+	 * @param maxInFlightRequests new value of {@link #maxInFlightRequests}
+	 */
+	public void setMaxInFlightRequests(int maxInFlightRequests) {
+		this.maxInFlightRequests = maxInFlightRequests;
+	}
+
+	/**
+	 * Retrieves {@link #circuitBreakerThreshold}
+	 *
+	 * @return value of {@link #circuitBreakerThreshold}
+	 */
+	public int getCircuitBreakerThreshold() {
+		return circuitBreakerThreshold;
+	}
+
+	/**
+	 * Sets {@link #circuitBreakerThreshold} value
+	 *
+	 * @param circuitBreakerThreshold new value of {@link #circuitBreakerThreshold}
+	 */
+	public void setCircuitBreakerThreshold(int circuitBreakerThreshold) {
+		this.circuitBreakerThreshold = circuitBreakerThreshold;
+	}
+
+	/**
+	 * Retrieves {@link #circuitBreakerMaxBackoff}
+	 *
+	 * @return value of {@link #circuitBreakerMaxBackoff}
+	 */
+	public int getCircuitBreakerMaxBackoff() {
+		return circuitBreakerMaxBackoff;
+	}
+
+	/**
+	 * Sets {@link #circuitBreakerMaxBackoff} value
+	 *
+	 * @param circuitBreakerMaxBackoff new value of {@link #circuitBreakerMaxBackoff}
+	 */
+	public void setCircuitBreakerMaxBackoff(int circuitBreakerMaxBackoff) {
+		this.circuitBreakerMaxBackoff = circuitBreakerMaxBackoff;
+	}
+
+	/**
+	 * Retrieves {@link #maxDiscoveredStreams}
+	 *
+	 * @return value of {@link #maxDiscoveredStreams}
+	 */
+	public int getMaxDiscoveredStreams() {
+		return maxDiscoveredStreams;
+	}
+
+	/**
+	 * Sets {@link #maxDiscoveredStreams} value
+	 *
+	 * @param maxDiscoveredStreams new value of {@link #maxDiscoveredStreams}
+	 */
+	public void setMaxDiscoveredStreams(int maxDiscoveredStreams) {
+		this.maxDiscoveredStreams = maxDiscoveredStreams;
+	}
+
+	/**
+	 * Constructs a new instance of CrestronNVXAggregatorCommunicator.
+	 */
+	public CrestronNVXAggregatorCommunicator() {
+		this.setTrustAllCertificates(true);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	protected void authenticate() throws Exception {
+
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	protected void internalInit() throws Exception {
+		if (logger.isDebugEnabled()) {
+			logger.debug("Internal init is called.");
+		}
+		super.internalInit();
+
+		List<String> addresses = parseDeviceAddresses();
+		int maxConnectionsTotal = getMaxConnectionsTotal() > 0 ? getMaxConnectionsTotal() : pollingThreads * CrestronConstant.DEFAULT_MAX_CONNECTIONS_PER_DEVICE;
+		int maxConnectionsPerRoute = getMaxConnectionsPerRoute() > 0 ? getMaxConnectionsPerRoute() : CrestronConstant.DEFAULT_MAX_CONNECTIONS_PER_DEVICE;
+		int connectionsMaxIdleTime = getConnectionsMaxIdleTime() > 0 ? getConnectionsMaxIdleTime() : CrestronConstant.DEFAULT_CONNECTIONS_MAX_IDLE_TIME;
+		sharedTransport = new SharedHttpTransport(getTimeout(), maxConnectionsTotal, maxConnectionsPerRoute, connectionsMaxIdleTime);
+		pollingScheduler = new ScheduledThreadPoolExecutor(pollingThreads, createThreadFactory());
+
+		long intervalMillis = TimeUnit.SECONDS.toMillis(devicePollingInterval);
+		for (int i = 0; i < addresses.size(); i++) {
+			ManagedDevice device = new ManagedDevice(addresses.get(i), createDeviceCommunicator(addresses.get(i)));
+			devices.put(device.deviceId, device);
+			// spread the first polls over one interval so the devices are not all requested at the same time
+			pollingScheduler.scheduleWithFixedDelay(() -> pollDevice(device), intervalMillis * i / addresses.size(), intervalMillis, TimeUnit.MILLISECONDS);
+		}
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	protected void internalDestroy() {
+		if (logger.isDebugEnabled()) {
+			logger.debug("Internal destroy is called.");
+		}
+		if (pollingScheduler != null) {
+			pollingScheduler.shutdownNow();
+			pollingScheduler = null;
+		}
+		for (ManagedDevice device : devices.values()) {
+			device.communicator.destroy();
+		}
+		devices.clear();
+		if (sharedTransport != null) {
+			sharedTransport.close();
+			sharedTransport = null;
+		}
+		failedPollCount.set(0);
+		super.internalDestroy();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public List<Statistics> getMultipleStatistics() throws Exception {
+		ExtendedStatistics extendedStatistics = new ExtendedStatistics();
+		Map<String, String> stats = new HashMap<>();
+		long onlineDevices = devices.values().stream().filter(device -> device.aggregatedDevice != null && Boolean.TRUE.equals(device.aggregatedDevice.getDeviceOnline())).count();
+		stats.put(CrestronConstant.MONITORED_DEVICES, String.valueOf(devices.size()));
+		stats.put(CrestronConstant.ONLINE_DEVICES, String.valueOf(onlineDevices));
+		stats.put(CrestronConstant.FAILED_POLLS, String.valueOf(failedPollCount.get()));
+		stats.put(CrestronConstant.OPEN_CONNECTIONS, sharedTransport == null ? CrestronConstant.NONE : String.valueOf(sharedTransport.getConnectionCount()));
+		long openCircuitBreakers = devices.values().stream().map(device -> device.communicator.getCircuitBreaker())
+				.filter(breaker -> breaker != null && breaker.getState() != CircuitBreaker.State.CLOSED).count();
+		stats.put(CrestronConstant.OPEN_CIRCUIT_BREAKERS, String.valueOf(openCircuitBreakers));
+		if (CrestronConstant.TRUE.equalsIgnoreCase(displayAdapterMetrics)) {
+			// requests of all devices, to compare endpoints across the fleet
+			RequestMetrics fleetMetrics = new RequestMetrics();
+			devices.values().forEach(device -> fleetMetrics.merge(device.communicator.getRequestMetrics()));
+			fleetMetrics.populate(stats);
+		}
+		extendedStatistics.setStatistics(stats);
+		return Collections.singletonList(extendedStatistics);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public List<AggregatedDevice> retrieveMultipleStatistics() throws Exception {
+		List<AggregatedDevice> aggregatedDevices = new ArrayList<>(devices.size());
+		for (ManagedDevice device : devices.values()) {
+			if (device.aggregatedDevice != null) {
+				aggregatedDevices.add(device.aggregatedDevice);
+			}
+		}
+		return aggregatedDevices;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public List<AggregatedDevice> retrieveMultipleStatistics(List<String> deviceIds) throws Exception {
+		List<AggregatedDevice> aggregatedDevices = new ArrayList<>();
+		for (String deviceId : deviceIds) {
+			ManagedDevice device = devices.get(deviceId);
+			if (device != null && device.aggregatedDevice != null) {
+				aggregatedDevices.add(device.aggregatedDevice);
+			}
+		}
+		return aggregatedDevices;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void controlProperty(ControllableProperty controllableProperty) throws Exception {
+		ManagedDevice device = devices.get(controllableProperty.getDeviceId());
+		if (device == null) {
+			throw new IllegalArgumentException(String.format("Unable to control property %s, device %s is not monitored", controllableProperty.getProperty(), controllableProperty.getDeviceId()));
+		}
+		device.communicator.controlProperty(controllableProperty);
+		// the device adapter updates its local properties after a control, deliver them without waiting for the next poll
+		ExtendedStatistics localStatistics = device.communicator.getLocalExtendedStatistics();
+		if (localStatistics != null) {
+			// the control does not tell whether the device answers polls, the online state of the last poll is kept
+			AggregatedDevice previous = device.aggregatedDevice;
+			device.aggregatedDevice = buildAggregatedDevice(device.deviceId, localStatistics, previous != null && Boolean.TRUE.equals(previous.getDeviceOnline()));
+		}
+		// the groups changed by the control are refreshed on a polling thread, the control does not wait behind a poll
+		ScheduledExecutorService scheduler = pollingScheduler;
+		if (scheduler != null) {
+			scheduler.execute(() -> pollDevice(device));
+		}
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void controlProperties(List<ControllableProperty> controllableProperties) throws Exception {
+		if (CollectionUtils.isEmpty(controllableProperties)) {
+			throw new IllegalArgumentException("ControllableProperties can not be null or empty");
+		}
+		for (ControllableProperty p : controllableProperties) {
+			try {
+				controlProperty(p);
+			} catch (Exception e) {
+				logger.error(String.format("Error when control property %s of device %s", p.getProperty(), p.getDeviceId()), e);
+			}
+		}
+	}
+
+	/**
+	 * Poll one device and replace its aggregated device, a failed poll keeps the last properties and marks the device offline
+	 *
+	 * @param device device to poll
+	 */
+	private void pollDevice(ManagedDevice device) {
+		try {
+			List<Statistics> statistics = device.communicator.getMultipleStatistics();
+			device.aggregatedDevice = buildAggregatedDevice(device.deviceId, (ExtendedStatistics) statistics.get(0), true);
+		} catch (Exception e) {
+			failedPollCount.incrementAndGet();
+			if (logger.isWarnEnabled()) {
+				logger.warn(String.format("Failed to poll device %s: %s", device.deviceId, e.getMessage()));
+			}
+			AggregatedDevice previous = device.aggregatedDevice;
+			device.aggregatedDevice = previous == null ? buildOfflineDevice(device.deviceId) : copyAsOffline(previous);
+		}
+	}
+
+	/**
+	 * Build aggregated device from the properties populated by the device adapter
+	 *
+	 * @param deviceId address the device is identified by
+	 * @param extendedStatistics properties populated by the device adapter
+	 * @param isOnline true if the last poll of the device succeeded
+	 * @return aggregated device
+	 */
+	private AggregatedDevice buildAggregatedDevice(String deviceId, ExtendedStatistics extendedStatistics, boolean isOnline) {
+		Map<String, String> stats = extendedStatistics.getStatistics() == null ? Collections.emptyMap() : extendedStatistics.getStatistics();
+		AggregatedDevice aggregatedDevice = new AggregatedDevice();
+		aggregatedDevice.setDeviceId(deviceId);
+		aggregatedDevice.setDeviceName(getStatisticValue(stats, CrestronPropertyList.DEVICE_NAME.getPropertyKey(), deviceId));
+		aggregatedDevice.setDeviceModel(getStatisticValue(stats, CrestronPropertyList.MODEL.getPropertyKey(), CrestronConstant.NONE));
+		aggregatedDevice.setDeviceMake(getStatisticValue(stats, CrestronPropertyList.DEVICE_MANUFACTURER.getPropertyKey(), CrestronConstant.CRESTRON));
+		aggregatedDevice.setSerialNumber(getStatisticValue(stats, CrestronPropertyList.SERIAL_NUMBER.getPropertyKey(), CrestronConstant.NONE));
+		String macAddress = stats.get(CrestronPropertyList.MAC_ADDRESS.getPropertyKey());
+		if (StringUtils.isNotNullOrEmpty(macAddress) && !CrestronConstant.NONE.equals(macAddress)) {
+			aggregatedDevice.setMacAddresses(Collections.singletonList(macAddress));
+		}
+		aggregatedDevice.setDeviceOnline(isOnline);
+		aggregatedDevice.setProperties(stats);
+		aggregatedDevice.setControllableProperties(extendedStatistics.getControllableProperties() == null ? new ArrayList<>() : extendedStatistics.getControllableProperties());
+		aggregatedDevice.setTimestamp(System.currentTimeMillis());
+		return aggregatedDevice;
+	}
+
+	/**
+	 * Build aggregated device of a device that has never answered
+	 */
+	private AggregatedDevice buildOfflineDevice(String deviceId) {
+		AggregatedDevice aggregatedDevice = buildAggregatedDevice(deviceId, new ExtendedStatistics(), false);
+		aggregatedDevice.setProperties(new HashMap<>());
+		return aggregatedDevice;
+	}
+
+	/**
+	 * Copy the last aggregated device of a device that stopped answering, marked offline
+	 */
+	private AggregatedDevice copyAsOffline(AggregatedDevice previous) {
+		ExtendedStatistics extendedStatistics = new ExtendedStatistics();
+		extendedStatistics.setStatistics(previous.getProperties());
+		extendedStatistics.setControllableProperties(previous.getControllableProperties());
+		return buildAggregatedDevice(previous.getDeviceId(), extendedStatistics, false);
+	}
+
+	/**
+	 * Retrieves value of a monitoring property or the default value if the property is missing
+	 */
+	private String getStatisticValue(Map<String, String> stats, String propertyKey, String defaultValue) {
+		String value = stats.get(propertyKey);
+		return StringUtils.isNullOrEmpty(value) || CrestronConstant.NONE.equals(value) ? defaultValue : value;
+	}
+
+	/**
+	 * Create the adapter instance of one device, sharing the credentials, protocol and connection pool of the aggregator
+	 *
+	 * @param deviceId host or host:port of the device
+	 * @return initialized adapter instance
+	 */
+	private CrestronNVXCommunicator createDeviceCommunicator(String deviceId) throws Exception {
+		String[] hostAndPort = deviceId.split(CrestronConstant.COLON);
+		CrestronNVXCommunicator communicator = new CrestronNVXCommunicator();
+		communicator.setHost(hostAndPort[0]);
+		communicator.setPort(hostAndPort.length > 1 ? Integer.parseInt(hostAndPort[1]) : getPort());
+		communicator.setProtocol(getProtocol());
+		communicator.setLogin(getLogin());
+		communicator.setPassword(getPassword());
+		communicator.setTimeout(getTimeout());
+		communicator.setConfigManagement(configManagement);
+		communicator.setBulkFetch(bulkFetch);
+		communicator.setPollingIntervals(pollingIntervals);
+		communicator.setDisplayAdapterMetrics(displayAdapterMetrics);
+		communicator.setAsyncTransport(asyncTransport);
+		communicator.setRebootCoalescingWindow(rebootCoalescingWindow);
+		communicator.setSliderControlInterval(sliderControlInterval);
+		if (capabilityCacheFile != null) {
+			communicator.setCapabilityCacheFile(capabilityCacheFile);
+		}
+		if (snapshotDirectory != null) {
+			communicator.setSnapshotDirectory(snapshotDirectory);
+		}
+		communicator.setMaxRequestsPerSecond(maxRequestsPerSecond);
+		communicator.setMaxInFlightRequests(maxInFlightRequests);
+		communicator.setCircuitBreakerThreshold(circuitBreakerThreshold);
+		communicator.setCircuitBreakerMaxBackoff(circuitBreakerMaxBackoff);
+		communicator.setMaxDiscoveredStreams(maxDiscoveredStreams);
+		communicator.setSharedTransport(sharedTransport);
+		communicator.init();
+		return communicator;
+	}
+
+	/**
+	 * Parse {@link #deviceAddresses}, invalid and duplicate entries are skipped
+	 *
+	 * @return device ids in configured order
+	 */
+	private List<String> parseDeviceAddresses() {
+		List<String> addresses = new ArrayList<>();
+		String configuredAddresses = StringUtils.isNullOrEmpty(deviceAddresses) ? getHost() : deviceAddresses;
+		if (StringUtils.isNullOrEmpty(configuredAddresses)) {
+			return addresses;
+		}
+		for (String item : configuredAddresses.split(CrestronConstant.COMMA)) {
+			String address = item.trim();
+			String[] hostAndPort = address.split(CrestronConstant.COLON);
+			if (address.isEmpty() || hostAndPort.length > 2 || (hostAndPort.length == 2 && !NumberUtils.isDigits(hostAndPort[1]))) {
+				if (logger.isWarnEnabled()) {
+					logger.warn(String.format("Invalid device address %s, expected format is host or host:port", item));
+				}
+				continue;
+			}
+			if (!addresses.contains(address)) {
+				addresses.add(address);
+			}
+		}
+		return addresses;
+	}
+
+	/**
+	 * Create daemon threads named after the aggregator so they are recognizable in thread dumps
+	 */
+	private ThreadFactory createThreadFactory() {
+		AtomicInteger threadCount = new AtomicInteger();
+		return runnable -> {
+			Thread thread = new Thread(runnable, String.format("crestron-nvx-poller-%s-%s", getHost(), threadCount.incrementAndGet()));
+			thread.setDaemon(true);
+			return thread;
+		};
+	}
+}
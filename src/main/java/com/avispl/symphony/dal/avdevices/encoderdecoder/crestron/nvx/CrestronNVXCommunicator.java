@@ -12,9 +12,12 @@ import static com.avispl.symphony.dal.avdevices.encoderdecoder.crestron.nvx.comm
 
 import java.io.IOException;
 import java.net.ConnectException;
+import java.net.InetSocketAddress;
 import java.net.Socket;
-import java.net.SocketTimeoutException;
 import java.net.UnknownHostException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Paths;
+import java.time.Instant;
 import java.time.LocalDateTime;
 import java.time.OffsetDateTime;
 import java.time.ZoneOffset;
@@ -23,28 +26,55 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.Date;
+import java.util.EnumMap;
+import java.util.EnumSet;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.concurrent.locks.ReentrantLock;
+import java.util.regex.Pattern;
 import java.util.stream.IntStream;
 
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
 import org.springframework.util.CollectionUtils;
+import org.springframework.web.client.RestTemplate;
 
-import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
 import com.fasterxml.jackson.databind.node.NullNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
 import javax.security.auth.login.FailedLoginException;
 import org.apache.commons.lang3.math.NumberUtils;
 import org.apache.http.Header;
 import org.apache.http.HttpResponse;
 import org.apache.http.client.HttpClient;
+import org.apache.http.client.config.RequestConfig;
+import org.apache.http.client.methods.HttpGet;
 import org.apache.http.client.methods.HttpPost;
 import org.apache.http.entity.StringEntity;
 import org.apache.http.util.EntityUtils;
@@ -62,17 +92,32 @@ import com.avispl.symphony.api.dal.dto.monitor.Statistics;
 import com.avispl.symphony.api.dal.error.CommandFailureException;
 import com.avispl.symphony.api.dal.error.ResourceNotReachableException;
 import com.avispl.symphony.api.dal.monitor.Monitorable;
+import com.avispl.symphony.dal.avdevices.encoderdecoder.crestron.nvx.common.AsyncHttpTransport;
 import com.avispl.symphony.dal.avdevices.encoderdecoder.crestron.nvx.common.AudioMode;
 import com.avispl.symphony.dal.avdevices.encoderdecoder.crestron.nvx.common.AudioSource;
+import com.avispl.symphony.dal.avdevices.encoderdecoder.crestron.nvx.common.CapabilityRegistry;
+import com.avispl.symphony.dal.avdevices.encoderdecoder.crestron.nvx.common.CircuitBreaker;
 import com.avispl.symphony.dal.avdevices.encoderdecoder.crestron.nvx.common.CrestronCommand;
 import com.avispl.symphony.dal.avdevices.encoderdecoder.crestron.nvx.common.CrestronConstant;
 import com.avispl.symphony.dal.avdevices.encoderdecoder.crestron.nvx.common.CrestronControlCommand;
 import com.avispl.symphony.dal.avdevices.encoderdecoder.crestron.nvx.common.CrestronPropertyList;
+import com.avispl.symphony.dal.avdevices.encoderdecoder.crestron.nvx.common.CrestronSession;
 import com.avispl.symphony.dal.avdevices.encoderdecoder.crestron.nvx.common.CrestronUri;
 import com.avispl.symphony.dal.avdevices.encoderdecoder.crestron.nvx.common.DeviceModel;
+import com.avispl.symphony.dal.avdevices.encoderdecoder.crestron.nvx.common.ExtractionPlan;
+import com.avispl.symphony.dal.avdevices.encoderdecoder.crestron.nvx.common.HttpResult;
+import com.avispl.symphony.dal.avdevices.encoderdecoder.crestron.nvx.common.NioHttpTransport;
 import com.avispl.symphony.dal.avdevices.encoderdecoder.crestron.nvx.common.PingMode;
+import com.avispl.symphony.dal.avdevices.encoderdecoder.crestron.nvx.common.PingResult;
+import com.avispl.symphony.dal.avdevices.encoderdecoder.crestron.nvx.common.PopulatedGroup;
+import com.avispl.symphony.dal.avdevices.encoderdecoder.crestron.nvx.common.PreparedControl;
+import com.avispl.symphony.dal.avdevices.encoderdecoder.crestron.nvx.common.RequestGovernor;
+import com.avispl.symphony.dal.avdevices.encoderdecoder.crestron.nvx.common.RequestMetrics;
+import com.avispl.symphony.dal.avdevices.encoderdecoder.crestron.nvx.common.SharedHttpTransport;
+import com.avispl.symphony.dal.avdevices.encoderdecoder.crestron.nvx.common.SnapshotStore;
+import com.avispl.symphony.dal.avdevices.encoderdecoder.crestron.nvx.common.StreamIndex;
+import com.avispl.symphony.dal.avdevices.encoderdecoder.crestron.nvx.common.TcpPing;
 import com.avispl.symphony.dal.avdevices.encoderdecoder.crestron.nvx.common.TimeZone;
-import com.avispl.symphony.dal.avdevices.encoderdecoder.crestron.nvx.dto.Streams;
 import com.avispl.symphony.dal.communicator.RestCommunicator;
 import com.avispl.symphony.dal.util.StringUtils;
 
@@ -238,6 +283,51 @@ import com.avispl.symphony.dal.util.StringUtils;
  */
 public class CrestronNVXCommunicator extends RestCommunicator implements Monitorable, Controller {
 
+	/**
+	 * Secure, Path and HttpOnly attributes of a Set-Cookie header
+	 */
+	private static final Pattern COOKIE_ATTRIBUTES_PATTERN = Pattern.compile(";\\s*(?:Secure|Path=[^;]*|HttpOnly)");
+
+	/**
+	 * Properties of each group in display order
+	 */
+	private static final Map<String, List<CrestronPropertyList>> PROPERTIES_BY_GROUP = new LinkedHashMap<>();
+
+	/**
+	 * Options of the time zone dropdown
+	 */
+	private static final String[] TIME_ZONE_NAMES = Arrays.stream(TimeZone.values()).map(TimeZone::getName).toArray(String[]::new);
+
+	/**
+	 * Options of the analog audio mode dropdown
+	 */
+	private static final String[] AUDIO_MODE_VALUES = Arrays.stream(AudioMode.values()).map(AudioMode::getValue).toArray(String[]::new);
+
+	/**
+	 * Options of the device mode dropdown
+	 */
+	private static final String[] DEVICE_MODES = { CrestronConstant.TRANSMITTER, CrestronConstant.RECEIVER };
+
+	/**
+	 * Options of the IGMP support dropdown
+	 */
+	private static final String[] IGMP_VERSIONS = { "v2", "v3" };
+
+	/**
+	 * Api groups each group is populated from, device information first since the model changes some properties
+	 */
+	private static final Map<String, List<String>> API_GROUPS_BY_GROUP = new HashMap<>();
+
+	static {
+		for (CrestronPropertyList property : CrestronPropertyList.values()) {
+			PROPERTIES_BY_GROUP.computeIfAbsent(property.getGroup(), group -> new ArrayList<>()).add(property);
+			List<String> apiGroups = API_GROUPS_BY_GROUP.computeIfAbsent(property.getGroup(), group -> new ArrayList<>(Collections.singletonList(CrestronConstant.DEVICE_INFO_API_GROUP)));
+			if (!apiGroups.contains(property.getApiGroupName())) {
+				apiGroups.add(property.getApiGroupName());
+			}
+		}
+	}
+
 	/**
 	 * A mapper for reading and writing JSON using Jackson library.
 	 * ObjectMapper provides functionality for converting between Java objects and JSON.
@@ -246,29 +336,287 @@ public class CrestronNVXCommunicator extends RestCommunicator implements Monitor
 	private final ObjectMapper objectMapper = new ObjectMapper();
 
 	/**
-	 * cache to store key and value
+	 * cache to store key and value, written by the poller and read by filter controls
 	 */
-	private final Map<String, JsonNode> cacheKeyAndValue = new HashMap<>();
+	private final Map<String, JsonNode> cacheKeyAndValue = Collections.synchronizedMap(new HashMap<>());
 
 	/**
 	 * cache to store filter value
 	 */
-	private final Map<String, String> cacheFilterValue = new HashMap<>();
+	private final Map<String, String> cacheFilterValue = new ConcurrentHashMap<>();
+
+	/**
+	 * Maximum number of endpoint groups requested at the same time during one poll cycle, 1 means sequential requests
+	 */
+	private int fetchConcurrency = CrestronConstant.DEFAULT_FETCH_CONCURRENCY;
+
+	/**
+	 * Maximum time in milliseconds to wait for a single endpoint group when fetching concurrently
+	 */
+	private int groupFetchTimeout = CrestronConstant.DEFAULT_GROUP_FETCH_TIMEOUT;
+
+	/**
+	 * Executor used to send endpoint group requests concurrently
+	 */
+	private ExecutorService fetchExecutorService;
+
+	/**
+	 * Time in milliseconds reboot-requiring controls are collected before a single reboot is sent, 0 reboots right after each control
+	 */
+	private int rebootCoalescingWindow = CrestronConstant.DEFAULT_REBOOT_COALESCING_WINDOW;
+
+	/**
+	 * Minimum time in milliseconds between two writes of the same slider, 0 sends every slider value right away
+	 */
+	private int sliderControlInterval = CrestronConstant.DEFAULT_SLIDER_CONTROL_INTERVAL;
+
+	/**
+	 * File persisting REST API capabilities per model and firmware version, shared by adapters of the same firmware
+	 */
+	private String capabilityCacheFile = Paths.get(System.getProperty("java.io.tmpdir"), CrestronConstant.CAPABILITY_CACHE_FILE_NAME).toString();
+
+	/**
+	 * Directory of the snapshots delivered after a restart until a poll succeeds, empty to disable
+	 */
+	private String snapshotDirectory = Paths.get(System.getProperty("java.io.tmpdir"), CrestronConstant.SNAPSHOT_DIRECTORY_NAME).toString();
+
+	/**
+	 * Capabilities registry of {@link #capabilityCacheFile}, shared with the adapter instances using the same file
+	 */
+	private CapabilityRegistry capabilityRegistry = CapabilityRegistry.getInstance();
+
+	/**
+	 * Snapshot file of the device, null if disabled
+	 */
+	private SnapshotStore snapshotStore;
+
+	/**
+	 * Snapshot of the last successful cycle waiting to be written
+	 */
+	private final AtomicReference<ObjectNode> pendingSnapshot = new AtomicReference<>();
+
+	/**
+	 * Group responses of the last snapshot handed to the writer, an unchanged snapshot is not written again
+	 */
+	private Map<String, JsonNode> savedSnapshotGroups = Collections.emptyMap();
+
+	/**
+	 * Filter values of the last snapshot handed to the writer
+	 */
+	private Map<String, String> savedSnapshotFilters = Collections.emptyMap();
+
+	/**
+	 * Device mode of the last snapshot handed to the writer
+	 */
+	private String savedSnapshotDeviceMode;
+
+	/**
+	 * Statistics loaded from the snapshot of a previous run are delivered while no poll has succeeded yet
+	 */
+	private volatile boolean isWarmStartDelivery;
+
+	/**
+	 * Latest value of each slider waiting to be sent, older values are dropped
+	 */
+	private final Map<String, PreparedControl> pendingSliderControls = new ConcurrentHashMap<>();
+
+	/**
+	 * Time in milliseconds of the last write of each slider
+	 */
+	private final Map<String, Long> sliderWriteTimestamps = new HashMap<>();
+
+	/**
+	 * Sliders with a write scheduled
+	 */
+	private final Set<String> scheduledSliders = new HashSet<>();
+
+	/**
+	 * Scheduler sending deferred slider values and the deferred reboot, created on first use
+	 */
+	private ScheduledExecutorService controlScheduler;
+
+	/**
+	 * Deferred reboot, rescheduled by every reboot-requiring control within {@link #rebootCoalescingWindow}
+	 */
+	private ScheduledFuture<?> pendingReboot;
+
+	/**
+	 * A reboot-requiring control succeeded and its reboot is not sent yet
+	 */
+	private volatile boolean isRebootPending;
+
+	/**
+	 * Lock guarding {@link #controlScheduler}, the scheduled slider writes and the deferred reboot
+	 */
+	private final ReentrantLock deferredControlLock = new ReentrantLock();
+
+	/**
+	 * Refresh interval overrides imported from the user interface, e.g. "Device/DeviceInfo:600,Device/Ethernet:120"
+	 */
+	private String pollingIntervals;
+
+	/**
+	 * Refresh interval in seconds of each group, overriding {@link CrestronCommand#getPollingInterval()}
+	 */
+	private final Map<CrestronCommand, Long> pollingIntervalOverrides = new EnumMap<>(CrestronCommand.class);
+
+	/**
+	 * Time in milliseconds when each group was last retrieved successfully
+	 */
+	private final Map<CrestronCommand, Long> groupRefreshTimestamps = new EnumMap<>(CrestronCommand.class);
+
+	/**
+	 * Groups changed by a control, requested again in the next cycle regardless of their polling interval
+	 */
+	private final Set<CrestronCommand> changedGroups = ConcurrentHashMap.newKeySet();
+
+	/**
+	 * Request the whole Device object in one GET and split it by group
+	 */
+	private boolean isBulkFetch;
+
+	/**
+	 * Whole Device object retrieved in the current cycle, null if bulk fetch is not used or rejected
+	 */
+	private JsonNode bulkResponse;
+
+	/**
+	 * Result of the bulk fetch probe of the current cycle, recorded once firmware version is known
+	 */
+	private Boolean bulkFetchProbeResult;
+
+	/**
+	 * Whole Device object from the last bulk request, reused while its payload is unchanged
+	 */
+	private JsonNode lastBulkResponse;
+
+	/**
+	 * Fingerprint of the raw payload of {@link #lastBulkResponse}
+	 */
+	private long lastBulkFingerprint;
+
+	/**
+	 * Fingerprint (length and hash) of the last raw payload of each api group, an unchanged payload keeps its cached tree without parsing
+	 */
+	private final Map<String, Long> payloadFingerprints = new HashMap<>();
+
+	/**
+	 * Properties populated for each group, reused while the group's cached responses are unchanged
+	 */
+	private final Map<String, PopulatedGroup> populatedGroups = new HashMap<>();
+
+	/**
+	 * Display adapter metrics in monitoring properties
+	 */
+	private boolean isDisplayAdapterMetrics;
+
+	/**
+	 * Number of payloads received and number of them unchanged since the previous request
+	 */
+	private long receivedPayloadCount;
+	private long unchangedPayloadCount;
 
 	/**
-	 * Keep track number of requests send to device
+	 * Number of groups populated and number of them reused from the previous cycle
 	 */
-	private int countMonitoringAndControllingCommand = 0;
+	private long populatedGroupCount;
+	private long reusedGroupCount;
 
 	/**
-	 * store authentication information
+	 * Number of control writes skipped because the requested value equals the device value
 	 */
-	private String authenticationCookie = CrestronConstant.EMPTY;
+	private final AtomicLong skippedControlCount = new AtomicLong();
+
+	/**
+	 * Latency, response size and errors of each endpoint, login time and cycle time
+	 */
+	private final RequestMetrics requestMetrics = new RequestMetrics();
+
+	/**
+	 * Requests per second sent to the device, 0 for no limit
+	 */
+	private int maxRequestsPerSecond = CrestronConstant.DEFAULT_MAX_REQUESTS_PER_SECOND;
+
+	/**
+	 * Requests in flight to the device at the same time, 0 for no limit
+	 */
+	private int maxInFlightRequests = CrestronConstant.DEFAULT_MAX_IN_FLIGHT_REQUESTS;
+
+	/**
+	 * Streams of Device/DiscoveredStreams retained and displayed in the unique id dropdown, the selected one is retained in addition, 0 for no limit
+	 */
+	private int maxDiscoveredStreams = CrestronConstant.DEFAULT_MAX_DISCOVERED_STREAMS;
+
+	/**
+	 * Index of the streams discovered by the receiver, only the detail of the selected stream is kept
+	 */
+	private final StreamIndex discoveredStreams = new StreamIndex();
+
+	/**
+	 * Governor of the requests sent to the device, null if no limit is configured
+	 */
+	private volatile RequestGovernor requestGovernor;
+
+	/**
+	 * Result of the last TCP or HTTP ping
+	 */
+	private volatile PingResult lastPingResult;
+
+	/**
+	 * Consecutive failed cycles after which the device is only probed, 0 to always poll it
+	 */
+	private int circuitBreakerThreshold = CrestronConstant.DEFAULT_CIRCUIT_BREAKER_THRESHOLD;
+
+	/**
+	 * Maximum delay in milliseconds between two probes of an unreachable device
+	 */
+	private int circuitBreakerMaxBackoff = CrestronConstant.DEFAULT_CIRCUIT_BREAKER_MAX_BACKOFF;
+
+	/**
+	 * Circuit breaker of the device, null if disabled
+	 */
+	private volatile CircuitBreaker circuitBreaker;
+
+	/**
+	 * Connection pool shared with the other devices of an aggregator, null if the adapter owns its HTTP client
+	 */
+	private SharedHttpTransport sharedTransport;
+
+	/**
+	 * Send device requests through the non-blocking transport instead of the blocking rest template
+	 */
+	private boolean isAsyncTransport;
+
+	/**
+	 * Non-blocking transport shared by all adapters of the process, null if {@link #isAsyncTransport} is disabled
+	 */
+	private AsyncHttpTransport httpTransport;
+
+	/**
+	 * Sends the requests queued by {@link #requestGovernor} once their slot is granted, the thread is started on first use.
+	 * The slot is granted on the timer or I/O thread shared by all devices, which must not resolve the device host.
+	 */
+	private ExecutorService requestDispatcher;
+
+	/**
+	 * store authentication information, reused between poll cycles until the device rejects it
+	 */
+	private final CrestronSession session = new CrestronSession();
+
+	/**
+	 * Login in progress after the device rejected the session, joined by the requests rejected meanwhile. Guarded by {@link #session}
+	 */
+	private CompletableFuture<Boolean> sessionRenewal;
+
+	/**
+	 * Reason of the last failed login
+	 */
+	private String loginFailureReason = CrestronConstant.EMPTY;
 
 	/**
 	 * store current device mode (Receiver/Transmitter)
 	 */
-	private String deviceMode = CrestronConstant.NONE;
+	private volatile String deviceMode = CrestronConstant.NONE;
 
 	/**
 	 * configManagement imported from the user interface
@@ -281,19 +629,35 @@ public class CrestronNVXCommunicator extends RestCommunicator implements Monitor
 	private boolean isConfigManagement;
 
 	/**
-	 * ReentrantLock to prevent telnet session is closed when adapter is retrieving statistics from the device.
+	 * Lock held for a whole poll cycle, including login and requests, so only one cycle runs at a time
+	 */
+	private final ReentrantLock pollLock = new ReentrantLock();
+
+	/**
+	 * Short lock held while local properties are populated and a new snapshot is published, never held during network I/O
+	 */
+	private final ReentrantLock controlLock = new ReentrantLock();
+
+	/**
+	 * Snapshot of the last completed poll or control, replaced as a whole and never modified once published
+	 */
+	private volatile ExtendedStatistics localExtendedStatistics;
+
+	/**
+	 * Number of snapshots published by controls that changed the device, a poll started before such a control does not overwrite its snapshot
 	 */
-	private final ReentrantLock reentrantLock = new ReentrantLock();
+	private volatile long controlGeneration;
 
 	/**
-	 * Store previous/current ExtendedStatistics
+	 * Property values confirmed by the device, taken from the last published poll snapshot and never from a control or a warm start.
+	 * A control removes the values it changes until the next poll confirms them, the map is replaced as a whole and never modified once published.
 	 */
-	private ExtendedStatistics localExtendedStatistics;
+	private volatile Map<String, String> confirmedValues = Collections.emptyMap();
 
 	/**
 	 * isEmergencyDelivery to check if control flow is trigger
 	 */
-	private boolean isEmergencyDelivery;
+	private volatile boolean isEmergencyDelivery;
 
 	/**
 	 * ping mode
@@ -310,6 +674,11 @@ public class CrestronNVXCommunicator extends RestCommunicator implements Monitor
 	 */
 	private JsonNode currentControlSystem;
 
+	/**
+	 * Timestamp of the controllable properties populated in the current cycle
+	 */
+	private volatile Date populateTimestamp = new Date();
+
 	/**
 	 * Date format
 	 */
@@ -326,322 +695,1725 @@ public class CrestronNVXCommunicator extends RestCommunicator implements Monitor
 	private final DateTimeFormatter datetimeFormat = DateTimeFormatter.ofPattern("MM/dd/yyyy HH:mm");
 
 	/**
-	 * Retrieves {@link #pingMode}
+	 * Retrieves {@link #pingMode}
+	 *
+	 * @return value of {@link #pingMode}
+	 */
+	public String getPingMode() {
+		return pingMode.name();
+	}
+
+	/**
+	 * Sets {@link #pingMode} value
+	 *
+	 * @param pingMode new value of {@link #pingMode}
+	 */
+	public void setPingMode(String pingMode) {
+		this.pingMode = PingMode.ofString(pingMode);
+	}
+
+	/**
+	 * Retrieves {@code {@link #configManagement}}
+	 *
+	 * @return value of {@link #configManagement}
+	 */
+	public String getConfigManagement() {
+		return configManagement;
+	}
+
+	/**
+	 * Sets {@code configManagement}
+	 *
+	 * @param configManagement the {@code java.lang.String} field
+	 */
+	public void setConfigManagement(String configManagement) {
+		this.configManagement = configManagement;
+	}
+
+	/**
+	 * Retrieves {@link #fetchConcurrency}
+	 *
+	 * @return value of {@link #fetchConcurrency}
+	 */
+	public int getFetchConcurrency() {
+		return fetchConcurrency;
+	}
+
+	/**
+	 * Sets {@link #fetchConcurrency} value
+	 *
+	 * @param fetchConcurrency new value of {@link #fetchConcurrency}
+	 */
+	public void setFetchConcurrency(int fetchConcurrency) {
+		this.fetchConcurrency = Math.max(1, fetchConcurrency);
+	}
+
+	/**
+	 * Retrieves {@link #groupFetchTimeout}
+	 *
+	 * @return value of {@link #groupFetchTimeout}
+	 */
+	public int getGroupFetchTimeout() {
+		return groupFetchTimeout;
+	}
+
+	/**
+	 * Sets {@link #groupFetchTimeout} value
+	 *
+	 * @param groupFetchTimeout new value of {@link #groupFetchTimeout}
+	 */
+	public void setGroupFetchTimeout(int groupFetchTimeout) {
+		this.groupFetchTimeout = groupFetchTimeout > 0 ? groupFetchTimeout : CrestronConstant.DEFAULT_GROUP_FETCH_TIMEOUT;
+	}
+
+	/**
+	 * Retrieves {@link #rebootCoalescingWindow}
+	 *
+	 * @return value of {@link #rebootCoalescingWindow}
+	 */
+	public int getRebootCoalescingWindow() {
+		return rebootCoalescingWindow;
+	}
+
+	/**
+	 * Sets {@link #rebootCoalescingWindow} value
+	 *
+	 * @param rebootCoalescingWindow new value of {@link #rebootCoalescingWindow}
+	 */
+	public void setRebootCoalescingWindow(int rebootCoalescingWindow) {
+		this.rebootCoalescingWindow = Math.max(0, rebootCoalescingWindow);
+	}
+
+	/**
+	 * Retrieves {@link #sliderControlInterval}
+	 *
+	 * @return value of {@link #sliderControlInterval}
+	 */
+	public int getSliderControlInterval() {
+		return sliderControlInterval;
+	}
+
+	/**
+	 * Sets {@link #sliderControlInterval} value
+	 *
+	 * @param sliderControlInterval new value of {@link #sliderControlInterval}
+	 */
+	public void setSliderControlInterval(int sliderControlInterval) {
+		this.sliderControlInterval = Math.max(0, sliderControlInterval);
+	}
+
+	/**
+	 * Retrieves {@link #capabilityCacheFile}
+	 *
+	 * @return value of {@link #capabilityCacheFile}
+	 */
+	public String getCapabilityCacheFile() {
+		return capabilityCacheFile;
+	}
+
+	/**
+	 * Sets {@link #capabilityCacheFile} value
+	 *
+	 * @param capabilityCacheFile new value of {@link #capabilityCacheFile}
+	 */
+	public void setCapabilityCacheFile(String capabilityCacheFile) {
+		this.capabilityCacheFile = capabilityCacheFile;
+	}
+
+	/**
+	 * Retrieves {@link #snapshotDirectory}
+	 *
+	 * @return value of {@link #snapshotDirectory}
+	 */
+	public String getSnapshotDirectory() {
+		return snapshotDirectory;
+	}
+
+	/**
+	 * Sets {@link #snapshotDirectory} value
+	 *
+	 * @param snapshotDirectory new value of {@link #snapshotDirectory}
+	 */
+	public void setSnapshotDirectory(String snapshotDirectory) {
+		this.snapshotDirectory = snapshotDirectory;
+	}
+
+	/**
+	 * Retrieves {@link #maxRequestsPerSecond}
+	 *
+	 * @return value of {@link #maxRequestsPerSecond}
+	 */
+	public int getMaxRequestsPerSecond() {
+		return maxRequestsPerSecond;
+	}
+
+	/**
+	 * Sets {@link #maxRequestsPerSecond} value
+	 *
+	 * @param maxRequestsPerSecond new value of {@link #maxRequestsPerSecond}
+	 */
+	public void setMaxRequestsPerSecond(int maxRequestsPerSecond) {
+		this.maxRequestsPerSecond = Math.max(0, maxRequestsPerSecond);
+	}
+
+	/**
+	 * Retrieves {@link #maxInFlightRequests}
+	 *
+	 * @return value of {@link #maxInFlightRequests}
+	 */
+	public int getMaxInFlightRequests() {
+		return maxInFlightRequests;
+	}
+
+	/**
+	 * Sets {@link #maxInFlightRequests} value
+	 *
+	 * @param maxInFlightRequests new value of {@link #maxInFlightRequests}
+	 */
+	public void setMaxInFlightRequests(int maxInFlightRequests) {
+		this.maxInFlightRequests = Math.max(0, maxInFlightRequests);
+	}
+
+	/**
+	 * Retrieves {@link #maxDiscoveredStreams}
+	 *
+	 * @return value of {@link #maxDiscoveredStreams}
+	 */
+	public int getMaxDiscoveredStreams() {
+		return maxDiscoveredStreams;
+	}
+
+	/**
+	 * Sets {@link #maxDiscoveredStreams} value
+	 *
+	 * @param maxDiscoveredStreams new value of {@link #maxDiscoveredStreams}
+	 */
+	public void setMaxDiscoveredStreams(int maxDiscoveredStreams) {
+		this.maxDiscoveredStreams = Math.max(0, maxDiscoveredStreams);
+	}
+
+	/**
+	 * Retrieves {@link #circuitBreakerThreshold}
+	 *
+	 * @return value of {@link #circuitBreakerThreshold}
+	 */
+	public int getCircuitBreakerThreshold() {
+		return circuitBreakerThreshold;
+	}
+
+	/**
+	 * Sets {@link #circuitBreakerThreshold} value
+	 *
+	 * @param circuitBreakerThreshold new value of {@link #circuitBreakerThreshold}
+	 */
+	public void setCircuitBreakerThreshold(int circuitBreakerThreshold) {
+		this.circuitBreakerThreshold = Math.max(0, circuitBreakerThreshold);
+	}
+
+	/**
+	 * Retrieves {@link #circuitBreakerMaxBackoff}
+	 *
+	 * @return value of {@link #circuitBreakerMaxBackoff}
+	 */
+	public int getCircuitBreakerMaxBackoff() {
+		return circuitBreakerMaxBackoff;
+	}
+
+	/**
+	 * Sets {@link #circuitBreakerMaxBackoff} value
+	 *
+	 * @param circuitBreakerMaxBackoff new value of {@link #circuitBreakerMaxBackoff}
+	 */
+	public void setCircuitBreakerMaxBackoff(int circuitBreakerMaxBackoff) {
+		this.circuitBreakerMaxBackoff = circuitBreakerMaxBackoff;
+	}
+
+	/**
+	 * Retrieves {@link #circuitBreaker}
+	 *
+	 * @return value of {@link #circuitBreaker}
+	 */
+	CircuitBreaker getCircuitBreaker() {
+		return circuitBreaker;
+	}
+
+	/**
+	 * Retrieves {@link #requestMetrics}
+	 *
+	 * @return value of {@link #requestMetrics}
+	 */
+	RequestMetrics getRequestMetrics() {
+		return requestMetrics;
+	}
+
+	/**
+	 * Retrieves {@link #localExtendedStatistics}
+	 *
+	 * @return value of {@link #localExtendedStatistics}, null before the first poll
+	 */
+	ExtendedStatistics getLocalExtendedStatistics() {
+		return localExtendedStatistics;
+	}
+
+	/**
+	 * Retrieves {@link #pollingIntervals}
+	 *
+	 * @return value of {@link #pollingIntervals}
+	 */
+	public String getPollingIntervals() {
+		return pollingIntervals;
+	}
+
+	/**
+	 * Sets {@link #pollingIntervals} value
+	 *
+	 * @param pollingIntervals comma separated list of api:seconds pairs
+	 */
+	public void setPollingIntervals(String pollingIntervals) {
+		this.pollingIntervals = pollingIntervals;
+		this.pollingIntervalOverrides.clear();
+		if (StringUtils.isNullOrEmpty(pollingIntervals)) {
+			return;
+		}
+		for (String item : pollingIntervals.split(CrestronConstant.COMMA)) {
+			String[] pair = item.trim().split(CrestronConstant.COLON);
+			CrestronCommand command = pair.length == 2 ? CrestronCommand.getEnumByUri(pair[0].trim()) : null;
+			if (command == null || !NumberUtils.isDigits(pair[1].trim())) {
+				if (logger.isWarnEnabled()) {
+					logger.warn(String.format("Invalid polling interval %s, expected format is Device/DeviceInfo:600", item));
+				}
+				continue;
+			}
+			this.pollingIntervalOverrides.put(command, Long.parseLong(pair[1].trim()));
+		}
+	}
+
+	/**
+	 * Retrieves {@link #isBulkFetch}
+	 *
+	 * @return value of {@link #isBulkFetch}
+	 */
+	public String getBulkFetch() {
+		return String.valueOf(isBulkFetch);
+	}
+
+	/**
+	 * Sets {@link #isBulkFetch} value
+	 *
+	 * @param bulkFetch true to request the whole Device object in one GET
+	 */
+	public void setBulkFetch(String bulkFetch) {
+		this.isBulkFetch = StringUtils.isNotNullOrEmpty(bulkFetch) && bulkFetch.trim().equalsIgnoreCase(CrestronConstant.TRUE);
+	}
+
+	/**
+	 * Retrieves {@link #isDisplayAdapterMetrics}
+	 *
+	 * @return value of {@link #isDisplayAdapterMetrics}
+	 */
+	public String getDisplayAdapterMetrics() {
+		return String.valueOf(isDisplayAdapterMetrics);
+	}
+
+	/**
+	 * Sets {@link #isDisplayAdapterMetrics} value
+	 *
+	 * @param displayAdapterMetrics true to display adapter metrics in monitoring properties
+	 */
+	public void setDisplayAdapterMetrics(String displayAdapterMetrics) {
+		this.isDisplayAdapterMetrics = StringUtils.isNotNullOrEmpty(displayAdapterMetrics) && displayAdapterMetrics.trim().equalsIgnoreCase(CrestronConstant.TRUE);
+	}
+
+	/**
+	 * Retrieves {@link #isAsyncTransport}
+	 *
+	 * @return value of {@link #isAsyncTransport}
+	 */
+	public String getAsyncTransport() {
+		return String.valueOf(isAsyncTransport);
+	}
+
+	/**
+	 * Sets {@link #isAsyncTransport} value
+	 *
+	 * @param asyncTransport true to send device requests through the non-blocking transport
+	 */
+	public void setAsyncTransport(String asyncTransport) {
+		this.isAsyncTransport = StringUtils.isNotNullOrEmpty(asyncTransport) && asyncTransport.trim().equalsIgnoreCase(CrestronConstant.TRUE);
+	}
+
+	/**
+	 * Sets {@link #sharedTransport} value, must be called before {@link #init()}
+	 *
+	 * @param sharedTransport connection pool shared with the other devices of an aggregator
+	 */
+	void setSharedTransport(SharedHttpTransport sharedTransport) {
+		this.sharedTransport = sharedTransport;
+	}
+
+	/**
+	 * Constructs a new instance of CrestronNVXCommunicator.
+	 */
+	public CrestronNVXCommunicator() throws IOException {
+		this.setTrustAllCertificates(true);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	protected void authenticate() throws Exception {
+
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * <p>
+	 *
+	 * Check for available devices before retrieving the value
+	 * ping latency information to Symphony
+	 */
+	@Override
+	public int ping() throws Exception {
+		if (this.pingMode == PingMode.ICMP) {
+			return super.ping();
+		}
+		if (this.pingMode != PingMode.TCP && this.pingMode != PingMode.HTTP) {
+			throw new IllegalArgumentException("Unknown PING Mode: " + pingMode);
+		}
+		if (!isInitialized()) {
+			throw new IllegalStateException("Cannot use device class without calling init() first");
+		}
+		PingResult result;
+		if (this.pingMode == PingMode.TCP) {
+			try {
+				result = TcpPing.run(this.host, this.getPort(), this.getPingAttempts(), this.getPingTimeout());
+			} catch (UnknownHostException ex) {
+				throw new UnknownHostException(String.format("Connection timed out, UNKNOWN host %s", host));
+			}
+		} else {
+			result = sendHttpPing();
+		}
+		lastPingResult = result;
+		if (result.getSuccessCount() == 0) {
+			if (result.getError() instanceof ConnectException) {
+				throw new RuntimeException("Socket connection timed out", result.getError());
+			}
+			if (result.getError() instanceof UnknownHostException) {
+				throw new UnknownHostException(String.format("Connection timed out, UNKNOWN host %s", host));
+			}
+			if (this.logger.isDebugEnabled()) {
+				this.logger.debug(String.format("PING DISCONNECTED: Connection to %s did not succeed within the timeout period of %sms", host, this.getPingTimeout()));
+			}
+			return this.getPingTimeout();
+		}
+		if (this.logger.isTraceEnabled()) {
+			this.logger.trace(String.format("PING OK: %s of %s %s attempts to %s on port %s succeeded, min/avg/max %.1f/%.1f/%.1f ms", result.getSuccessCount(),
+					result.getAttempts(), pingMode.name(), host, this.getPort(), result.getMin(), result.getAverage(), result.getMax()));
+		}
+		return Math.max(1, (int) Math.round(result.getAverage()));
+	}
+
+	/**
+	 * Measure the round trip time of a small GET request sent with the session cookie over the pooled keep-alive connections,
+	 * so the ping covers network and web server responsiveness without a new TCP or TLS handshake once a connection is open.
+	 * Any http status counts as an answer, an expired session does not make the device unreachable.
+	 * Each attempt is a normal priority request of {@link #requestGovernor} and is recorded in {@link #requestMetrics},
+	 * the time waiting for its slot is not part of the round trip time.
+	 *
+	 * @return result of the attempts
+	 */
+	private PingResult sendHttpPing() throws Exception {
+		PingResult result = new PingResult(Math.max(1, this.getPingAttempts()));
+		String url = getProtocol() + "://" + getHost() + CrestronConstant.COLON + getPort() + "/" + CrestronUri.PING_API;
+		String cookie = session.getCookie();
+		for (int i = 0; i < result.getAttempts(); i++) {
+			RequestGovernor governor = null;
+			try {
+				governor = acquireRequestSlot(false);
+				long start = System.nanoTime();
+				long size;
+				if (httpTransport != null) {
+					Map<String, String> headers = StringUtils.isNotNullOrEmpty(cookie) ? Collections.singletonMap(CrestronConstant.COOKIE, cookie) : Collections.emptyMap();
+					HttpResult response = httpTransport.send(CrestronConstant.GET, url, headers, null, this.getPingTimeout()).get();
+					size = response.getBody() == null ? 0 : response.getBody().length();
+				} else {
+					HttpGet httpGet = new HttpGet(url);
+					int timeout = this.getPingTimeout();
+					httpGet.setConfig(RequestConfig.custom().setConnectTimeout(timeout).setConnectionRequestTimeout(timeout).setSocketTimeout(timeout).build());
+					if (StringUtils.isNotNullOrEmpty(cookie)) {
+						httpGet.setHeader(CrestronConstant.COOKIE, cookie);
+					}
+					HttpResponse response = this.obtainHttpClient(true).execute(httpGet);
+					size = response.getEntity() == null ? 0 : Math.max(0, response.getEntity().getContentLength());
+					// release the connection back to the pool so the next attempt reuses it
+					EntityUtils.consumeQuietly(response.getEntity());
+				}
+				result.record(System.nanoTime() - start);
+				requestMetrics.recordRequest(CrestronUri.PING_API, start, size);
+			} catch (ExecutionException e) {
+				requestMetrics.recordError(CrestronUri.PING_API);
+				result.setError(e.getCause() instanceof Exception ? (Exception) e.getCause() : e);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw e;
+			} catch (Exception e) {
+				requestMetrics.recordError(CrestronUri.PING_API);
+				result.setError(e);
+			} finally {
+				if (governor != null) {
+					governor.release();
+				}
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public List<Statistics> getMultipleStatistics() throws Exception {
+		pollLock.lock();
+		try {
+			if (isEmergencyDelivery) {
+				isEmergencyDelivery = false;
+				long generation = controlGeneration;
+				if (refreshChangedGroups()) {
+					publishPollSnapshot(generation);
+				}
+			} else {
+				try {
+					runPollCycle();
+					isWarmStartDelivery = false;
+				} catch (FailedLoginException e) {
+					throw e;
+				} catch (Exception e) {
+					if (!isWarmStartDelivery) {
+						throw e;
+					}
+					// the device is shown with its last known state, marked as stale, until a poll succeeds
+					if (logger.isWarnEnabled()) {
+						logger.warn(String.format("Failed to poll device %s, the snapshot of the previous run is delivered: %s", getHost(), e.getMessage()));
+					}
+				}
+			}
+		} finally {
+			pollLock.unlock();
+		}
+		return Collections.singletonList(localExtendedStatistics);
+	}
+
+	/**
+	 * Poll every due group, publish the populated properties and queue the snapshot write
+	 */
+	private void runPollCycle() throws Exception {
+		checkCircuitBreaker();
+		long generation = controlGeneration;
+		long cycleStart = System.nanoTime();
+		long receivedBefore = receivedPayloadCount;
+		try {
+			convertConfigManagement();
+			retrieveMonitoringAndControllableProperties();
+			// every cycle requests at least the device specific group, a cycle without any payload did not reach the device
+			if (receivedPayloadCount == receivedBefore) {
+				throw new ResourceNotReachableException("There was an error while retrieving monitoring data for all properties.");
+			}
+		} catch (FailedLoginException e) {
+			// the device answered, only the credentials are rejected
+			recordCycleResult(true);
+			throw e;
+		} catch (Exception e) {
+			recordCycleResult(false);
+			throw e;
+		}
+		recordCycleResult(true);
+		requestMetrics.recordCycle(cycleStart);
+		publishPollSnapshot(generation);
+		queueSnapshotWrite();
+	}
+
+	/**
+	 * Fail the cycle without any request while {@link #circuitBreaker} is open.
+	 * When the backoff expires a single connection to the device port is tried before the full poll.
+	 *
+	 * @throws ResourceNotReachableException if the device is not polled in this cycle
+	 */
+	private void checkCircuitBreaker() {
+		CircuitBreaker breaker = circuitBreaker;
+		if (breaker == null) {
+			return;
+		}
+		if (!breaker.allowRequest()) {
+			throw new ResourceNotReachableException(String.format("Device %s is unreachable after consecutive failed cycles, next probe in %s ms", getHost(), breaker.getRemainingBackoff()));
+		}
+		if (breaker.isHalfOpen() && !probeDevice()) {
+			breaker.recordFailure();
+			throw new ResourceNotReachableException(String.format("Device %s did not answer the probe, next probe in %s ms", getHost(), breaker.getRemainingBackoff()));
+		}
+	}
+
+	/**
+	 * Record the result of a cycle in {@link #circuitBreaker}
+	 *
+	 * @param isReached true if the device answered
+	 */
+	private void recordCycleResult(boolean isReached) {
+		CircuitBreaker breaker = circuitBreaker;
+		if (breaker == null) {
+			return;
+		}
+		if (isReached) {
+			breaker.recordSuccess();
+		} else {
+			breaker.recordFailure();
+		}
+	}
+
+	/**
+	 * Check if the device accepts a connection on its port, without TLS handshake or login
+	 *
+	 * @return true if connected within the adapter timeout
+	 */
+	private boolean probeDevice() {
+		try (Socket socket = new Socket()) {
+			socket.connect(new InetSocketAddress(getHost(), getPort()), getTimeout());
+			return true;
+		} catch (IOException e) {
+			if (logger.isDebugEnabled()) {
+				logger.debug(String.format("Probe of device %s failed: %s", getHost(), e.getMessage()));
+			}
+			return false;
+		}
+	}
+
+	/**
+	 * Populate properties from the responses of the completed poll and publish them as the new snapshot,
+	 * unless a control published a snapshot after the poll started, its value would be overwritten by a response read before the control
+	 *
+	 * @param generation {@link #controlGeneration} when the poll started
+	 */
+	private void publishPollSnapshot(long generation) throws Exception {
+		controlLock.lock();
+		try {
+			if (generation != controlGeneration && localExtendedStatistics != null) {
+				if (logger.isDebugEnabled()) {
+					logger.debug("A control completed during the poll, its snapshot is kept until the next poll");
+				}
+				return;
+			}
+			localExtendedStatistics = populateStatistics();
+			confirmedValues = localExtendedStatistics.getStatistics();
+			if (logger.isDebugEnabled()) {
+				logger.debug(String.format("Unchanged payloads %s of %s, reused groups %s of %s", unchangedPayloadCount, receivedPayloadCount, reusedGroupCount, populatedGroupCount));
+			}
+		} finally {
+			controlLock.unlock();
+		}
+	}
+
+	/**
+	 * Populate statistics from the cached responses
+	 *
+	 * @return populated statistics
+	 */
+	private ExtendedStatistics populateStatistics() throws Exception {
+		Map<String, String> stats = new HashMap<>();
+		Map<String, String> controlStats = new HashMap<>();
+		List<AdvancedControllableProperty> advancedControllableProperties = new ArrayList<>();
+		populateMonitoringAndControllableProperties(stats, controlStats, advancedControllableProperties, false, CrestronConstant.EMPTY);
+		if (isDisplayAdapterMetrics) {
+			populateAdapterMetrics(stats);
+		}
+		stats.put(CrestronConstant.PENDING_REBOOT, capitalizeBooleanString(String.valueOf(isRebootPending)));
+		ExtendedStatistics extendedStatistics = new ExtendedStatistics();
+		if (isConfigManagement) {
+			stats.putAll(controlStats);
+			extendedStatistics.setControllableProperties(advancedControllableProperties);
+		}
+		extendedStatistics.setStatistics(stats);
+		return extendedStatistics;
+	}
+
+	/**
+	 * Load the snapshot of a previous run and publish its statistics, marked as stale until a poll succeeds
+	 */
+	private void loadSnapshot() {
+		try {
+			if (!snapshotStore.load()) {
+				return;
+			}
+			controlLock.lock();
+			try {
+				cacheKeyAndValue.putAll(snapshotStore.getGroups());
+				cacheFilterValue.putAll(snapshotStore.getFilterValues());
+				this.deviceMode = snapshotStore.getDeviceMode();
+				convertConfigManagement();
+				ExtendedStatistics extendedStatistics = populateStatistics();
+				extendedStatistics.getStatistics().put(CrestronConstant.STALE_DATA_SINCE,
+						Instant.ofEpochMilli(snapshotStore.getTimestamp()).atOffset(ZoneOffset.UTC).format(DateTimeFormatter.ISO_OFFSET_DATE_TIME));
+				localExtendedStatistics = extendedStatistics;
+				isWarmStartDelivery = true;
+			} finally {
+				controlLock.unlock();
+			}
+		} catch (Exception e) {
+			logger.warn("Failed to load snapshot of the previous run, statistics are delivered after the first poll", e);
+			cacheKeyAndValue.clear();
+			cacheFilterValue.clear();
+			populatedGroups.clear();
+			this.deviceMode = CrestronConstant.NONE;
+		}
+	}
+
+	/**
+	 * Hand the state of the completed cycle to the snapshot writer, unless it is the same as the last one
+	 */
+	private void queueSnapshotWrite() {
+		if (snapshotStore == null) {
+			return;
+		}
+		Map<String, JsonNode> groups;
+		synchronized (cacheKeyAndValue) {
+			groups = new HashMap<>(cacheKeyAndValue);
+		}
+		Map<String, String> filters = new HashMap<>(cacheFilterValue);
+		if (isSameResponses(groups, savedSnapshotGroups) && filters.equals(savedSnapshotFilters) && Objects.equals(this.deviceMode, savedSnapshotDeviceMode)) {
+			return;
+		}
+		savedSnapshotGroups = groups;
+		savedSnapshotFilters = filters;
+		savedSnapshotDeviceMode = this.deviceMode;
+		if (pendingSnapshot.getAndSet(snapshotStore.build(groups, filters, this.deviceMode)) == null) {
+			SnapshotStore.queueWrite(this::writeSnapshot);
+		}
+	}
+
+	/**
+	 * Check if two sets of cached responses are the same instances, an unchanged payload keeps its cached tree
+	 */
+	private boolean isSameResponses(Map<String, JsonNode> responses, Map<String, JsonNode> otherResponses) {
+		if (responses.size() != otherResponses.size()) {
+			return false;
+		}
+		for (Entry<String, JsonNode> response : responses.entrySet()) {
+			if (response.getValue() != otherResponses.get(response.getKey())) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Write the latest queued snapshot
+	 */
+	private void writeSnapshot() {
+		ObjectNode snapshot = pendingSnapshot.getAndSet(null);
+		if (snapshot == null || snapshotStore == null) {
+			return;
+		}
+		try {
+			snapshotStore.write(snapshot);
+		} catch (Exception e) {
+			logger.warn("Failed to write snapshot of device " + getHost(), e);
+		}
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void controlProperty(ControllableProperty controllableProperty) throws Exception {
+		ExtendedStatistics snapshot = this.localExtendedStatistics;
+		if (snapshot == null || snapshot.getStatistics() == null) {
+			return;
+		}
+		try {
+			String property = controllableProperty.getProperty();
+			String value = String.valueOf(controllableProperty.getValue());
+			if (isFilterProperty(property)) {
+				updateFilterCache(property, value, property.split(CrestronConstant.HASH)[0] + CrestronConstant.HASH);
+				return;
+			}
+
+			PreparedControl control = prepareControl(snapshot.getStatistics(), property, value);
+			if (control == null || isUnchangedControl(confirmedValues, control)) {
+				return;
+			}
+			CrestronControlCommand item = control.getCommand();
+			if (isSliderControl(item)) {
+				// a slider drag sends a burst of values, only the latest one is written
+				updateLocalControlValues(Collections.singletonList(control));
+				enqueueSliderControl(control);
+				return;
+			}
+			if (item == CrestronControlCommand.REBOOT) {
+				cancelPendingReboot();
+			}
+			sendControlCommand(control.getUri(), item.getName(), item.getParam(), item.getApiProperty(), control.getValue(), item.isRequireReboot());
+			if (control.getLocalValue() != null) {
+				updateLocalControlValues(Collections.singletonList(control));
+			}
+		} finally {
+			isEmergencyDelivery = true;
+		}
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * <p>
+	 *
+	 * Controls sent to the same endpoint are merged into one request, the result of each field is mapped back to its property.
+	 * A reboot required by any of the controls is sent once, after all of them.
+	 */
+	@Override
+	public void controlProperties(List<ControllableProperty> controllableProperties) throws Exception {
+		if (CollectionUtils.isEmpty(controllableProperties)) {
+			throw new IllegalArgumentException("ControllableProperties can not be null or empty");
+		}
+		ExtendedStatistics snapshot = this.localExtendedStatistics;
+		if (snapshot == null || snapshot.getStatistics() == null) {
+			return;
+		}
+		try {
+			// controls prepared later in the batch see the values of the earlier ones, e.g. date and time changed together
+			Map<String, String> stats = new HashMap<>(snapshot.getStatistics());
+			Map<String, String> confirmed = new HashMap<>(confirmedValues);
+			Map<String, List<PreparedControl>> controlsByUri = new LinkedHashMap<>();
+			List<ControllableProperty> actions = new ArrayList<>();
+			boolean isRebootRequested = false;
+			for (ControllableProperty p : controllableProperties) {
+				String property = p.getProperty();
+				String value = String.valueOf(p.getValue());
+				try {
+					if (isFilterProperty(property)) {
+						updateFilterCache(property, value, property.split(CrestronConstant.HASH)[0] + CrestronConstant.HASH);
+						continue;
+					}
+					// the value of the batch replaces a slider value not sent yet
+					pendingSliderControls.remove(property);
+					PreparedControl control = prepareControl(stats, property, value);
+					if (control == null || isUnchangedControl(confirmed, control)) {
+						continue;
+					}
+					if (control.getCommand() == CrestronControlCommand.REBOOT) {
+						isRebootRequested = true;
+					} else if (control.getLocalValue() == null) {
+						actions.add(p);
+					} else {
+						stats.put(property, control.getLocalValue());
+						// a later control of the same property in the batch is compared with the value sent before it
+						confirmed.remove(property);
+						controlsByUri.computeIfAbsent(control.getUri(), uri -> new ArrayList<>()).add(control);
+					}
+				} catch (Exception e) {
+					logger.error(String.format("Error when control property %s", property), e);
+				}
+			}
+
+			List<PreparedControl> appliedControls = new ArrayList<>();
+			for (Entry<String, List<PreparedControl>> entry : controlsByUri.entrySet()) {
+				appliedControls.addAll(sendBatchControlCommand(entry.getKey(), entry.getValue()));
+			}
+			if (!appliedControls.isEmpty()) {
+				updateLocalControlValues(appliedControls);
+			}
+			for (ControllableProperty p : actions) {
+				try {
+					controlProperty(p);
+				} catch (Exception e) {
+					logger.error(String.format("Error when control property %s", p.getProperty()), e);
+				}
+			}
+
+			// Crestron device require rebooting for some controls to take effect, once for the whole batch
+			try {
+				if (isRebootRequested) {
+					cancelPendingReboot();
+					sendReboot();
+				} else if (appliedControls.stream().anyMatch(control -> control.getCommand().isRequireReboot())) {
+					requestReboot();
+				}
+			} catch (Exception e) {
+				logger.error(String.format("Error when control property %s", CrestronControlCommand.REBOOT.getName()), e);
+			}
+		} finally {
+			isEmergencyDelivery = true;
+		}
+	}
+
+	/**
+	 * Check if a control requests the value the device already has, then neither the request nor the reboot it may require is sent
+	 *
+	 * @param confirmedValues values confirmed by the device, see {@link #confirmedValues}
+	 * @param control prepared control
+	 * @return true if the write is skipped
+	 */
+	private boolean isUnchangedControl(Map<String, String> confirmedValues, PreparedControl control) {
+		String currentValue = confirmedValues.get(control.getProperty());
+		CrestronControlCommand item = control.getCommand();
+		// date and time move on their own, buttons have no value
+		if (currentValue == null || control.getLocalValue() == null || item == CrestronControlCommand.DATE || item == CrestronControlCommand.TIME) {
+			return false;
+		}
+		if (!normalizeControlValue(item, currentValue).equals(normalizeControlValue(item, control.getLocalValue()))) {
+			return false;
+		}
+		skippedControlCount.incrementAndGet();
+		if (logger.isDebugEnabled()) {
+			logger.debug(String.format("Control %s is skipped, the device value is already %s", control.getProperty(), currentValue));
+		}
+		return true;
+	}
+
+	/**
+	 * Normalize a control value so the displayed and the requested forms compare equal, e.g. 12.0 and 12
+	 *
+	 * @param item control command
+	 * @param value displayed or requested value
+	 * @return normalized value
+	 */
+	private String normalizeControlValue(CrestronControlCommand item, String value) {
+		switch (item) {
+			case TTL:
+			case ANALOG_VOLUME:
+				return NumberUtils.isCreatable(value) ? String.valueOf((int) Float.parseFloat(value)) : value;
+			case TIMEZONE:
+				TimeZone timeZone = TimeZone.getEnumByName(value);
+				return timeZone != null ? timeZone.getValue() : value;
+			default:
+				return value.trim().toLowerCase();
+		}
+	}
+
+	/**
+	 * Check if a control is a slider, sent at most once per {@link #sliderControlInterval}
+	 *
+	 * @param item control command
+	 */
+	private boolean isSliderControl(CrestronControlCommand item) {
+		return sliderControlInterval > 0 && (item == CrestronControlCommand.ANALOG_VOLUME || item == CrestronControlCommand.TTL);
+	}
+
+	/**
+	 * Queue the latest value of a slider, it replaces a value not sent yet and is sent once {@link #sliderControlInterval} has passed since the last write
+	 *
+	 * @param control prepared slider control
+	 */
+	private void enqueueSliderControl(PreparedControl control) {
+		String property = control.getProperty();
+		pendingSliderControls.put(property, control);
+		deferredControlLock.lock();
+		try {
+			if (!scheduledSliders.add(property)) {
+				// the scheduled write sends the latest value
+				return;
+			}
+			long delay = Math.max(0, sliderWriteTimestamps.getOrDefault(property, 0L) + sliderControlInterval - System.currentTimeMillis());
+			obtainControlScheduler().schedule(() -> sendSliderControl(property), delay, TimeUnit.MILLISECONDS);
+		} finally {
+			deferredControlLock.unlock();
+		}
+	}
+
+	/**
+	 * Send the latest queued value of a slider
+	 *
+	 * @param property name of the slider
+	 */
+	private void sendSliderControl(String property) {
+		PreparedControl control;
+		deferredControlLock.lock();
+		try {
+			scheduledSliders.remove(property);
+			control = pendingSliderControls.remove(property);
+			if (control == null) {
+				return;
+			}
+			sliderWriteTimestamps.put(property, System.currentTimeMillis());
+		} finally {
+			deferredControlLock.unlock();
+		}
+		CrestronControlCommand item = control.getCommand();
+		try {
+			sendControlCommand(control.getUri(), item.getName(), item.getParam(), item.getApiProperty(), control.getValue(), item.isRequireReboot());
+		} catch (Exception e) {
+			logger.error(String.format("Error when control property %s", property), e);
+			// the value displayed since the control is not applied, the next cycle reads the device value again
+			CrestronCommand changedGroup = CrestronCommand.getEnumByUri(control.getUri());
+			if (changedGroup != null) {
+				changedGroups.add(changedGroup);
+			}
+		}
+	}
+
+	/**
+	 * Retrieves scheduler of deferred controls, created on first use
+	 *
+	 * @return scheduler
+	 */
+	private ScheduledExecutorService obtainControlScheduler() {
+		deferredControlLock.lock();
+		try {
+			if (controlScheduler == null) {
+				controlScheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+					Thread thread = new Thread(runnable, String.format("crestron-nvx-control-%s", getHost()));
+					thread.setDaemon(true);
+					return thread;
+				});
+			}
+			return controlScheduler;
+		} finally {
+			deferredControlLock.unlock();
+		}
+	}
+
+	/**
+	 * Reboot the device after {@link #rebootCoalescingWindow}, a reboot already pending is postponed so consecutive changes share one reboot
+	 */
+	private void requestReboot() throws Exception {
+		if (rebootCoalescingWindow <= 0) {
+			sendReboot();
+			return;
+		}
+		deferredControlLock.lock();
+		try {
+			if (pendingReboot != null) {
+				pendingReboot.cancel(false);
+			}
+			isRebootPending = true;
+			pendingReboot = obtainControlScheduler().schedule(this::sendPendingReboot, rebootCoalescingWindow, TimeUnit.MILLISECONDS);
+		} finally {
+			deferredControlLock.unlock();
+		}
+		if (logger.isDebugEnabled()) {
+			logger.debug(String.format("Reboot of %s is deferred by %s ms", getHost(), rebootCoalescingWindow));
+		}
+	}
+
+	/**
+	 * Send the deferred reboot unless it was cancelled or already sent
+	 */
+	private void sendPendingReboot() {
+		if (!cancelPendingReboot()) {
+			return;
+		}
+		try {
+			sendReboot();
+		} catch (Exception e) {
+			logger.error("Failed to send deferred reboot to " + getHost(), e);
+		}
+	}
+
+	/**
+	 * Cancel the deferred reboot, e.g. when a reboot is requested explicitly
+	 *
+	 * @return true if a reboot was pending
+	 */
+	private boolean cancelPendingReboot() {
+		deferredControlLock.lock();
+		try {
+			if (pendingReboot != null) {
+				pendingReboot.cancel(false);
+				pendingReboot = null;
+			}
+			boolean wasPending = isRebootPending;
+			isRebootPending = false;
+			return wasPending;
+		} finally {
+			deferredControlLock.unlock();
+		}
+	}
+
+	/**
+	 * Send POST request to reboot the device
+	 */
+	private void sendReboot() throws Exception {
+		CrestronControlCommand reboot = CrestronControlCommand.REBOOT;
+		sendControlCommand(reboot.getUrl(), reboot.getName(), reboot.getParam(), reboot.getApiProperty(), true, false);
+	}
+
+	/**
+	 * Check if a property selects the entry displayed in a group instead of controlling the device
+	 *
+	 * @param property name of the controllable property
+	 */
+	private boolean isFilterProperty(String property) {
+		String propertyName = property.contains(CrestronConstant.HASH) ? property.split(CrestronConstant.HASH)[1] : property;
+		return propertyName.equals(CrestronConstant.IPID) || propertyName.equals(CrestronConstant.NO) || propertyName.equals(CrestronConstant.UNIQUE_ID);
+	}
+
+	/**
+	 * Convert a control value to the request field of its endpoint
+	 *
+	 * @param stats current monitoring properties
+	 * @param property name of the controllable property
+	 * @param value value selected in the user interface
+	 * @return prepared control or null if the control can't be sent
+	 */
+	private PreparedControl prepareControl(Map<String, String> stats, String property, String value) {
+		String propertyName = property.contains(CrestronConstant.HASH) ? property.split(CrestronConstant.HASH)[1] : property;
+		CrestronControlCommand item = CrestronControlCommand.getEnumByName(propertyName);
+		PreparedControl control;
+		switch (item) {
+			case IGMP_SUPPORT:
+			case MODE:
+				return new PreparedControl(item, item.getUrl(), property, value, value);
+			case TTL:
+				float ttl = Float.parseFloat(value);
+				control = new PreparedControl(item, item.getUrl(), property, ttl, String.valueOf((int) ttl));
+				control.getRelatedStats().put("DiscoveryConfig#TTLCurrentValue", String.valueOf((int) ttl));
+				return control;
+			case REBOOT:
+			case SYNCHRONIZE_NOW:
+				return new PreparedControl(item, item.getUrl(), property, true, null);
+			case CLOUD_CONFIGURATION:
+			case AUTO_UPDATE:
+			case AUTOMATIC_INPUT_ROUTING:
+			case DISCOVERY_AGENT:
+				return new PreparedControl(item, item.getUrl(), property, Objects.equals(value, "1"), value);
+			case ANALOG_VOLUME:
+				String outputNumber = stats.get("Output#No");
+				if (!NumberUtils.isCreatable(outputNumber)) {
+					return null;
+				}
+				float volume = Float.parseFloat(value);
+				String uri = String.format(item.getUrl(), Integer.parseInt(outputNumber) - 1, "0");
+				control = new PreparedControl(item, uri, property, volume, String.valueOf((int) volume));
+				control.getRelatedStats().put("Output#AnalogAudioCurrentVolume", String.valueOf((int) volume));
+				return control;
+			case TIME:
+			case DATE:
+				String dateTime = buildDateTimeValue(stats, item, value);
+				return dateTime == null ? null : new PreparedControl(item, item.getUrl(), property, dateTime, value);
+			case TIMEZONE:
+				TimeZone timeZone = TimeZone.getEnumByName(value);
+				return timeZone == null ? null : new PreparedControl(item, item.getUrl(), property, timeZone.getValue(), timeZone.getName());
+			case AUDIO_MODE:
+				AudioMode source = AudioMode.getEnumByValue(value);
+				return source == null ? null : new PreparedControl(item, item.getUrl(), property, source.getValue(), value);
+			default:
+				if (logger.isWarnEnabled()) {
+					logger.warn(String.format("Unable to execute %s command on device not supported", property));
+				}
+				return null;
+		}
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	protected void internalInit() throws Exception {
+		if (logger.isDebugEnabled()) {
+			logger.debug("Internal init is called.");
+		}
+
+		if (circuitBreakerThreshold > 0) {
+			circuitBreaker = new CircuitBreaker(circuitBreakerThreshold, CrestronConstant.CIRCUIT_BREAKER_INITIAL_BACKOFF, circuitBreakerMaxBackoff);
+		}
+		if (maxRequestsPerSecond > 0 || maxInFlightRequests > 0) {
+			requestGovernor = new RequestGovernor(maxRequestsPerSecond, maxInFlightRequests);
+		}
+		capabilityRegistry = CapabilityRegistry.getInstance(capabilityCacheFile);
+		if (StringUtils.isNotNullOrEmpty(snapshotDirectory)) {
+			snapshotStore = new SnapshotStore(objectMapper, snapshotDirectory, getHost(), getPort());
+			loadSnapshot();
+		}
+		if (isAsyncTransport) {
+			// requests of all groups are in flight at the same time without a thread per request
+			httpTransport = NioHttpTransport.getInstance();
+			requestDispatcher = new ThreadPoolExecutor(0, 1, CrestronConstant.REQUEST_DISPATCHER_KEEP_ALIVE, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<>(), runnable -> {
+				Thread thread = new Thread(runnable, String.format("crestron-nvx-dispatch-%s", getHost()));
+				thread.setDaemon(true);
+				return thread;
+			});
+		} else if (fetchConcurrency > 1) {
+			// the connection pool has to allow as many connections as concurrent requests, plus one for controls
+			if (getMaxConnectionsPerRoute() <= fetchConcurrency) {
+				setMaxConnectionsPerRoute(fetchConcurrency + 1);
+			}
+			AtomicInteger threadCount = new AtomicInteger();
+			fetchExecutorService = Executors.newFixedThreadPool(fetchConcurrency, runnable -> {
+				Thread thread = new Thread(runnable, String.format("crestron-nvx-fetch-%s-%s", getHost(), threadCount.incrementAndGet()));
+				thread.setDaemon(true);
+				return thread;
+			});
+		}
+		super.internalInit();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	protected void internalDestroy() {
+		if (logger.isDebugEnabled()) {
+			logger.debug("Internal destroy is called.");
+		}
+		if (fetchExecutorService != null) {
+			fetchExecutorService.shutdownNow();
+			fetchExecutorService = null;
+		}
+		// deferred changes would not take effect otherwise, slider values first as they may be applied by the reboot
+		new ArrayList<>(pendingSliderControls.keySet()).forEach(this::sendSliderControl);
+		sendPendingReboot();
+		writeSnapshot();
+		if (controlScheduler != null) {
+			controlScheduler.shutdownNow();
+			controlScheduler = null;
+		}
+		sliderWriteTimestamps.clear();
+		scheduledSliders.clear();
+		snapshotStore = null;
+		savedSnapshotGroups = Collections.emptyMap();
+		savedSnapshotFilters = Collections.emptyMap();
+		savedSnapshotDeviceMode = null;
+		isWarmStartDelivery = false;
+		httpTransport = null;
+		if (requestDispatcher != null) {
+			requestDispatcher.shutdownNow();
+			requestDispatcher = null;
+		}
+		requestGovernor = null;
+		circuitBreaker = null;
+		localExtendedStatistics = null;
+		confirmedValues = Collections.emptyMap();
+		session.invalidate();
+		groupRefreshTimestamps.clear();
+		changedGroups.clear();
+		payloadFingerprints.clear();
+		populatedGroups.clear();
+		lastBulkResponse = null;
+		cacheKeyAndValue.clear();
+		cacheFilterValue.clear();
+		discoveredStreams.clear();
+		super.internalDestroy();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	protected HttpClient obtainHttpClient(boolean isInitializing) throws Exception {
+		return sharedTransport != null ? sharedTransport.getHttpClient() : super.obtainHttpClient(isInitializing);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	protected RestTemplate obtainRestTemplate() throws Exception {
+		return sharedTransport != null ? sharedTransport.getRestTemplate() : super.obtainRestTemplate();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	protected HttpHeaders putExtraRequestHeaders(HttpMethod httpMethod, String uri, HttpHeaders headers) throws Exception {
+		headers.set("Content-Type", "application/json");
+		String cookie = session.getCookie();
+		if (StringUtils.isNotNullOrEmpty(cookie)) {
+			headers.set(CrestronConstant.COOKIE, cookie);
+		}
+		return super.putExtraRequestHeaders(httpMethod, uri, headers);
+	}
+
+	/**
+	 * Send GET request to retrieve all monitoring and controllable properties of Crestron device.
+	 */
+	private void retrieveMonitoringAndControllableProperties() throws Exception {
+		if (!isValidCookie()) {
+			throw new FailedLoginException(String.format("Failed to login to device: %s.", this.loginFailureReason));
+		}
+		if (logger.isDebugEnabled()) {
+			logger.debug(String.format("Session cookie age is %s ms, re-login count is %s", session.getAge(), session.getReloginCount()));
+		}
+
+		// groups changed by controls since the last cycle are requested regardless of their polling interval and parsed again
+		for (Iterator<CrestronCommand> iterator = changedGroups.iterator(); iterator.hasNext(); ) {
+			CrestronCommand command = iterator.next();
+			groupRefreshTimestamps.remove(command);
+			payloadFingerprints.remove(command.getGroupCommand());
+			iterator.remove();
+		}
+
+		long now = System.currentTimeMillis();
+		String firmwareKey = getFirmwareKey();
+		List<CrestronCommand> commands = new ArrayList<>();
+		Map<String, JsonNode> responses = new HashMap<>();
+		for (CrestronCommand command : CrestronCommand.values()) {
+			String groupName = command.getGroupCommand();
+			if (Objects.equals(CrestronConstant.NONE, this.deviceMode) || (!Objects.equals(command.getDeviceMode(), CrestronConstant.EMPTY) && !Objects.equals(this.deviceMode, command.getDeviceMode())) ||
+					groupName.equals(CrestronCommand.DEVICE_SPECIFIC.getGroupCommand()) || groupName.equals(CrestronCommand.INPUT_ROUTING.getGroupCommand())) continue;
+
+			// an endpoint the firmware does not support is left out of the polling plan, its group is not displayed
+			if (Boolean.FALSE.equals(capabilityRegistry.isEndpointSupported(firmwareKey, command.getCommand()))) {
+				cacheKeyAndValue.remove(groupName);
+				continue;
+			}
+
+			// every group found in the whole Device object is refreshed for free
+			JsonNode groupResponse = indexDiscoveredStreams(command, extractApiResponseByGroup(command.getCommand(), bulkResponse));
+			if (groupResponse != null) {
+				responses.put(groupName, retainCachedResponse(groupName, groupResponse));
+				groupRefreshTimestamps.put(command, now);
+				continue;
+			}
+			if (isGroupDue(command, now)) {
+				commands.add(command);
+			}
+		}
+		if (bulkResponse != null && !commands.isEmpty() && logger.isDebugEnabled()) {
+			logger.debug(String.format("Bulk response is missing %s groups, requesting them separately", commands.size()));
+		}
+		bulkResponse = null;
+
+		Map<String, JsonNode> groupResponses = fetchGroups(commands);
+		responses.putAll(groupResponses);
+		cacheKeyAndValue.putAll(responses);
+		for (CrestronCommand command : commands) {
+			if (groupResponses.get(command.getGroupCommand()) != null) {
+				groupRefreshTimestamps.put(command, now);
+			}
+		}
+		recordEndpointSupport(responses);
+		recordBulkFetchSupport();
+		capabilityRegistry.save();
+	}
+
+	/**
+	 * Record for the current model and firmware which endpoints answered with a supported group
+	 *
+	 * @param responses responses of the cycle by group name, null if the request failed
+	 */
+	private void recordEndpointSupport(Map<String, JsonNode> responses) {
+		String firmwareKey = getFirmwareKey();
+		if (firmwareKey == null) {
+			return;
+		}
+		capabilityRegistry.setDeviceKey(getAddress(), firmwareKey);
+		for (CrestronCommand command : CrestronCommand.values()) {
+			JsonNode response = responses.get(command.getGroupCommand());
+			if (response != null) {
+				capabilityRegistry.setEndpointSupported(firmwareKey, command.getCommand(), !isUnsupportedResponse(response));
+			}
+		}
+	}
+
+	/**
+	 * Check if the device answered a group with the unsupported REST API marker
+	 *
+	 * @param response response of the group
+	 */
+	private boolean isUnsupportedResponse(JsonNode response) {
+		return response.asText().contains(CrestronConstant.UNSUPPORT_RESTAPI);
+	}
+
+	/**
+	 * Request again only the groups changed by controls since the last cycle, so the delivery after a control shows the confirmed device state.
+	 * Groups with a slider value not sent yet are left to the next cycle, the device still holds the previous value.
+	 *
+	 * @return true if at least one group was refreshed and the properties have to be populated again
+	 */
+	private boolean refreshChangedGroups() {
+		Set<CrestronCommand> deferredGroups = EnumSet.noneOf(CrestronCommand.class);
+		for (PreparedControl control : pendingSliderControls.values()) {
+			CrestronCommand deferredGroup = CrestronCommand.getEnumByUri(control.getUri());
+			if (deferredGroup != null) {
+				deferredGroups.add(deferredGroup);
+			}
+		}
+		List<CrestronCommand> commands = new ArrayList<>();
+		for (Iterator<CrestronCommand> iterator = changedGroups.iterator(); iterator.hasNext(); ) {
+			CrestronCommand command = iterator.next();
+			if (!deferredGroups.contains(command)) {
+				// the fingerprints are only accessed by the polling thread, the group is parsed again even if its payload is unchanged
+				payloadFingerprints.remove(command.getGroupCommand());
+				iterator.remove();
+				commands.add(command);
+			}
+		}
+		if (commands.isEmpty()) {
+			return false;
+		}
+
+		long now = System.currentTimeMillis();
+		boolean isRefreshed = false;
+		try {
+			List<CrestronCommand> groupCommands = new ArrayList<>();
+			for (CrestronCommand command : commands) {
+				if (command == CrestronCommand.DEVICE_SPECIFIC || command == CrestronCommand.INPUT_ROUTING) {
+					JsonNode response = toGroupResponse(CrestronCommand.DEVICE_SPECIFIC, sendGetRawCommand(CrestronCommand.DEVICE_SPECIFIC.getCommand(), false));
+					if (response == null) {
+						changedGroups.add(command);
+						continue;
+					}
+					cacheDeviceSpecific(response);
+					isRefreshed = true;
+				} else {
+					groupCommands.add(command);
+				}
+			}
+			Map<String, JsonNode> groupResponses = fetchGroups(groupCommands);
+			for (CrestronCommand command : groupCommands) {
+				JsonNode response = groupResponses.get(command.getGroupCommand());
+				if (response == null) {
+					// the group is requested again by the next cycle
+					changedGroups.add(command);
+					continue;
+				}
+				cacheKeyAndValue.put(command.getGroupCommand(), response);
+				groupRefreshTimestamps.put(command, now);
+				isRefreshed = true;
+			}
+		} catch (Exception e) {
+			if (logger.isDebugEnabled()) {
+				logger.debug("Failed to refresh groups changed by controls, they are requested by the next cycle", e);
+			}
+			changedGroups.addAll(commands);
+		}
+		return isRefreshed;
+	}
+
+	/**
+	 * Send GET requests for the given endpoint groups with the configured transport
 	 *
-	 * @return value of {@link #pingMode}
+	 * @param commands endpoint groups to request
+	 * @return responses by group name
 	 */
-	public String getPingMode() {
-		return pingMode.name();
+	private Map<String, JsonNode> fetchGroups(List<CrestronCommand> commands) throws Exception {
+		if (commands.isEmpty()) {
+			return Collections.emptyMap();
+		}
+		if (httpTransport != null) {
+			return retrieveGroupsAsync(commands);
+		}
+		if (fetchExecutorService != null) {
+			return retrieveGroupsConcurrently(commands);
+		}
+		return retrieveGroups(commands);
 	}
 
 	/**
-	 * Sets {@link #pingMode} value
-	 *
-	 * @param pingMode new value of {@link #pingMode}
+	 * Check if the whole Device object should be requested, i.e. bulk fetch is enabled and not known to be rejected by the current firmware
 	 */
-	public void setPingMode(String pingMode) {
-		this.pingMode = PingMode.ofString(pingMode);
+	private boolean isBulkFetchEligible() {
+		return isBulkFetch && !Boolean.FALSE.equals(capabilityRegistry.isBulkFetchSupported(getFirmwareKey()));
 	}
 
 	/**
-	 * Retrieves {@code {@link #configManagement}}
+	 * Send GET request for the whole Device object.
+	 * Only a definite rejection, an error status 4xx or a response without Device object, marks the bulk fetch as unsupported,
+	 * a timeout, a connection error or an error status 5xx leaves the probe inconclusive.
 	 *
-	 * @return value of {@link #configManagement}
+	 * @return response or null if the request failed or the firmware rejects it
 	 */
-	public String getConfigManagement() {
-		return configManagement;
+	private JsonNode retrieveBulkResponse() throws FailedLoginException {
+		JsonNode response = null;
+		try {
+			String rawResponse = sendGetRawCommand(CrestronUri.DEVICE_API, false);
+			if (StringUtils.isNullOrEmpty(rawResponse)) {
+				bulkFetchProbeResult = null;
+				lastBulkResponse = null;
+				return null;
+			}
+			receivedPayloadCount++;
+			long fingerprint = computeFingerprint(rawResponse);
+			if (lastBulkResponse != null && lastBulkFingerprint == fingerprint) {
+				unchangedPayloadCount++;
+				response = lastBulkResponse;
+			} else {
+				response = parseResponse(ExtractionPlan.forDevice(), CrestronUri.DEVICE_API, rawResponse);
+				lastBulkFingerprint = fingerprint;
+			}
+		} catch (ResourceNotReachableException e) {
+			int statusCode = e.getCause() instanceof CommandFailureException ? ((CommandFailureException) e.getCause()).getStatusCode() : 0;
+			if (logger.isDebugEnabled()) {
+				logger.debug(String.format("Device answered the request for the whole Device object with status %s", statusCode), e);
+			}
+			bulkFetchProbeResult = statusCode >= 400 && statusCode < 500 ? Boolean.FALSE : null;
+			lastBulkResponse = null;
+			return null;
+		}
+		boolean isSupported = response != null && response.path(CrestronConstant.DEVICE).isObject();
+		bulkFetchProbeResult = isSupported;
+		lastBulkResponse = isSupported ? response : null;
+		return lastBulkResponse;
 	}
 
 	/**
-	 * Sets {@code configManagement}
-	 *
-	 * @param configManagement the {@code java.lang.String} field
+	 * Record the bulk fetch probe result for the current model and firmware so other cycles and adapters do not probe again
 	 */
-	public void setConfigManagement(String configManagement) {
-		this.configManagement = configManagement;
+	private void recordBulkFetchSupport() {
+		String firmwareKey = getFirmwareKey();
+		if (bulkFetchProbeResult != null && firmwareKey != null) {
+			capabilityRegistry.setBulkFetchSupported(firmwareKey, bulkFetchProbeResult);
+			bulkFetchProbeResult = null;
+		}
 	}
 
 	/**
-	 * Constructs a new instance of CrestronNVXCommunicator.
+	 * Get capability registry key of the device from cached device information, or the key recorded for its address
+	 *
+	 * @return key or null if device information is not retrieved yet
 	 */
-	public CrestronNVXCommunicator() throws IOException {
-		this.setTrustAllCertificates(true);
+	private String getFirmwareKey() {
+		JsonNode deviceInfo = cacheKeyAndValue.get(CrestronCommand.DEVICE_INFO.getGroupCommand());
+		if (deviceInfo == null) {
+			// device information is not retrieved yet after a restart, the firmware is most likely unchanged
+			return capabilityRegistry.getDeviceKey(getAddress());
+		}
+		return CapabilityRegistry.buildKey(getDefaultValueForNullData(deviceInfo.get(CrestronPropertyList.MODEL.getApiPropertyName())),
+				getDefaultValueForNullData(deviceInfo.get(CrestronPropertyList.FIRMWARE_VERSION.getApiPropertyName())));
 	}
 
 	/**
-	 * {@inheritDoc}
+	 * Check if a group has to be requested in this cycle, otherwise its cached value is used
+	 *
+	 * @param command group to check
+	 * @param now current time in milliseconds
 	 */
-	@Override
-	protected void authenticate() throws Exception {
-
+	private boolean isGroupDue(CrestronCommand command, long now) {
+		Long lastRefresh = groupRefreshTimestamps.get(command);
+		long interval = pollingIntervalOverrides.getOrDefault(command, command.getPollingInterval());
+		return lastRefresh == null || interval <= 0 || now - lastRefresh >= TimeUnit.SECONDS.toMillis(interval);
 	}
 
 	/**
-	 * {@inheritDoc}
-	 * <p>
+	 * Send GET requests for the given endpoint groups one after another
 	 *
-	 * Check for available devices before retrieving the value
-	 * ping latency information to Symphony
+	 * @param commands endpoint groups to request
+	 * @return responses by group name
 	 */
-	@Override
-	public int ping() throws Exception {
-		if (this.pingMode == PingMode.ICMP) {
-			return super.ping();
-		} else if (this.pingMode == PingMode.TCP) {
-			if (isInitialized()) {
-				long pingResultTotal = 0L;
-
-				for (int i = 0; i < this.getPingAttempts(); i++) {
-					long startTime = System.currentTimeMillis();
-
-					try (Socket puSocketConnection = new Socket(this.host, this.getPort())) {
-						puSocketConnection.setSoTimeout(this.getPingTimeout());
-						if (puSocketConnection.isConnected()) {
-							long pingResult = System.currentTimeMillis() - startTime;
-							pingResultTotal += pingResult;
-							if (this.logger.isTraceEnabled()) {
-								this.logger.trace(String.format("PING OK: Attempt #%s to connect to %s on port %s succeeded in %s ms", i + 1, host, this.getPort(), pingResult));
-							}
-						} else {
-							if (this.logger.isDebugEnabled()) {
-								this.logger.debug(String.format("PING DISCONNECTED: Connection to %s did not succeed within the timeout period of %sms", host, this.getPingTimeout()));
-							}
-							return this.getPingTimeout();
-						}
-					} catch (SocketTimeoutException | ConnectException tex) {
-						throw new RuntimeException("Socket connection timed out", tex);
-					} catch (UnknownHostException ex) {
-						throw new UnknownHostException(String.format("Connection timed out, UNKNOWN host %s", host));
-					} catch (Exception e) {
-						if (this.logger.isWarnEnabled()) {
-							this.logger.warn(String.format("PING TIMEOUT: Connection to %s did not succeed, UNKNOWN ERROR %s: ", host, e.getMessage()));
-						}
-						return this.getPingTimeout();
-					}
-				}
-				return Math.max(1, Math.toIntExact(pingResultTotal / this.getPingAttempts()));
-			} else {
-				throw new IllegalStateException("Cannot use device class without calling init() first");
-			}
-		} else {
-			throw new IllegalArgumentException("Unknown PING Mode: " + pingMode);
+	private Map<String, JsonNode> retrieveGroups(List<CrestronCommand> commands) throws Exception {
+		Map<String, JsonNode> responses = new HashMap<>();
+		for (CrestronCommand command : commands) {
+			String response = sendGetRawCommand(command.getCommand(), false);
+			responses.put(command.getGroupCommand(), toGroupResponse(command, response));
 		}
+		return responses;
 	}
 
 	/**
-	 * {@inheritDoc}
+	 * Send GET requests for the given endpoint groups concurrently, bounded by {@link #fetchConcurrency}.
+	 * All groups share one deadline of {@link #groupFetchTimeout}, a group that does not answer by then is cancelled and keeps its previous cached value.
+	 * The same timeout is the socket timeout of each request, so a cancelled request does not keep its thread busy.
+	 *
+	 * @param commands endpoint groups to request
+	 * @return responses by group name
 	 */
-	@Override
-	public List<Statistics> getMultipleStatistics() throws Exception {
-		reentrantLock.lock();
+	private Map<String, JsonNode> retrieveGroupsConcurrently(List<CrestronCommand> commands) throws Exception {
+		Map<CrestronCommand, Future<String>> futures = new LinkedHashMap<>();
+		for (CrestronCommand command : commands) {
+			futures.put(command, fetchExecutorService.submit(() -> sendGetRawCommand(command.getCommand(), groupFetchTimeout, false)));
+		}
 
+		long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(groupFetchTimeout);
+		Map<String, JsonNode> responses = new HashMap<>();
 		try {
-			Map<String, String> stats = new HashMap<>();
-			Map<String, String> controlStats = new HashMap<>();
-			ExtendedStatistics extendedStatistics = new ExtendedStatistics();
-			List<AdvancedControllableProperty> advancedControllableProperties = new ArrayList<>();
-
-			if (!isEmergencyDelivery) {
-				this.countMonitoringAndControllingCommand = 0;
-				convertConfigManagement();
-				retrieveMonitoringAndControllableProperties();
-				if (countMonitoringAndControllingCommand == CrestronCommand.values().length) {
-					throw new ResourceNotReachableException("There was an error while retrieving monitoring data for all properties.");
-				}
-				populateMonitoringAndControllableProperties(stats, controlStats, advancedControllableProperties, false, CrestronConstant.EMPTY);
-				if (isConfigManagement) {
-					stats.putAll(controlStats);
-					extendedStatistics.setControllableProperties(advancedControllableProperties);
+			for (Entry<CrestronCommand, Future<String>> entry : futures.entrySet()) {
+				CrestronCommand command = entry.getKey();
+				try {
+					String response = entry.getValue().get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+					responses.put(command.getGroupCommand(), toGroupResponse(command, response));
+				} catch (TimeoutException e) {
+					entry.getValue().cancel(true);
+					if (logger.isWarnEnabled()) {
+						logger.warn(String.format("Request to %s did not complete within %s ms, previous value is kept", command.getCommand(), groupFetchTimeout));
+					}
+				} catch (ExecutionException e) {
+					Throwable cause = e.getCause();
+					if (cause instanceof Exception) {
+						throw (Exception) cause;
+					}
+					throw e;
 				}
-				extendedStatistics.setStatistics(stats);
-				localExtendedStatistics = extendedStatistics;
 			}
-			isEmergencyDelivery = false;
 		} finally {
-			reentrantLock.unlock();
+			futures.values().forEach(future -> future.cancel(true));
 		}
-		return Collections.singletonList(localExtendedStatistics);
+		return responses;
 	}
 
 	/**
-	 * {@inheritDoc}
+	 * Send GET requests for the given endpoint groups at once through {@link #httpTransport} and wait for all of them.
+	 * A group that does not answer within {@link #groupFetchTimeout} keeps its previous cached value.
+	 *
+	 * @param commands endpoint groups to request
+	 * @return responses by group name
 	 */
-	@Override
-	public void controlProperty(ControllableProperty controllableProperty) throws Exception {
-		reentrantLock.lock();
-		try {
-			if (this.localExtendedStatistics == null || this.localExtendedStatistics.getStatistics() == null) {
-				return;
-			}
-			isEmergencyDelivery = true;
-			Map<String, String> stats = this.localExtendedStatistics.getStatistics();
-			List<AdvancedControllableProperty> advancedControllableProperties = this.localExtendedStatistics.getControllableProperties();
-
-			String property = controllableProperty.getProperty();
-			String value = String.valueOf(controllableProperty.getValue());
-
-			String[] propertyList = property.split(CrestronConstant.HASH);
-			String propertyName = property;
-			String groupName = property;
-			if (property.contains(CrestronConstant.HASH)) {
-				propertyName = propertyList[1];
-				groupName = propertyList[0];
-			}
+	private Map<String, JsonNode> retrieveGroupsAsync(List<CrestronCommand> commands) throws Exception {
+		String cookie = session.getCookie();
+		Map<CrestronCommand, CompletableFuture<HttpResult>> futures = new LinkedHashMap<>();
+		for (CrestronCommand command : commands) {
+			futures.put(command, sendAsync(CrestronConstant.GET, command.getCommand(), null, groupFetchTimeout, false));
+		}
 
-			if (propertyName.equals(CrestronConstant.IPID) || propertyName.equals(CrestronConstant.NO) || propertyName.equals(CrestronConstant.UNIQUE_ID)) {
-				cacheFilterValue.put(property, value);
-				updateFilterCache(groupName + CrestronConstant.HASH);
-			} else {
-				CrestronControlCommand item = CrestronControlCommand.getEnumByName(propertyName);
-				switch (item) {
-					case IGMP_SUPPORT:
-					case MODE:
-						sendControlCommand(item.getUrl(), item.getName(), item.getParam(), item.getApiProperty(), value, item.isRequireReboot());
-						updateLocalControlValue(stats, advancedControllableProperties, property, value);
-						break;
-					case TTL:
-						float ttl = Float.parseFloat(value);
-						sendControlCommand(item.getUrl(), item.getName(), item.getParam(), item.getApiProperty(), ttl,  item.isRequireReboot());
-						updateLocalControlValue(stats, advancedControllableProperties, property, String.valueOf((int) ttl));
-						stats.put("DiscoveryConfig#TTLCurrentValue", String.valueOf((int) ttl));
-						break;
-					case REBOOT:
-					case SYNCHRONIZE_NOW:
-						sendControlCommand(item.getUrl(), item.getName(), item.getParam(), item.getApiProperty(), true,  item.isRequireReboot());
-						break;
-					case CLOUD_CONFIGURATION:
-					case AUTO_UPDATE:
-					case AUTOMATIC_INPUT_ROUTING:
-					case DISCOVERY_AGENT:
-						boolean status = Objects.equals(value, "1");
-						sendControlCommand(item.getUrl(), item.getName(), item.getParam(), item.getApiProperty(), status,  item.isRequireReboot());
-						updateLocalControlValue(stats, advancedControllableProperties, property, value);
-						break;
-					case ANALOG_VOLUME:
-						String outputNumber = stats.get("Output#No");
-						if (NumberUtils.isCreatable(outputNumber)) {
-							float volume = Float.parseFloat(value);
-							String uri = String.format(item.getUrl(), Integer.parseInt(outputNumber) - 1, "0");
-							sendControlCommand(uri, item.getName(), item.getParam(), item.getApiProperty(), volume, item.isRequireReboot());
-							updateLocalControlValue(stats, advancedControllableProperties, property, String.valueOf((int) volume));
-							stats.put("Output#AnalogAudioCurrentVolume", String.valueOf((int) volume));
-						}
-						break;
-					case TIME:
-					case DATE:
-						controlDateTimeCommand(stats, item, value);
-						updateLocalControlValue(stats, advancedControllableProperties, property, value);
-						break;
-					case TIMEZONE:
-						TimeZone timeZone = TimeZone.getEnumByName(value);
-						if (timeZone != null) {
-							sendControlCommand(item.getUrl(), item.getName(), item.getParam(), item.getApiProperty(), timeZone.getValue(),  item.isRequireReboot());
-							updateLocalControlValue(stats, advancedControllableProperties, property, timeZone.getName());
-						}
-						break;
-					case AUDIO_MODE:
-						AudioMode source = AudioMode.getEnumByValue(value);
-						if (source != null) {
-							sendControlCommand(item.getUrl(), item.getName(), item.getParam(), item.getApiProperty(), source.getValue(), item.isRequireReboot());
-							updateLocalControlValue(stats, advancedControllableProperties, property, value);
-						}
-						break;
-					default:
+		Map<String, JsonNode> responses = new HashMap<>();
+		try {
+			for (Entry<CrestronCommand, CompletableFuture<HttpResult>> entry : futures.entrySet()) {
+				CrestronCommand command = entry.getKey();
+				String uri = command.getCommand();
+				String response = null;
+				try {
+					response = readResponseBody(uri, entry.getValue().get());
+					if (isLoginPage(response)) {
+						throw new FailedLoginException("Session is redirected to login page");
+					}
+				} catch (FailedLoginException e) {
+					if (!renewSession(cookie)) {
+						throw new FailedLoginException("Failed login to device");
+					}
+					response = sendGetRawCommand(uri, true);
+				} catch (CommandFailureException e) {
+					throw new ResourceNotReachableException("An error occur when send api request to " + uri, e);
+				} catch (ExecutionException e) {
+					if (e.getCause() instanceof TimeoutException) {
 						if (logger.isWarnEnabled()) {
-							logger.warn(String.format("Unable to execute %s command on device not supported", property));
+							logger.warn(String.format("Request to %s did not complete within %s ms, previous value is kept", uri, groupFetchTimeout));
 						}
-						break;
-
+						continue;
+					}
+					logger.error("An error when send api request to " + uri, e.getCause());
 				}
+				responses.put(command.getGroupCommand(), toGroupResponse(command, response));
 			}
 		} finally {
-			reentrantLock.unlock();
+			futures.values().forEach(future -> future.cancel(false));
 		}
+		return responses;
 	}
 
 	/**
-	 * {@inheritDoc}
+	 * Convert the raw response of an endpoint group, keeping the cached tree when the payload is unchanged since the last request
+	 *
+	 * @param command endpoint group
+	 * @param response raw response, null if the request failed
+	 * @return response of the group
 	 */
-	@Override
-	public void controlProperties(List<ControllableProperty> controllableProperties) throws Exception {
-		if (CollectionUtils.isEmpty(controllableProperties)) {
-			throw new IllegalArgumentException("ControllableProperties can not be null or empty");
+	private JsonNode toGroupResponse(CrestronCommand command, String response) {
+		String groupName = command.getGroupCommand();
+		if (StringUtils.isNullOrEmpty(response)) {
+			payloadFingerprints.remove(groupName);
+			return null;
 		}
-		for (ControllableProperty p : controllableProperties) {
-			try {
-				controlProperty(p);
-			} catch (Exception e) {
-				logger.error(String.format("Error when control property %s", p.getProperty()), e);
-			}
+		receivedPayloadCount++;
+		long fingerprint = computeFingerprint(response);
+		JsonNode cachedResponse = cacheKeyAndValue.get(groupName);
+		Long lastFingerprint = payloadFingerprints.get(groupName);
+		if (cachedResponse != null && lastFingerprint != null && lastFingerprint == fingerprint) {
+			unchangedPayloadCount++;
+			return cachedResponse;
 		}
+
+		JsonNode groupResponse = indexDiscoveredStreams(command, extractApiResponseByGroup(command.getCommand(), parseResponse(ExtractionPlan.forCommand(command), command.getCommand(), response)));
+		if (groupResponse != null) {
+			payloadFingerprints.put(groupName, fingerprint);
+		} else {
+			payloadFingerprints.remove(groupName);
+		}
+		return groupResponse;
 	}
 
 	/**
-	 * {@inheritDoc}
+	 * Keep the cached tree of a group extracted from the whole Device object if its content is unchanged
+	 *
+	 * @param groupName name of group in cache
+	 * @param groupResponse response of the group extracted from the whole Device object
+	 * @return cached response if equal, otherwise the given response
 	 */
-	@Override
-	protected void internalInit() throws Exception {
-		if (logger.isDebugEnabled()) {
-			logger.debug("Internal init is called.");
-		}
-
-		super.internalInit();
+	private JsonNode retainCachedResponse(String groupName, JsonNode groupResponse) {
+		// the raw payload of this group is unknown, it must be parsed again when requested on its own
+		payloadFingerprints.remove(groupName);
+		JsonNode cachedResponse = cacheKeyAndValue.get(groupName);
+		return groupResponse.equals(cachedResponse) ? cachedResponse : groupResponse;
 	}
 
 	/**
-	 * {@inheritDoc}
+	 * Reduce a DiscoveredStreams response to the streams retained by {@link #discoveredStreams}, responses of other groups are returned as is
+	 *
+	 * @param command endpoint group
+	 * @param groupResponse response of the group
+	 * @return reduced response
 	 */
-	@Override
-	protected void internalDestroy() {
-		if (logger.isDebugEnabled()) {
-			logger.debug("Internal destroy is called.");
+	private JsonNode indexDiscoveredStreams(CrestronCommand command, JsonNode groupResponse) {
+		if (command != CrestronCommand.STREAM_AVAILABLE || groupResponse == null) {
+			return groupResponse;
 		}
-		localExtendedStatistics = null;
-		cacheKeyAndValue.clear();
-		cacheFilterValue.clear();
-		super.internalDestroy();
+		return discoveredStreams.update(groupResponse, cacheFilterValue.get(CrestronPropertyList.AVAILABLE_UNIQUE_ID.getPropertyKey()), maxDiscoveredStreams);
 	}
 
 	/**
-	 * {@inheritDoc}
+	 * Compute fingerprint of a raw payload from its length and hash
+	 *
+	 * @param response raw payload
+	 * @return fingerprint
 	 */
-	@Override
-	protected HttpHeaders putExtraRequestHeaders(HttpMethod httpMethod, String uri, HttpHeaders headers) throws Exception {
-		headers.set("Content-Type", "application/json");
-		if (StringUtils.isNotNullOrEmpty(this.authenticationCookie)) {
-			headers.set(CrestronConstant.COOKIE, this.authenticationCookie);
-		}
-		return super.putExtraRequestHeaders(httpMethod, uri, headers);
+	private long computeFingerprint(String response) {
+		return ((long) response.length() << 32) | (response.hashCode() & 0xffffffffL);
 	}
 
 	/**
-	 * Send GET request to retrieve all monitoring and controllable properties of Crestron device.
+	 * Send GET request to retrieve device mode
+	 *
+	 * @param isSessionReused true if the session was not renewed by a login in this cycle
+	 * @throws ResourceNotReachableException if the device does not answer with a reused session
 	 */
-	private void retrieveMonitoringAndControllableProperties() throws Exception {
-		if (!isValidCookie()) {
-			throw new FailedLoginException(String.format("Failed to login to device: %s.", this.authenticationCookie));
+	private void retrieveDeviceMode(boolean isSessionReused) throws FailedLoginException {
+		bulkResponse = isBulkFetchEligible() ? retrieveBulkResponse() : null;
+		JsonNode response = extractApiResponseByGroup(CrestronCommand.DEVICE_SPECIFIC.getCommand(), bulkResponse);
+		if (response != null) {
+			response = retainCachedResponse(CrestronCommand.DEVICE_SPECIFIC.getGroupCommand(), response);
+		} else {
+			response = toGroupResponse(CrestronCommand.DEVICE_SPECIFIC, sendGetRawCommand(CrestronCommand.DEVICE_SPECIFIC.getCommand(), false));
+			if (response == null && Boolean.FALSE.equals(bulkFetchProbeResult)) {
+				// device did not answer the single group either, the bulk probe is inconclusive
+				bulkFetchProbeResult = null;
+			}
+			if (response == null && isSessionReused) {
+				// without a login this is the first request of the cycle, a device that does not answer it is reported as unreachable
+				session.invalidate();
+				throw new ResourceNotReachableException(String.format("Failed to retrieve device mode of device %s", getHost()));
+			}
 		}
+		cacheDeviceSpecific(response);
+	}
 
-		for (CrestronCommand command : CrestronCommand.values()) {
-			String groupName = command.getGroupCommand();
-			String apiGroup = command.getCommand();
-			if (Objects.equals(CrestronConstant.NONE, this.deviceMode) || (!Objects.equals(command.getDeviceMode(), CrestronConstant.EMPTY) && !Objects.equals(this.deviceMode, command.getDeviceMode())) ||
-					groupName.equals(CrestronCommand.DEVICE_SPECIFIC.getGroupCommand()) || groupName.equals(CrestronCommand.INPUT_ROUTING.getGroupCommand())) continue;
+	/**
+	 * Cache device specific response, which also holds input routing, and update device mode
+	 *
+	 * @param response device specific response, null if not retrieved
+	 */
+	private void cacheDeviceSpecific(JsonNode response) {
+		cacheKeyAndValue.put(CrestronCommand.DEVICE_SPECIFIC.getGroupCommand(), response);
+		cacheKeyAndValue.put(CrestronCommand.INPUT_ROUTING.getGroupCommand(), response);
+		this.deviceMode = response != null ? getDefaultValueForNullData(response.get(CrestronConstant.DEVICE_MODE)) : CrestronConstant.NONE;
+	}
 
-			JsonNode response = sendGetCommand(apiGroup);
-			cacheKeyAndValue.put(groupName, extractApiResponseByGroup(apiGroup, response));
-		}
+	/**
+	 * Cache every group of a whole Device object as if it was polled, used to replay recorded responses
+	 *
+	 * @param response raw whole Device object
+	 */
+	void cacheDeviceResponse(String response) {
+		cacheDeviceResponse(parseResponse(ExtractionPlan.forDevice(), CrestronUri.DEVICE_API, response));
 	}
 
 	/**
-	 * Send GET request to retrieve device mode
+	 * Cache every group of a parsed Device object as if it was polled
+	 *
+	 * @param device whole Device object, pruned by {@link ExtractionPlan#forDevice()} or not
 	 */
-	private void retrieveDeviceMode() throws FailedLoginException {
-		JsonNode response = sendGetCommand(CrestronCommand.DEVICE_SPECIFIC.getCommand());
-		cacheKeyAndValue.put(CrestronCommand.DEVICE_SPECIFIC.getGroupCommand(), extractApiResponseByGroup(CrestronCommand.DEVICE_SPECIFIC.getCommand(), response));
-		cacheKeyAndValue.put(CrestronCommand.INPUT_ROUTING.getGroupCommand(), cacheKeyAndValue.get(CrestronCommand.DEVICE_SPECIFIC.getGroupCommand()));
-		JsonNode deviceSpecific = cacheKeyAndValue.get(CrestronCommand.DEVICE_SPECIFIC.getGroupCommand());
-		this.deviceMode = deviceSpecific != null ? getDefaultValueForNullData(deviceSpecific.get(CrestronConstant.DEVICE_MODE)) : CrestronConstant.NONE;
+	void cacheDeviceResponse(JsonNode device) {
+		cacheDeviceSpecific(extractApiResponseByGroup(CrestronCommand.DEVICE_SPECIFIC.getCommand(), device));
+		for (CrestronCommand command : CrestronCommand.values()) {
+			if (command == CrestronCommand.DEVICE_SPECIFIC || command == CrestronCommand.INPUT_ROUTING || !Objects.equals(CrestronConstant.EMPTY, command.getDeviceMode()) && !Objects.equals(this.deviceMode, command.getDeviceMode())) {
+				continue;
+			}
+			cacheKeyAndValue.put(command.getGroupCommand(), indexDiscoveredStreams(command, extractApiResponseByGroup(command.getCommand(), device)));
+		}
 	}
 
 	/**
@@ -653,16 +2425,57 @@ public class CrestronNVXCommunicator extends RestCommunicator implements Monitor
 	 * @param isForcePopulate force populate specific value if need
 	 * @param forcePopulateGroup name of group to force populate
 	 */
-	private void populateMonitoringAndControllableProperties(Map<String, String> stats, Map<String, String> controlStats, List<AdvancedControllableProperty> advancedControllableProperties,
+	void populateMonitoringAndControllableProperties(Map<String, String> stats, Map<String, String> controlStats, List<AdvancedControllableProperty> advancedControllableProperties,
 			boolean isForcePopulate, String forcePopulateGroup) throws Exception {
-		for (CrestronPropertyList property : CrestronPropertyList.values()) {
+		this.populateTimestamp = new Date();
+		if (isForcePopulate) {
+			populateProperties(stats, controlStats, advancedControllableProperties, PROPERTIES_BY_GROUP.getOrDefault(forcePopulateGroup, Collections.emptyList()));
+			return;
+		}
+		for (Entry<String, List<CrestronPropertyList>> group : PROPERTIES_BY_GROUP.entrySet()) {
+			List<JsonNode> sources = new ArrayList<>();
+			for (String apiGroupName : API_GROUPS_BY_GROUP.get(group.getKey())) {
+				sources.add(cacheKeyAndValue.get(apiGroupName));
+			}
+
+			populatedGroupCount++;
+			PopulatedGroup populatedGroup = populatedGroups.get(group.getKey());
+			if (populatedGroup != null && populatedGroup.isPopulatedFrom(sources, this.deviceMode, cacheFilterValue)) {
+				reusedGroupCount++;
+			} else {
+				populatedGroup = new PopulatedGroup(sources, this.deviceMode, cacheFilterValue);
+				populateProperties(populatedGroup.getStats(), populatedGroup.getControlStats(), populatedGroup.getAdvancedControllableProperties(), group.getValue());
+				populatedGroups.put(group.getKey(), populatedGroup);
+			}
+			populatedGroup.copyTo(stats, controlStats, advancedControllableProperties);
+		}
+	}
+
+	/**
+	 * Drop the populated groups so every group is populated again in the next cycle
+	 */
+	void invalidatePopulatedGroups() {
+		populatedGroups.clear();
+	}
+
+	/**
+	 * Populate monitoring and controllable properties of a group
+	 *
+	 * @param stats store monitoring properties
+	 * @param controlStats store control properties
+	 * @param advancedControllableProperties store controllable properties
+	 * @param properties properties of the group
+	 */
+	private void populateProperties(Map<String, String> stats, Map<String, String> controlStats, List<AdvancedControllableProperty> advancedControllableProperties,
+			List<CrestronPropertyList> properties) throws Exception {
+		for (CrestronPropertyList property : properties) {
 			String apiGroupName = property.getApiGroupName();
 			JsonNode apiResponse = cacheKeyAndValue.get(apiGroupName);
 
-			if (apiResponse == null || apiResponse.asText().contains(CrestronConstant.UNSUPPORT_RESTAPI) || isForcePopulate && !forcePopulateGroup.equals(property.getGroup()) ||
+			if (apiResponse == null || isUnsupportedResponse(apiResponse) ||
 					CrestronConstant.NONE.equals(this.deviceMode) || (!Objects.equals(CrestronConstant.EMPTY, property.getDeviceMode()) && !Objects.equals(this.deviceMode, property.getDeviceMode()))) continue;
 
-			String propertyName = property.getGroup().concat(property.getName());
+			String propertyName = property.getPropertyKey();
 			String propertyValue = capitalizeBooleanString(getDefaultValueForNullData(apiResponse.get(property.getApiPropertyName())));
 			switch (property) {
 				case MODEL:
@@ -702,8 +2515,7 @@ public class CrestronNVXCommunicator extends RestCommunicator implements Monitor
 					break;
 				case IGMP_SUPPORT:
 					if (!CrestronConstant.NONE.equals(propertyValue)) {
-						String[] supportVersion = { "v2", "v3" };
-						addAdvancedControlProperties(advancedControllableProperties, controlStats, createDropdown(propertyName, supportVersion, propertyValue), propertyValue);
+						addAdvancedControlProperties(advancedControllableProperties, controlStats, createDropdown(propertyName, IGMP_VERSIONS, propertyValue), propertyValue);
 					}
 					break;
 				case TTL:
@@ -717,7 +2529,7 @@ public class CrestronNVXCommunicator extends RestCommunicator implements Monitor
 				case AUTO_UPDATE:
 				case CLOUD_CONFIGURATION_SERVICE_CONNECTION:
 					if (property == CrestronPropertyList.AUTOMATIC_INPUT_ROUTING) {
-						DeviceModel model = getDeviceModel(stats);
+						DeviceModel model = getDeviceModel();
 						if (model != DeviceModel.DM_NVX_350 && model != DeviceModel.DM_NVX_352) {
 							break;
 						}
@@ -807,24 +2619,19 @@ public class CrestronNVXCommunicator extends RestCommunicator implements Monitor
 					break;
 				case RECEIVE_UUID:
 				case TRANSMIT_UUID:
-					Streams stream = objectMapper.treeToValue(apiResponse, Streams.class);
-					if (!stream.getStreams().isEmpty()) {
-						this.currentStream = objectMapper.valueToTree(stream.getStreams().get(0));
-					} else {
-						this.currentStream = null;
-					}
+					JsonNode streams = apiResponse.get(CrestronConstant.STREAMS);
+					this.currentStream = streams != null && streams.isArray() && !streams.isEmpty() ? streams.get(0) : null;
 					break;
 				case TRANSMIT_MODE:
 				case RECEIVE_MODE:
-					DeviceModel deviceModel = getDeviceModel(stats);
+					DeviceModel deviceModel = getDeviceModel();
 					if (deviceModel != DeviceModel.DM_NVX_350 && deviceModel != DeviceModel.DM_NVX_352) {
 						stats.put(propertyName, this.deviceMode);
 						break;
 					}
 
 					if (!CrestronConstant.NONE.equals(this.deviceMode)) {
-						String[] modes = { "Transmitter", "Receiver" };
-						addAdvancedControlProperties(advancedControllableProperties, controlStats, createDropdown(propertyName, modes, this.deviceMode), this.deviceMode);
+						addAdvancedControlProperties(advancedControllableProperties, controlStats, createDropdown(propertyName, DEVICE_MODES, this.deviceMode), this.deviceMode);
 					}
 					break;
 				case TRANSMIT_DEVICE_NAME:
@@ -846,21 +2653,33 @@ public class CrestronNVXCommunicator extends RestCommunicator implements Monitor
 						stats.put(propertyName, getDefaultValueForNullData(currentStream.get(property.getApiPropertyName())));
 					}
 					break;
-				case SUB_UNIQUE_ID:
 				case AVAILABLE_UNIQUE_ID:
+					if (discoveredStreams.getUniqueIds().length == 0) {
+						// a response restored from a snapshot is not indexed yet
+						discoveredStreams.update(apiResponse, cacheFilterValue.get(propertyName), maxDiscoveredStreams);
+					}
+					String[] availableIds = discoveredStreams.getUniqueIds();
+					this.currentStream = null;
+					if (availableIds.length == 0) break;
+
+					String availableId = cacheFilterValue.get(propertyName);
+					if (!discoveredStreams.contains(availableId)) {
+						availableId = availableIds[0];
+					}
+					this.currentStream = StreamIndex.getDetail(apiResponse, availableId);
+					addAdvancedControlProperties(advancedControllableProperties, controlStats, createDropdown(propertyName, availableIds, availableId), availableId);
+					break;
+				case SUB_UNIQUE_ID:
 					String uniqueId = cacheFilterValue.get(propertyName);
 					List<String> uniqueIds = new ArrayList<>();
 					Iterator<Entry<String, JsonNode>> fields = null;
 					JsonNode streamType = null;
 					this.currentStream = null;
 
-					if (property == CrestronPropertyList.SUB_UNIQUE_ID && apiResponse.has(CrestronConstant.SUBSCRIPTIONS)) {
+					if (apiResponse.has(CrestronConstant.SUBSCRIPTIONS)) {
 						JsonNode subscriptionJson = apiResponse.get(CrestronConstant.SUBSCRIPTIONS);
 						streamType = subscriptionJson;
 						fields = subscriptionJson.fields();
-					} else if (property == CrestronPropertyList.AVAILABLE_UNIQUE_ID && apiResponse.has(CrestronConstant.STREAMS)) {
-						fields = apiResponse.get(CrestronConstant.STREAMS).fields();
-						streamType = apiResponse.get(CrestronConstant.STREAMS);
 					}
 
 					if (fields == null) break;
@@ -893,6 +2712,9 @@ public class CrestronNVXCommunicator extends RestCommunicator implements Monitor
 				case SUB_BITRATE:
 				case SUB_TRANSPORT:
 				case SUB_ENCRYPTION:
+					if (this.currentStream == null) break;
+					stats.put(propertyName, capitalizeBooleanString(getDefaultValueForNullData(this.currentStream.get(property.getApiPropertyName()))));
+					break;
 				case AVAILABLE_ENCRYPTION:
 				case AVAILABLE_TRANSPORT:
 				case AVAILABLE_SESSION_NAME:
@@ -901,17 +2723,23 @@ public class CrestronNVXCommunicator extends RestCommunicator implements Monitor
 				case AVAILABLE_RESOLUTION:
 				case AVAILABLE_AUDIO_FORMAT:
 				case AVAILABLE_BITRATE:
-					if (this.currentStream == null) break;
+					if (this.currentStream == null) {
+						// the detail of a newly selected stream is retrieved by the next cycle, the values of the previous stream are not kept meanwhile
+						if (discoveredStreams.getUniqueIds().length > 0) {
+							stats.put(propertyName, CrestronConstant.NONE);
+						}
+						break;
+					}
 					stats.put(propertyName, capitalizeBooleanString(getDefaultValueForNullData(this.currentStream.get(property.getApiPropertyName()))));
 					break;
 				case ANALOG_AUDIO_MODE:
-					DeviceModel model = getDeviceModel(stats);
+					DeviceModel model = getDeviceModel();
 					if (model != DeviceModel.DM_NVX_350 && model != DeviceModel.DM_NVX_352) break;
 
 					AudioMode mode = AudioMode.getEnumByValue(propertyValue);
 					if (mode != null) {
 						addAdvancedControlProperties(advancedControllableProperties, controlStats,
-								createDropdown(propertyName, Arrays.stream(AudioMode.values()).map(AudioMode::getValue).toArray(String[]::new), mode.getValue()), mode.getValue());
+								createDropdown(propertyName, AUDIO_MODE_VALUES, mode.getValue()), mode.getValue());
 					}
 					break;
 				default:
@@ -921,25 +2749,252 @@ public class CrestronNVXCommunicator extends RestCommunicator implements Monitor
 	}
 
 	/**
-	 * Send GET request to get monitoring property
+	 * Send GET request to get raw monitoring payload, logging in again once if the device rejects the session
+	 *
+	 * @param uri device api
+	 * @param isRetry true if the request is already retried after a new login
+	 * @return raw response or null if the request failed
+	 */
+	private String sendGetRawCommand(String uri, boolean isRetry) throws FailedLoginException {
+		return sendGetRawCommand(uri, 0, isRetry);
+	}
+
+	/**
+	 * Send GET request to get raw monitoring payload, logging in again once if the device rejects the session
+	 *
+	 * @param uri device api
+	 * @param timeout socket timeout of the request in milliseconds, 0 for the adapter timeout
+	 * @param isRetry true if the request is already retried after a new login
+	 * @return raw response or null if the request failed
+	 */
+	private String sendGetRawCommand(String uri, int timeout, boolean isRetry) throws FailedLoginException {
+		String cookie = session.getCookie();
+		try {
+			String response = httpTransport != null ? readResponseBody(uri, sendAsync(CrestronConstant.GET, uri, null, timeout > 0 ? timeout : getTimeout(), false).get()) : doTimedGet(uri, timeout);
+			if (isLoginPage(response)) {
+				throw new FailedLoginException("Session is redirected to login page");
+			}
+			return response;
+		} catch (FailedLoginException e) {
+			if (!isRetry && renewSession(cookie)) {
+				return sendGetRawCommand(uri, timeout, true);
+			}
+			throw new FailedLoginException("Failed login to device");
+		} catch (CommandFailureException e) {
+			throw new ResourceNotReachableException("An error occur when send api request to " + uri, e);
+		} catch (ExecutionException e) {
+			logger.error("An error when send api request to " + uri, e.getCause());
+		} catch (Exception e) {
+			logger.error("An error when send api request to " + uri, e);
+		}
+		return null;
+	}
+
+	/**
+	 * Send a request to the device api through {@link #httpTransport} with the session cookie.
+	 * A request throttled by {@link #requestGovernor} is queued without blocking the caller and sent once it is granted.
+	 *
+	 * @param method http method
+	 * @param uri device api
+	 * @param body request body, null if the request has no body
+	 * @param timeout time in milliseconds to wait for the whole response
+	 * @param isPriority true for controls, granted before polling requests
+	 * @return future response, cancelling it removes a queued request or aborts a sent one
+	 */
+	private CompletableFuture<HttpResult> sendAsync(String method, String uri, byte[] body, long timeout, boolean isPriority) {
+		Map<String, String> headers = new HashMap<>();
+		headers.put("Content-Type", "application/json");
+		String cookie = session.getCookie();
+		if (StringUtils.isNotNullOrEmpty(cookie)) {
+			headers.put(CrestronConstant.COOKIE, cookie);
+		}
+		String url = getProtocol() + "://" + getHost() + CrestronConstant.COLON + getPort() + "/" + uri;
+		AsyncHttpTransport transport = httpTransport;
+		ExecutorService dispatcher = requestDispatcher;
+		CompletableFuture<HttpResult> response = new CompletableFuture<>();
+		if (transport == null || dispatcher == null) {
+			response.completeExceptionally(new IllegalStateException("The adapter of device " + getHost() + " is destroyed"));
+			return response;
+		}
+		RequestGovernor governor = requestGovernor;
+		CompletableFuture<Void> slot = governor == null ? CompletableFuture.completedFuture(null) : governor.acquireAsync(isPriority, getTimeout());
+		// a slot granted at once is sent by the caller, a queued one is granted on a shared thread and handed to the dispatcher
+		boolean isQueued = !slot.isDone();
+		slot.whenComplete((granted, slotError) -> {
+			if (slotError != null) {
+				if (!response.isDone()) {
+					requestMetrics.recordError(uri);
+					response.completeExceptionally(slotError instanceof TimeoutException
+							? new TimeoutException(String.format("Request to device %s is throttled for more than %s ms", getHost(), getTimeout())) : slotError);
+				}
+				return;
+			}
+			if (!isQueued) {
+				dispatchRequest(transport, governor, method, url, uri, headers, body, timeout, response);
+				return;
+			}
+			try {
+				dispatcher.execute(() -> dispatchRequest(transport, governor, method, url, uri, headers, body, timeout, response));
+			} catch (RejectedExecutionException e) {
+				failRequest(governor, uri, response, e);
+			}
+		});
+		response.whenComplete((result, error) -> {
+			if (response.isCancelled()) {
+				slot.cancel(false);
+			}
+		});
+		return response;
+	}
+
+	/**
+	 * Send a request whose slot is granted, the slot is released once the exchange completes or fails
+	 *
+	 * @param transport transport captured when the request was queued
+	 * @param governor governor that granted the slot, null if requests are not governed
+	 * @param method http method
+	 * @param url full url of device api
+	 * @param uri device api, used for metrics
+	 * @param headers request headers
+	 * @param body request body, null if the request has no body
+	 * @param timeout time in milliseconds to wait for the whole response
+	 * @param response future completed with the response
+	 */
+	private void dispatchRequest(AsyncHttpTransport transport, RequestGovernor governor, String method, String url, String uri, Map<String, String> headers, byte[] body,
+			long timeout, CompletableFuture<HttpResult> response) {
+		if (response.isDone()) {
+			// cancelled by the caller while the slot was granted
+			if (governor != null) {
+				governor.release();
+			}
+			return;
+		}
+		long start = System.nanoTime();
+		CompletableFuture<HttpResult> exchange;
+		try {
+			exchange = transport.send(method, url, headers, body, timeout);
+		} catch (RuntimeException e) {
+			failRequest(governor, uri, response, e);
+			return;
+		}
+		exchange.whenComplete((result, error) -> {
+			if (governor != null) {
+				governor.release();
+			}
+			if (error != null || result.getStatusCode() >= 400) {
+				requestMetrics.recordError(uri);
+			} else {
+				requestMetrics.recordRequest(uri, start, result.getBody() == null ? 0 : result.getBody().length());
+			}
+			if (error != null) {
+				response.completeExceptionally(error);
+			} else {
+				response.complete(result);
+			}
+		});
+		response.whenComplete((result, error) -> {
+			if (response.isCancelled()) {
+				exchange.cancel(true);
+			}
+		});
+	}
+
+	/**
+	 * Release the slot of a request that could not be sent and complete its response with the error
 	 */
-	private JsonNode sendGetCommand(String uri) throws FailedLoginException {
-		try {
-			String response = this.doGet(uri, String.class);
-			if (StringUtils.isNotNullOrEmpty(response)) {
-				return objectMapper.readTree(response);
-			}
-		} catch (FailedLoginException e) {
-			throw new FailedLoginException("Failed login to device");
-		} catch (CommandFailureException e) {
-			throw new ResourceNotReachableException("An error occur when send api request to " + uri, e);
+	private void failRequest(RequestGovernor governor, String uri, CompletableFuture<HttpResult> response, Exception error) {
+		if (governor != null) {
+			governor.release();
+		}
+		requestMetrics.recordError(uri);
+		response.completeExceptionally(error);
+	}
+
+	/**
+	 * Get body of a response received through {@link #httpTransport}, failing like the rest template does
+	 *
+	 * @param uri device api
+	 * @param result response
+	 * @return response body
+	 * @throws FailedLoginException if the device rejects the session
+	 * @throws CommandFailureException if the device answers with an error status
+	 */
+	private String readResponseBody(String uri, HttpResult result) throws FailedLoginException {
+		int statusCode = result.getStatusCode();
+		if (statusCode == 401 || statusCode == 403) {
+			throw new FailedLoginException("Invalid authentication credentials for " + uri);
+		}
+		if (statusCode >= 400) {
+			throw new CommandFailureException(getAddress(), uri, result.getBody(), statusCode);
+		}
+		return result.getBody();
+	}
+
+	/**
+	 * Parse raw monitoring payload, keeping only the fields read by the adapter
+	 *
+	 * @param plan fields to keep
+	 * @param uri device api the payload is retrieved from
+	 * @param response raw response
+	 * @return parsed response or null if the response is empty or invalid
+	 */
+	private JsonNode parseResponse(ExtractionPlan plan, String uri, String response) {
+		if (StringUtils.isNullOrEmpty(response)) {
+			return null;
+		}
+		try (JsonParser parser = objectMapper.getFactory().createParser(response)) {
+			return plan.read(parser);
 		} catch (Exception e) {
-			countMonitoringAndControllingCommand++;
-			logger.error("An error when send api request to " + uri, e);
+			logger.error("An error when parse api response of " + uri, e);
 		}
 		return null;
 	}
 
+	/**
+	 * Populate adapter metrics
+	 *
+	 * @param stats store monitoring properties
+	 */
+	private void populateAdapterMetrics(Map<String, String> stats) {
+		stats.put(CrestronConstant.ADAPTER_METRICS_GROUP + "UnchangedPayloadRatio(%)", formatRatio(unchangedPayloadCount, receivedPayloadCount));
+		stats.put(CrestronConstant.ADAPTER_METRICS_GROUP + "ReusedGroupRatio(%)", formatRatio(reusedGroupCount, populatedGroupCount));
+		stats.put(CrestronConstant.ADAPTER_METRICS_GROUP + "SkippedControlWrites", String.valueOf(skippedControlCount.get()));
+		requestMetrics.populate(stats);
+		if (discoveredStreams.getStreamCount() > 0) {
+			stats.put(CrestronConstant.ADAPTER_METRICS_GROUP + "RetainedDiscoveredStreams", discoveredStreams.getUniqueIds().length + "/" + discoveredStreams.getStreamCount());
+		}
+		PingResult pingResult = lastPingResult;
+		if (pingResult != null) {
+			stats.put(CrestronConstant.ADAPTER_METRICS_GROUP + "PingMin(ms)", String.format("%.1f", pingResult.getMin()));
+			stats.put(CrestronConstant.ADAPTER_METRICS_GROUP + "PingAvg(ms)", String.format("%.1f", pingResult.getAverage()));
+			stats.put(CrestronConstant.ADAPTER_METRICS_GROUP + "PingMax(ms)", String.format("%.1f", pingResult.getMax()));
+			stats.put(CrestronConstant.ADAPTER_METRICS_GROUP + "PingSuccessfulAttempts", pingResult.getSuccessCount() + "/" + pingResult.getAttempts());
+		}
+		CircuitBreaker breaker = circuitBreaker;
+		if (breaker != null) {
+			stats.put(CrestronConstant.ADAPTER_METRICS_GROUP + "CircuitBreakerState", breaker.getState().getName());
+			stats.put(CrestronConstant.ADAPTER_METRICS_GROUP + "CircuitBreakerOpenCount", String.valueOf(breaker.getOpenCount()));
+			stats.put(CrestronConstant.ADAPTER_METRICS_GROUP + "CircuitBreakerProbeCount", String.valueOf(breaker.getProbeCount()));
+		}
+		RequestGovernor governor = requestGovernor;
+		if (governor != null) {
+			stats.put(CrestronConstant.ADAPTER_METRICS_GROUP + "GovernorQueueDepth", String.valueOf(governor.getQueueDepth()));
+			stats.put(CrestronConstant.ADAPTER_METRICS_GROUP + "GovernorThrottledRequests", String.valueOf(governor.getThrottledCount()));
+			stats.put(CrestronConstant.ADAPTER_METRICS_GROUP + "GovernorTimedOutRequests", String.valueOf(governor.getTimeoutCount()));
+		}
+	}
+
+	/**
+	 * Format ratio of two counters as percentage
+	 *
+	 * @param count counter
+	 * @param total total counter
+	 * @return percentage with one decimal
+	 */
+	private String formatRatio(long count, long total) {
+		return total == 0 ? CrestronConstant.NONE : String.format("%.1f", count * 100.0 / total);
+	}
+
 	/**
 	 * Send POST request command to control device
 	 *
@@ -952,31 +3007,17 @@ public class CrestronNVXCommunicator extends RestCommunicator implements Monitor
 	 */
 	private void sendControlCommand(String uri, String name, String param, String fieldName, Object value, boolean isRequireReboot) throws Exception {
 		try {
-			HashMap<String, Object> body = new HashMap<>();
-			body.put(fieldName, value);
-
-			JsonNode jsonBody = objectMapper.readTree(String.format(param, objectMapper.writeValueAsString(body)));
-			String response = this.doPost(uri, jsonBody, String.class);
-			JsonNode jsonResponse = objectMapper.readTree(response);
-			JsonNode actions = jsonResponse.get(CrestronConstant.ACTIONS);
-
-			if (response == null || actions == null || actions.get(0) == null) {
-				throw new IllegalArgumentException(String.format("Failed to send control command %s to control %s", uri, name));
-			}
-
-			JsonNode results = actions.get(0).get(CrestronConstant.RESULTS);
-			if (results == null || !results.isArray() || results.isEmpty()) return;
+			String response = postControlBody(uri, buildControlBody(param, fieldName, value));
+			Integer statusId = parseControlStatus(uri, name, response);
 
-			List<JsonNode> status = objectMapper.readerFor(new TypeReference<List<JsonNode>>() {}).readValue(results);
-			int statusId = Integer.parseInt(status.get(0).get(CrestronConstant.STATUS_ID).asText());
+			if (statusId == null) return;
 			if (statusId < 0) {
 				throw new IllegalArgumentException(String.format("Failed to send control command %s to control %s with status id %s", uri, name, statusId));
 			}
 
 			// Crestron device require rebooting for some controls to take effect
 			if (isRequireReboot) {
-				CrestronControlCommand reboot = CrestronControlCommand.REBOOT;
-				sendControlCommand(reboot.getUrl(), reboot.getName(), reboot.getParam(), reboot.getApiProperty(), true, false);
+				requestReboot();
 			}
 		} catch (Exception e) {
 			throw new IllegalArgumentException(String.format("Can't control %s with value is %s. ", name, value), e);
@@ -984,13 +3025,284 @@ public class CrestronNVXCommunicator extends RestCommunicator implements Monitor
 	}
 
 	/**
-	 * Send POST request command to control date time
+	 * Send controls of the same endpoint in one POST request, each field result is checked separately
 	 *
-	 * @param stats store monitoring properties
-	 * @param item command to be sent
-	 * @param value to send to device
+	 * @param uri device api
+	 * @param controls controls sent to the endpoint
+	 * @return controls accepted by the device
+	 */
+	private List<PreparedControl> sendBatchControlCommand(String uri, List<PreparedControl> controls) {
+		List<PreparedControl> appliedControls = new ArrayList<>();
+		try {
+			ObjectNode jsonBody = objectMapper.createObjectNode();
+			for (PreparedControl control : controls) {
+				mergeControlBody(jsonBody, buildControlBody(control.getCommand().getParam(), control.getCommand().getApiProperty(), control.getValue()));
+			}
+			String response = postControlBody(uri, jsonBody);
+			JsonNode results = parseControlResults(uri, controls.get(0).getCommand().getName(), response);
+			for (PreparedControl control : controls) {
+				Integer statusId = findControlStatus(results, control.getCommand().getApiProperty());
+				if (statusId != null && statusId < 0) {
+					logger.error(String.format("Error when control property %s", control.getProperty()),
+							new IllegalArgumentException(String.format("Failed to send control command %s to control %s with status id %s", uri, control.getCommand().getName(), statusId)));
+				} else {
+					appliedControls.add(control);
+				}
+			}
+		} catch (Exception e) {
+			for (PreparedControl control : controls) {
+				logger.error(String.format("Error when control property %s", control.getProperty()), e);
+			}
+		}
+		return appliedControls;
+	}
+
+	/**
+	 * Send POST request with a control body and request the changed group again in the next cycle
+	 *
+	 * @param uri device api
+	 * @param jsonBody request body
+	 * @return raw response
+	 */
+	private String postControlBody(String uri, JsonNode jsonBody) throws Exception {
+		String cookie = session.getCookie();
+		String response;
+		try {
+			response = sendPostRawCommand(uri, jsonBody);
+		} catch (FailedLoginException e) {
+			// the session is dropped by a reboot, e.g. a deferred one
+			if (!renewSession(cookie)) {
+				throw e;
+			}
+			response = sendPostRawCommand(uri, jsonBody);
+		}
+
+		// the changed group has to be requested again in the next cycle regardless of its polling interval
+		CrestronCommand changedGroup = CrestronCommand.getEnumByUri(uri);
+		if (changedGroup != null) {
+			changedGroups.add(changedGroup);
+		}
+		return response;
+	}
+
+	/**
+	 * Send POST request with the current session
+	 *
+	 * @param uri device api
+	 * @param jsonBody request body
+	 * @return raw response
+	 */
+	private String sendPostRawCommand(String uri, JsonNode jsonBody) throws Exception {
+		if (httpTransport != null) {
+			return readResponseBody(uri, sendAsync(CrestronConstant.POST, uri, objectMapper.writeValueAsBytes(jsonBody), getTimeout(), true).get());
+		}
+		RequestGovernor governor = acquireRequestSlot(true);
+		long start = System.nanoTime();
+		try {
+			String response = this.doPost(uri, jsonBody, String.class);
+			requestMetrics.recordRequest(uri, start, response == null ? 0 : response.length());
+			return response;
+		} catch (Exception e) {
+			requestMetrics.recordError(uri);
+			throw e;
+		} finally {
+			if (governor != null) {
+				governor.release();
+			}
+		}
+	}
+
+	/**
+	 * Send GET request and record its latency
+	 *
+	 * @param uri device api
+	 * @param timeout socket timeout of the request in milliseconds, 0 to send it with the rest template and the adapter timeout
+	 * @return raw response
+	 */
+	private String doTimedGet(String uri, int timeout) throws Exception {
+		RequestGovernor governor = acquireRequestSlot(false);
+		long start = System.nanoTime();
+		try {
+			String response = timeout > 0 ? executeGet(uri, timeout) : this.doGet(uri, String.class);
+			requestMetrics.recordRequest(uri, start, response == null ? 0 : response.length());
+			return response;
+		} catch (Exception e) {
+			requestMetrics.recordError(uri);
+			throw e;
+		} finally {
+			if (governor != null) {
+				governor.release();
+			}
+		}
+	}
+
+	/**
+	 * Send GET request with the http client of the rest template and a request specific timeout, failing like the rest template does
+	 *
+	 * @param uri device api
+	 * @param timeout connect and socket timeout in milliseconds
+	 * @return raw response
+	 * @throws FailedLoginException if the device rejects the session
+	 * @throws CommandFailureException if the device answers with an error status
+	 */
+	private String executeGet(String uri, int timeout) throws Exception {
+		HttpGet httpGet = new HttpGet(getProtocol() + "://" + getHost() + CrestronConstant.COLON + getPort() + "/" + uri);
+		httpGet.setConfig(RequestConfig.custom().setConnectTimeout(timeout).setConnectionRequestTimeout(timeout).setSocketTimeout(timeout).build());
+		httpGet.setHeader("Content-Type", "application/json");
+		String cookie = session.getCookie();
+		if (StringUtils.isNotNullOrEmpty(cookie)) {
+			httpGet.setHeader(CrestronConstant.COOKIE, cookie);
+		}
+		HttpResponse response = this.obtainHttpClient(true).execute(httpGet);
+		String body = response.getEntity() != null ? EntityUtils.toString(response.getEntity(), StandardCharsets.UTF_8) : null;
+		int statusCode = response.getStatusLine().getStatusCode();
+		if (statusCode == 401 || statusCode == 403) {
+			throw new FailedLoginException("Invalid authentication credentials for " + uri);
+		}
+		if (statusCode >= 400) {
+			throw new CommandFailureException(getAddress(), uri, body, statusCode);
+		}
+		return body;
+	}
+
+	/**
+	 * Wait until {@link #requestGovernor} grants a request to the device
+	 *
+	 * @param isPriority true for controls and logins, granted before polling requests
+	 * @return governor to release once the request completes, null if requests are not limited
+	 * @throws TimeoutException if the request is not granted within the adapter timeout
+	 */
+	private RequestGovernor acquireRequestSlot(boolean isPriority) throws Exception {
+		RequestGovernor governor = requestGovernor;
+		if (governor == null) {
+			return null;
+		}
+		try {
+			if (!governor.acquire(isPriority, getTimeout())) {
+				throw new TimeoutException(String.format("Request to device %s is throttled for more than %s ms", getHost(), getTimeout()));
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw e;
+		}
+		return governor;
+	}
+
+	/**
+	 * Merge a control body into another one, objects are merged field by field and arrays element by element
+	 *
+	 * @param target body to merge into
+	 * @param source body to merge
+	 */
+	void mergeControlBody(JsonNode target, JsonNode source) {
+		if (target.isArray() && source.isArray()) {
+			ArrayNode targetArray = (ArrayNode) target;
+			for (int i = 0; i < source.size(); i++) {
+				if (i < targetArray.size() && targetArray.get(i).isContainerNode() && source.get(i).isContainerNode()) {
+					mergeControlBody(targetArray.get(i), source.get(i));
+				} else if (i < targetArray.size()) {
+					targetArray.set(i, source.get(i));
+				} else {
+					targetArray.add(source.get(i));
+				}
+			}
+			return;
+		}
+		ObjectNode targetObject = (ObjectNode) target;
+		Iterator<Entry<String, JsonNode>> fields = source.fields();
+		while (fields.hasNext()) {
+			Entry<String, JsonNode> field = fields.next();
+			JsonNode existing = targetObject.get(field.getKey());
+			if (existing != null && existing.getNodeType() == field.getValue().getNodeType() && existing.isContainerNode()) {
+				mergeControlBody(existing, field.getValue());
+			} else {
+				targetObject.set(field.getKey(), field.getValue());
+			}
+		}
+	}
+
+	/**
+	 * Build request body of a control command
+	 *
+	 * @param param request body template
+	 * @param fieldName name of field to control
+	 * @param value to set for specific field
+	 * @return request body
+	 */
+	JsonNode buildControlBody(String param, String fieldName, Object value) throws IOException {
+		HashMap<String, Object> body = new HashMap<>();
+		body.put(fieldName, value);
+		return objectMapper.readTree(String.format(param, objectMapper.writeValueAsString(body)));
+	}
+
+	/**
+	 * Parse response of a control command
+	 *
+	 * @param uri device api
+	 * @param name of control property field
+	 * @param response raw response
+	 * @return status id of the first result, null if the device does not report any result
+	 * @throws IllegalArgumentException if the response does not contain any action
+	 */
+	Integer parseControlStatus(String uri, String name, String response) throws IOException {
+		JsonNode results = parseControlResults(uri, name, response);
+		if (results == null) {
+			return null;
+		}
+		return Integer.parseInt(results.get(0).get(CrestronConstant.STATUS_ID).asText());
+	}
+
+	/**
+	 * Parse results of a control command
+	 *
+	 * @param uri device api
+	 * @param name of control property field
+	 * @param response raw response
+	 * @return results of the first action, null if the device does not report any result
+	 * @throws IllegalArgumentException if the response does not contain any action
+	 */
+	private JsonNode parseControlResults(String uri, String name, String response) throws IOException {
+		JsonNode actions = response == null ? null : objectMapper.readTree(response).get(CrestronConstant.ACTIONS);
+		if (actions == null || actions.get(0) == null) {
+			throw new IllegalArgumentException(String.format("Failed to send control command %s to control %s", uri, name));
+		}
+
+		JsonNode results = actions.get(0).get(CrestronConstant.RESULTS);
+		if (results == null || !results.isArray() || results.isEmpty()) {
+			return null;
+		}
+		return results;
+	}
+
+	/**
+	 * Find status id of a field in the results of a control command
+	 *
+	 * @param results results of the control command, null if the device does not report any result
+	 * @param fieldName name of the controlled field
+	 * @return status id of the field, null if it is unknown, i.e. no result names the field.
+	 * The status of another field is not used, a batch may reject one field and accept the others.
+	 */
+	private Integer findControlStatus(JsonNode results, String fieldName) {
+		if (results == null) {
+			return null;
+		}
+		for (JsonNode result : results) {
+			if (fieldName.equals(result.path(CrestronConstant.PROPERTY).asText())) {
+				return Integer.parseInt(result.get(CrestronConstant.STATUS_ID).asText());
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * Build date time value of a date or time control from the current date and time
+	 *
+	 * @param stats current monitoring properties
+	 * @param item date or time command
+	 * @param value new date or time
+	 * @return ISO date time to send or null if current date time is unknown
 	 */
-	private void controlDateTimeCommand(Map<String, String> stats, CrestronControlCommand item, String value) {
+	private String buildDateTimeValue(Map<String, String> stats, CrestronControlCommand item, String value) {
 		try {
 			if (StringUtils.isNullOrEmpty(value)) {
 				throw new IllegalArgumentException("Failed to send command to control date time due to invalid value " + value);
@@ -999,30 +3311,73 @@ public class CrestronNVXCommunicator extends RestCommunicator implements Monitor
 			String currentDate = stats.get("DateTime#Date");
 			String currentTime = stats.get("DateTime#Time");
 			String dateTimeString = "%s %s";
-			if (currentDate == null || currentTime == null) return;
+			if (currentDate == null || currentTime == null) return null;
 
 			String newDateTime = item == CrestronControlCommand.DATE ? String.format(dateTimeString, value, currentTime) : String.format(dateTimeString, currentDate, value);
-			String newDateTimeFormat = LocalDateTime.parse(newDateTime, datetimeFormat).atOffset(ZoneOffset.UTC).format(DateTimeFormatter.ISO_OFFSET_DATE_TIME);
-
-			sendControlCommand(item.getUrl(), item.getName(), item.getParam(), item.getApiProperty(), newDateTimeFormat, item.isRequireReboot());
+			return LocalDateTime.parse(newDateTime, datetimeFormat).atOffset(ZoneOffset.UTC).format(DateTimeFormatter.ISO_OFFSET_DATE_TIME);
 		} catch (Exception e) {
 			throw new IllegalArgumentException("Failed to send command to control date time ", e);
 		}
 	}
 
 	/**
-	 * Updates devices control value, after the control command was executed with the specified value.
+	 * Updates devices control values, after the control commands were executed with the specified values.
+	 * The current snapshot is copied and the copy is published, populated controls shared with the group cache are replaced rather than modified.
+	 *
+	 * @param controls controls accepted by the device, in the order they were sent
+	 */
+	private void updateLocalControlValues(List<PreparedControl> controls) {
+		controlLock.lock();
+		try {
+			ExtendedStatistics snapshot = this.localExtendedStatistics;
+			if (snapshot == null) {
+				return;
+			}
+			Map<String, String> stats = new HashMap<>(snapshot.getStatistics());
+			Map<String, String> values = new HashMap<>();
+			for (PreparedControl control : controls) {
+				stats.put(control.getProperty(), control.getLocalValue());
+				stats.putAll(control.getRelatedStats());
+				values.put(control.getProperty(), control.getLocalValue());
+			}
+			List<AdvancedControllableProperty> advancedControllableProperties = null;
+			if (snapshot.getControllableProperties() != null) {
+				Date timestamp = new Date();
+				advancedControllableProperties = new ArrayList<>(snapshot.getControllableProperties());
+				advancedControllableProperties.replaceAll(property -> values.containsKey(property.getName()) ?
+						new AdvancedControllableProperty(property.getName(), timestamp, property.getType(), values.get(property.getName())) : property);
+			}
+			publishControlSnapshot(stats, advancedControllableProperties, true);
+
+			// the written values are only confirmed by the next poll, a slider value may not even be sent yet
+			Map<String, String> confirmed = new HashMap<>(confirmedValues);
+			for (PreparedControl control : controls) {
+				confirmed.remove(control.getProperty());
+				confirmed.keySet().removeAll(control.getRelatedStats().keySet());
+			}
+			confirmedValues = confirmed;
+		} finally {
+			controlLock.unlock();
+		}
+	}
+
+	/**
+	 * Publish a snapshot changed by a control
 	 *
-	 * @param stats the stats are list of Statistics
-	 * @param advancedControllableProperties the advancedControllableProperty are AdvancedControllableProperty instance
-	 * @param name of the control property
-	 * @param value to set to the control property
+	 * @param stats monitoring properties
+	 * @param advancedControllableProperties controllable properties, null if config management is disabled
+	 * @param isDeviceStateChanged true if the control changed the device, a poll started before it must not overwrite the snapshot.
+	 * A filter selection only changes the cached filter values, which the poll populates from as well.
 	 */
-	private void updateLocalControlValue(Map<String, String> stats, List<AdvancedControllableProperty> advancedControllableProperties, String name, String value) {
-		stats.put(name, value);
-		advancedControllableProperties.stream().filter(advancedControllableProperty ->
-				name.equals(advancedControllableProperty.getName())).findFirst().ifPresent(advancedControllableProperty ->
-				advancedControllableProperty.setValue(value));
+	private void publishControlSnapshot(Map<String, String> stats, List<AdvancedControllableProperty> advancedControllableProperties, boolean isDeviceStateChanged) {
+		stats.put(CrestronConstant.PENDING_REBOOT, capitalizeBooleanString(String.valueOf(isRebootPending)));
+		ExtendedStatistics extendedStatistics = new ExtendedStatistics();
+		extendedStatistics.setStatistics(stats);
+		extendedStatistics.setControllableProperties(advancedControllableProperties);
+		localExtendedStatistics = extendedStatistics;
+		if (isDeviceStateChanged) {
+			controlGeneration++;
+		}
 	}
 
 	/**
@@ -1035,30 +3390,19 @@ public class CrestronNVXCommunicator extends RestCommunicator implements Monitor
 	 * @param property name of property
 	 */
 	private void populateAudioVideoInput(Map<String, String> stats, Map<String, String> controlStats, List<AdvancedControllableProperty> advancedControllableProperties, JsonNode apiResponse,
-			String groupName, CrestronPropertyList property) throws IOException {
-		String number = cacheFilterValue.get(CrestronConstant.INPUT_GROUP + CrestronPropertyList.INPUT_NO.getName());
-		if (!apiResponse.has(CrestronConstant.INPUTS)) return;
-
-		List<JsonNode> inputJson = objectMapper.readerFor(new TypeReference<List<JsonNode>>() {}).readValue(apiResponse.get(CrestronConstant.INPUTS));
-		JsonNode input = NullNode.getInstance();
-		JsonNode portInput = NullNode.getInstance();
-		List<JsonNode> portInputs;
-
-		if (inputJson == null || inputJson.isEmpty()) return;
+			String groupName, CrestronPropertyList property) {
+		String number = cacheFilterValue.get(CrestronPropertyList.INPUT_NO.getPropertyKey());
+		JsonNode inputJson = apiResponse.get(CrestronConstant.INPUTS);
+		if (inputJson == null || !inputJson.isArray() || inputJson.isEmpty()) return;
 
 		if (number == null || Integer.parseInt(number) - 1 >= inputJson.size()) {
 			number = "1";
 		}
 
 		int index = Integer.parseInt(number) - 1;
-		if (index >= 0 && index < inputJson.size()) {
-			input = inputJson.get(index);
-		}
-
-		if (input != null && !input.isNull() && input.has(CrestronConstant.PORTS)) {
-			portInputs = objectMapper.readerFor(new TypeReference<List<JsonNode>>() {}).readValue(input.get(CrestronConstant.PORTS));
-			portInput = portInputs != null && !portInputs.isEmpty() ? portInputs.get(0) : null;
-		}
+		JsonNode input = index >= 0 ? inputJson.get(index) : null;
+		JsonNode portInputs = input != null ? input.get(CrestronConstant.PORTS) : null;
+		JsonNode portInput = portInputs != null && portInputs.isArray() ? portInputs.get(0) : null;
 
 		if (portInput == null || portInput.isNull()) return;
 		switch (property) {
@@ -1113,29 +3457,19 @@ public class CrestronNVXCommunicator extends RestCommunicator implements Monitor
 	 * @param property name of property
 	 */
 	private void populateAudioVideoOutput(Map<String, String> stats, Map<String, String> controlStats, List<AdvancedControllableProperty> advancedControllableProperties, JsonNode apiResponse,
-			String groupName, CrestronPropertyList property) throws IOException {
-		String number = cacheFilterValue.get(CrestronConstant.OUTPUT_GROUP + CrestronPropertyList.OUTPUT_NO.getName());
-		if (!apiResponse.has(CrestronConstant.OUTPUTS)) return;
-
-		List<JsonNode> outputJson = objectMapper.readerFor(new TypeReference<List<JsonNode>>() {}).readValue(apiResponse.get(CrestronConstant.OUTPUTS));
-		JsonNode output = NullNode.getInstance();
-		JsonNode portOutput = NullNode.getInstance();
-		List<JsonNode> portOutputs;
+			String groupName, CrestronPropertyList property) {
+		String number = cacheFilterValue.get(CrestronPropertyList.OUTPUT_NO.getPropertyKey());
+		JsonNode outputJson = apiResponse.get(CrestronConstant.OUTPUTS);
+		if (outputJson == null || !outputJson.isArray() || outputJson.isEmpty()) return;
 
-		if (outputJson == null || outputJson.isEmpty()) return;
 		if (number == null || Integer.parseInt(number) - 1 >= outputJson.size()) {
 			number = "1";
 		}
 
 		int index = Integer.parseInt(number) - 1;
-		if (index >= 0 && index < outputJson.size()) {
-			output = outputJson.get(index);
-		}
-
-		if (output != null && !output.isNull() && output.has(CrestronConstant.PORTS)) {
-			portOutputs = objectMapper.readerFor(new TypeReference<List<JsonNode>>() {}).readValue(output.get(CrestronConstant.PORTS));
-			portOutput = portOutputs != null && !portOutputs.isEmpty() ? portOutputs.get(0) : null;
-		}
+		JsonNode output = index >= 0 ? outputJson.get(index) : null;
+		JsonNode portOutputs = output != null ? output.get(CrestronConstant.PORTS) : null;
+		JsonNode portOutput = portOutputs != null && portOutputs.isArray() ? portOutputs.get(0) : null;
 
 		if (portOutput == null || portOutput.isNull()) return;
 		switch (property) {
@@ -1196,17 +3530,14 @@ public class CrestronNVXCommunicator extends RestCommunicator implements Monitor
 	 * @param property name of property
 	 */
 	private void populateDateTime(Map<String, String> stats, Map<String, String> controlStats, List<AdvancedControllableProperty> advancedControllableProperties, JsonNode apiResponse, String groupName,
-			CrestronPropertyList property)
-			throws IOException {
+			CrestronPropertyList property) {
 		JsonNode ntpJson = apiResponse.get(CrestronConstant.NTP);
 		String value = getDefaultValueForNullData(apiResponse.get(property.getApiPropertyName()));
 		switch (property) {
 			case NTPTIMESERVERS:
-				if (!ntpJson.has(CrestronConstant.SERVERS_CURRENT_KEY_LIST)) break;
+				if (ntpJson == null || !ntpJson.has(CrestronConstant.SERVERS_CURRENT_KEY_LIST)) break;
 
-				List<JsonNode> serverCurrentKeyListJson = objectMapper.readerFor(new TypeReference<List<JsonNode>>() {
-				}).readValue(ntpJson.get(CrestronConstant.SERVERS_CURRENT_KEY_LIST));
-				for (JsonNode serverCurrentKey : serverCurrentKeyListJson) {
+				for (JsonNode serverCurrentKey : ntpJson.get(CrestronConstant.SERVERS_CURRENT_KEY_LIST)) {
 					JsonNode server = ntpJson.get(CrestronConstant.SERVERS).get(serverCurrentKey.asText());
 					String propertyName = groupName + serverCurrentKey.asText();
 					String propertyValue = getDefaultValueForNullData(server.get(property.getApiPropertyName()));
@@ -1217,8 +3548,7 @@ public class CrestronNVXCommunicator extends RestCommunicator implements Monitor
 				if (!CrestronConstant.NONE.equals(value)) {
 					TimeZone zone = TimeZone.getEnumByValue(value);
 					if (zone != null) {
-						String[] timezones = Arrays.stream(TimeZone.values()).map(TimeZone::getName).toArray(String[]::new);
-						addAdvancedControlProperties(advancedControllableProperties, controlStats, createDropdown(groupName, timezones, zone.getName()), zone.getName());
+						addAdvancedControlProperties(advancedControllableProperties, controlStats, createDropdown(groupName, TIME_ZONE_NAMES, zone.getName()), zone.getName());
 					}
 				}
 				break;
@@ -1238,54 +3568,65 @@ public class CrestronNVXCommunicator extends RestCommunicator implements Monitor
 	 * @param stats store monitoring properties
 	 * @param apiResponse response from api
 	 */
-	private void populateNetwork(Map<String, String> stats, JsonNode apiResponse) throws IOException {
-		if (!apiResponse.has(CrestronConstant.ADAPTERS)) return;
-
-		List<JsonNode> adapters = objectMapper.readerFor(new TypeReference<List<JsonNode>>() {}).readValue(apiResponse.get(CrestronConstant.ADAPTERS));
-		JsonNode currentAdapter = NullNode.getInstance();
-
-		if (adapters != null && !adapters.isEmpty()) {
-			currentAdapter = adapters.get(0);
-		}
+	private void populateNetwork(Map<String, String> stats, JsonNode apiResponse) {
+		JsonNode adapters = apiResponse.get(CrestronConstant.ADAPTERS);
+		JsonNode currentAdapter = adapters != null && adapters.isArray() ? adapters.get(0) : null;
 
 		if (currentAdapter == null || currentAdapter.isNull()) return;
 		JsonNode currentSchema = currentAdapter.get(currentAdapter.get(CrestronConstant.ADDRESS_SCHEMA).asText());
-		stats.put(CrestronConstant.NETWORK_GROUP + CrestronPropertyList.LINK_ACTIVE.getName(), capitalizeBooleanString(getDefaultValueForNullData(currentAdapter.get(CrestronPropertyList.LINK_ACTIVE.getApiPropertyName()))));
-		stats.put(CrestronConstant.NETWORK_GROUP + CrestronPropertyList.MAC_ADDRESS.getName(), getDefaultValueForNullData(currentAdapter.get(CrestronPropertyList.MAC_ADDRESS.getApiPropertyName())));
+		stats.put(CrestronPropertyList.LINK_ACTIVE.getPropertyKey(), capitalizeBooleanString(getDefaultValueForNullData(currentAdapter.get(CrestronPropertyList.LINK_ACTIVE.getApiPropertyName()))));
+		stats.put(CrestronPropertyList.MAC_ADDRESS.getPropertyKey(), getDefaultValueForNullData(currentAdapter.get(CrestronPropertyList.MAC_ADDRESS.getApiPropertyName())));
 
 		if (currentSchema == null) return;
-		stats.put(CrestronConstant.NETWORK_GROUP + CrestronPropertyList.DHCP_ENABLED.getName(), capitalizeBooleanString(getDefaultValueForNullData(currentSchema.get(CrestronPropertyList.DHCP_ENABLED.getApiPropertyName()))));
-		stats.put(CrestronConstant.NETWORK_GROUP + CrestronPropertyList.DEFAULT_GATEWAY.getName(),
-				getDefaultValueForNullData(currentSchema.get(CrestronPropertyList.DEFAULT_GATEWAY.getApiPropertyName())));
+		stats.put(CrestronPropertyList.DHCP_ENABLED.getPropertyKey(), capitalizeBooleanString(getDefaultValueForNullData(currentSchema.get(CrestronPropertyList.DHCP_ENABLED.getApiPropertyName()))));
+		stats.put(CrestronPropertyList.DEFAULT_GATEWAY.getPropertyKey(), getDefaultValueForNullData(currentSchema.get(CrestronPropertyList.DEFAULT_GATEWAY.getApiPropertyName())));
 
 		// Get address information
-		if (currentSchema.has(CrestronConstant.ADDRESSES)) {
-			List<JsonNode> addresses = objectMapper.readerFor(new TypeReference<List<JsonNode>>() {}).readValue(currentSchema.get(CrestronConstant.ADDRESSES));
-			for (JsonNode address : addresses) {
-				stats.put(CrestronConstant.NETWORK_GROUP + CrestronPropertyList.IP_ADDRESS.getName(), getDefaultValueForNullData(address.get(CrestronPropertyList.IP_ADDRESS.getApiPropertyName())));
-				stats.put(CrestronConstant.NETWORK_GROUP + CrestronPropertyList.SUBNET_MASK.getName(), getDefaultValueForNullData(address.get(CrestronPropertyList.SUBNET_MASK.getApiPropertyName())));
+		JsonNode addresses = currentSchema.get(CrestronConstant.ADDRESSES);
+		if (addresses != null && addresses.isArray()) {
+			for (int i = 0; i < addresses.size(); i++) {
+				JsonNode address = addresses.get(i);
+				stats.put(CrestronPropertyList.IP_ADDRESS.getPropertyKey(), getDefaultValueForNullData(address.get(CrestronPropertyList.IP_ADDRESS.getApiPropertyName())));
+				stats.put(CrestronPropertyList.SUBNET_MASK.getPropertyKey(), getDefaultValueForNullData(address.get(CrestronPropertyList.SUBNET_MASK.getApiPropertyName())));
 			}
 		}
 
 		// Get Static DNS information
-		if (currentSchema.has(CrestronConstant.DNS_SERVERS)) {
-			List<JsonNode> staticDns = objectMapper.readerFor(new TypeReference<List<JsonNode>>() {
-			}).readValue(currentSchema.get(CrestronConstant.DNS_SERVERS));
-			if (staticDns != null && staticDns.size() >= 2) {
-				stats.put(CrestronConstant.NETWORK_GROUP + CrestronPropertyList.PRIMARY_STATIC_DNS.getName(), getDefaultValueForNullData(staticDns.get(0)));
-				stats.put(CrestronConstant.NETWORK_GROUP + CrestronPropertyList.SECONDARY_STATIC_DNS.getName(), getDefaultValueForNullData(staticDns.get(1)));
-			}
+		JsonNode staticDns = currentSchema.get(CrestronConstant.DNS_SERVERS);
+		if (staticDns != null && staticDns.isArray() && staticDns.size() >= 2) {
+			stats.put(CrestronPropertyList.PRIMARY_STATIC_DNS.getPropertyKey(), getDefaultValueForNullData(staticDns.get(0)));
+			stats.put(CrestronPropertyList.SECONDARY_STATIC_DNS.getPropertyKey(), getDefaultValueForNullData(staticDns.get(1)));
 		}
 	}
 
 	/**
 	 * Update monitoring data base on filter value
+	 * @param property filter property
+	 * @param value selected filter value
 	 * @param groupName name of group
 	 */
-	private void updateFilterCache(String groupName) throws Exception {
-		Map<String, String> stats = this.localExtendedStatistics.getStatistics();
-		List<AdvancedControllableProperty> advancedControllableProperties = this.localExtendedStatistics.getControllableProperties();
-		populateMonitoringAndControllableProperties(stats, stats, advancedControllableProperties, true, groupName);
+	private void updateFilterCache(String property, String value, String groupName) throws Exception {
+		controlLock.lock();
+		try {
+			cacheFilterValue.put(property, value);
+			if (property.equals(CrestronPropertyList.AVAILABLE_UNIQUE_ID.getPropertyKey())) {
+				String availableGroup = CrestronCommand.STREAM_AVAILABLE.getGroupCommand();
+				if (cacheKeyAndValue.get(availableGroup) != null && StreamIndex.getDetail(cacheKeyAndValue.get(availableGroup), value) == null) {
+					// only the detail of the previously selected stream is kept, the group is requested and parsed again for the new one
+					changedGroups.add(CrestronCommand.STREAM_AVAILABLE);
+				}
+			}
+			ExtendedStatistics snapshot = this.localExtendedStatistics;
+			if (snapshot == null) {
+				return;
+			}
+			Map<String, String> stats = new HashMap<>(snapshot.getStatistics());
+			List<AdvancedControllableProperty> advancedControllableProperties = snapshot.getControllableProperties() != null ? new ArrayList<>(snapshot.getControllableProperties()) : null;
+			populateMonitoringAndControllableProperties(stats, stats, advancedControllableProperties != null ? advancedControllableProperties : new ArrayList<>(), true, groupName);
+			publishControlSnapshot(stats, advancedControllableProperties, false);
+		} finally {
+			controlLock.unlock();
+		}
 	}
 
 	/**
@@ -1299,9 +3640,35 @@ public class CrestronNVXCommunicator extends RestCommunicator implements Monitor
 	}
 
 	/**
-	 * Login to Crestron DM NVX device
+	 * Login to Crestron DM NVX device and record the login time
 	 */
 	private boolean getCookieSession() {
+		long start = System.nanoTime();
+		boolean isLoggedIn = false;
+		RequestGovernor governor = null;
+		try {
+			governor = acquireRequestSlot(true);
+			isLoggedIn = requestCookieSession();
+			return isLoggedIn;
+		} catch (ResourceNotReachableException e) {
+			throw e;
+		} catch (Exception e) {
+			throw new ResourceNotReachableException("An error occurred when attempting to send a login request to the device", e);
+		} finally {
+			if (governor != null) {
+				governor.release();
+			}
+			requestMetrics.recordLogin(start, isLoggedIn);
+		}
+	}
+
+	/**
+	 * Send login request to Crestron DM NVX device
+	 */
+	private boolean requestCookieSession() {
+		if (httpTransport != null) {
+			return getCookieSessionAsync();
+		}
 		try {
 			HttpClient client = this.obtainHttpClient(true);
 			HttpPost httpPost = new HttpPost(buildDeviceFullPath(CrestronUri.LOGIN_API));
@@ -1312,35 +3679,119 @@ public class CrestronNVXCommunicator extends RestCommunicator implements Monitor
 			Header[] headers = response.getHeaders(CrestronConstant.SET_COOKIE);
 
 			if (response.getStatusLine().getStatusCode() == 403){
-				this.authenticationCookie = EntityUtils.toString(response.getEntity());
+				this.loginFailureReason = EntityUtils.toString(response.getEntity());
+				session.invalidate();
 				return false;
 			}
+			// release the connection back to the pool so it can be kept alive
+			EntityUtils.consumeQuietly(response.getEntity());
 			Arrays.stream(headers).forEach(item -> sb.append(removeAttributes(item.getValue())));
 
-			this.authenticationCookie = sb.toString();
+			session.update(sb.toString());
 		} catch (Exception e) {
-			this.authenticationCookie = CrestronConstant.EMPTY;
+			session.invalidate();
 			throw new ResourceNotReachableException("An error occurred when attempting to send a login request to the device", e);
 		}
 		return true;
 	}
 
+	/**
+	 * Login to Crestron DM NVX device through {@link #httpTransport}
+	 */
+	private boolean getCookieSessionAsync() {
+		try {
+			Map<String, String> headers = Collections.singletonMap("Content-Type", "text/plain; charset=ISO-8859-1");
+			byte[] body = String.format(CrestronConstant.AUTHENTICATION_PARAM, this.getLogin(), this.getPassword()).getBytes(StandardCharsets.ISO_8859_1);
+			HttpResult response = httpTransport.send(CrestronConstant.POST, buildDeviceFullPath(CrestronUri.LOGIN_API), headers, body, getTimeout()).get();
+
+			if (response.getStatusCode() == 403) {
+				this.loginFailureReason = response.getBody();
+				session.invalidate();
+				return false;
+			}
+			StringBuilder sb = new StringBuilder();
+			response.getHeaders(CrestronConstant.SET_COOKIE).forEach(item -> sb.append(removeAttributes(item)));
+
+			session.update(sb.toString());
+		} catch (Exception e) {
+			session.invalidate();
+			throw new ResourceNotReachableException("An error occurred when attempting to send a login request to the device", e instanceof ExecutionException ? e.getCause() : e);
+		}
+		return true;
+	}
+
+	/**
+	 * Login again after the device rejected the given cookie.
+	 * If another request has already renewed the session in the meantime, the new cookie is reused.
+	 * If another request is logging in, its login is joined for at most {@link #getTimeout()},
+	 * the login itself runs outside the session monitor so a control never waits on the network I/O of the poll.
+	 *
+	 * @param rejectedCookie cookie sent with the rejected request
+	 * @return true if a valid session is available
+	 */
+	private boolean renewSession(String rejectedCookie) {
+		CompletableFuture<Boolean> renewal;
+		boolean isOwner = false;
+		synchronized (session) {
+			if (session.isRenewedSince(rejectedCookie)) {
+				return true;
+			}
+			renewal = sessionRenewal;
+			if (renewal == null) {
+				renewal = new CompletableFuture<>();
+				sessionRenewal = renewal;
+				isOwner = true;
+				session.invalidate();
+			}
+		}
+		if (isOwner) {
+			if (logger.isDebugEnabled()) {
+				logger.debug(String.format("Session cookie is rejected after %s ms, login again", session.getAge()));
+			}
+			try {
+				boolean isRenewed = getCookieSession();
+				renewal.complete(isRenewed);
+				return isRenewed;
+			} catch (RuntimeException e) {
+				renewal.completeExceptionally(e);
+				throw e;
+			} finally {
+				synchronized (session) {
+					sessionRenewal = null;
+				}
+			}
+		}
+		try {
+			return renewal.get(getTimeout(), TimeUnit.MILLISECONDS);
+		} catch (ExecutionException e) {
+			if (e.getCause() instanceof RuntimeException) {
+				throw (RuntimeException) e.getCause();
+			}
+			throw new ResourceNotReachableException("An error occurred when attempting to send a login request to the device", e.getCause());
+		} catch (TimeoutException e) {
+			throw new ResourceNotReachableException(String.format("Login to device %s is not completed within %s ms", getHost(), getTimeout()), e);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new ResourceNotReachableException("Interrupted while waiting for the login to device " + getHost(), e);
+		}
+	}
+
+	/**
+	 * Check if the device answered with its login page instead of API data
+	 *
+	 * @param response raw response
+	 */
+	private boolean isLoginPage(String response) {
+		return response != null && response.trim().startsWith("<");
+	}
+
 	/**
 	 * Remove Secure, Path, HttpOnly attributes in cookie
 	 *
 	 * @param cookie cookie value
 	 */
 	private String removeAttributes(String cookie) {
-		// Remove 'Secure' attribute
-		cookie = cookie.replaceAll(";\\s*Secure", "");
-
-		// Remove 'Path' attribute
-		cookie = cookie.replaceAll(";\\s*Path=[^;]*", "");
-
-		// Remove 'HttpOnly' attribute
-		cookie = cookie.replaceAll(";\\s*HttpOnly", "");
-
-		return cookie;
+		return COOKIE_ATTRIBUTES_PATTERN.matcher(cookie).replaceAll(CrestronConstant.EMPTY);
 	}
 
 	/**
@@ -1358,19 +3809,20 @@ public class CrestronNVXCommunicator extends RestCommunicator implements Monitor
 	}
 
 	/**
-	 * Send POST request to retrieve cookie session
+	 * Send POST request to retrieve cookie session if there is no session to reuse
 	 *
 	 * @return boolean
 	 */
 	private boolean isValidCookie() throws Exception {
 		boolean isAuthenticate = false;
+		boolean isSessionReused = session.isActive();
 		try {
-			isAuthenticate = getCookieSession();
+			isAuthenticate = isSessionReused || getCookieSession();
 			if (isAuthenticate) {
-				retrieveDeviceMode();
+				retrieveDeviceMode(isSessionReused);
 			}
 		} catch (ResourceNotReachableException e) {
-			throw new ResourceNotReachableException("Failed to send login request to device", e);
+			throw new ResourceNotReachableException(isSessionReused ? "Failed to send request to device" : "Failed to send login request to device", e);
 		} catch (Exception e) {
 			logger.error("Failed to retrieve cookie session", e);
 		}
@@ -1399,12 +3851,13 @@ public class CrestronNVXCommunicator extends RestCommunicator implements Monitor
 	}
 
 	/**
-	 * Get model of device
-	 *
-	 * @param stats store monitoring properties
+	 * Get model of device from cached device information
 	 */
-	private DeviceModel getDeviceModel(Map<String, String> stats) {
-		String model = stats.get(CrestronPropertyList.MODEL.getName());
+	private DeviceModel getDeviceModel() {
+		JsonNode deviceInfo = cacheKeyAndValue.get(CrestronPropertyList.MODEL.getApiGroupName());
+		if (deviceInfo == null) return null;
+
+		String model = getDefaultValueForNullData(deviceInfo.get(CrestronPropertyList.MODEL.getApiPropertyName()));
 		if (CrestronConstant.NONE.equals(model)) return null;
 
 		return DeviceModel.getDeviceModelByName(model);
@@ -1460,7 +3913,7 @@ public class CrestronNVXCommunicator extends RestCommunicator implements Monitor
 		advancedControllableProperty.setName(name);
 		advancedControllableProperty.setValue(status);
 		advancedControllableProperty.setType(toggle);
-		advancedControllableProperty.setTimestamp(new Date());
+		advancedControllableProperty.setTimestamp(populateTimestamp);
 
 		return advancedControllableProperty;
 	}
@@ -1477,7 +3930,7 @@ public class CrestronNVXCommunicator extends RestCommunicator implements Monitor
 		dropDown.setOptions(values);
 		dropDown.setLabels(values);
 
-		return new AdvancedControllableProperty(name, new Date(), dropDown, initialValue);
+		return new AdvancedControllableProperty(name, populateTimestamp, dropDown, initialValue);
 	}
 
 	/**
@@ -1496,7 +3949,7 @@ public class CrestronNVXCommunicator extends RestCommunicator implements Monitor
 		slider.setRangeStart(rangeStart);
 		slider.setRangeEnd(rangeEnd);
 
-		return new AdvancedControllableProperty(name, new Date(), slider, initialValue);
+		return new AdvancedControllableProperty(name, populateTimestamp, slider, initialValue);
 	}
 
 	/**
@@ -1508,7 +3961,7 @@ public class CrestronNVXCommunicator extends RestCommunicator implements Monitor
 	 */
 	private AdvancedControllableProperty createText(String name, String stringValue) {
 		Text text = new Text();
-		return new AdvancedControllableProperty(name, new Date(), text, stringValue);
+		return new AdvancedControllableProperty(name, populateTimestamp, text, stringValue);
 	}
 
 	/**
@@ -1525,7 +3978,7 @@ public class CrestronNVXCommunicator extends RestCommunicator implements Monitor
 		button.setLabel(label);
 		button.setLabelPressed(labelPressed);
 		button.setGracePeriod(gracePeriod);
-		return new AdvancedControllableProperty(name, new Date(), button, value);
+		return new AdvancedControllableProperty(name, populateTimestamp, button, value);
 	}
 
 	/**
@@ -0,0 +1,37 @@
+/*
+ *  Copyright (c) 2024 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.avdevices.encoderdecoder.crestron.nvx.common;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * AsyncHttpTransport sends HTTP requests without holding the calling thread while the device answers.
+ * A request that does not complete before its deadline fails with {@link java.util.concurrent.TimeoutException}.
+ * Futures may be completed on an I/O thread, so dependent stages doing real work should use the async variants.
+ *
+ * @author Kevin / Symphony Dev Team<br>
+ * Created on 10/18/2026
+ * @since 1.0.0
+ */
+public interface AsyncHttpTransport {
+
+	/**
+	 * Send a request
+	 *
+	 * @param method HTTP method, e.g. GET or POST
+	 * @param url absolute url of the request
+	 * @param headers request headers, Host and Content-Length are added by the transport
+	 * @param body request body, null if the request has no body
+	 * @param timeout deadline of the whole exchange in milliseconds
+	 * @return future completed with the response, whatever its status code
+	 */
+	CompletableFuture<HttpResult> send(String method, String url, Map<String, String> headers, byte[] body, long timeout);
+
+	/**
+	 * Close all connections and stop the I/O threads
+	 */
+	void close();
+}
@@ -0,0 +1,234 @@
+/*
+ *  Copyright (c) 2024 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.avdevices.encoderdecoder.crestron.nvx.common;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+/**
+ * CapabilityRegistry records REST API capabilities per device model and firmware version,
+ * shared by all adapter instances so a capability is probed only once per firmware.
+ * Capabilities are persisted to a local file, so a restarted adapter does not probe them again.
+ * There is one registry per storage file, adapters configured with different files never write to each other's file.
+ *
+ * @author Kevin / Symphony Dev Team<br>
+ * Created on 10/18/2026
+ * @since 1.0.0
+ */
+public class CapabilityRegistry {
+	private static final Log logger = LogFactory.getLog(CapabilityRegistry.class);
+	private static final CapabilityRegistry INSTANCE = new CapabilityRegistry(null);
+	private static final Map<Path, CapabilityRegistry> fileRegistries = new ConcurrentHashMap<>();
+
+	/**
+	 * Endpoint support by registry key then by endpoint uri, the whole Device object is recorded as {@link CrestronUri#DEVICE_API}
+	 */
+	private final Map<String, Map<String, Boolean>> endpointSupport = new ConcurrentHashMap<>();
+
+	/**
+	 * Last registry key of each device address, so capabilities apply before device information is retrieved again
+	 */
+	private final Map<String, String> deviceKeys = new ConcurrentHashMap<>();
+
+	private final Path storageFile;
+	private boolean isModified;
+
+	/**
+	 * Constructs a new instance of CapabilityRegistry, capabilities already stored in the file are loaded
+	 *
+	 * @param storageFile file capabilities are persisted to, null to keep them in memory only
+	 */
+	private CapabilityRegistry(Path storageFile) {
+		this.storageFile = storageFile;
+		if (storageFile != null) {
+			load();
+		}
+	}
+
+	/**
+	 * Retrieves registry kept in memory only, shared by all adapter instances without a storage file
+	 *
+	 * @return in-memory registry
+	 */
+	public static CapabilityRegistry getInstance() {
+		return INSTANCE;
+	}
+
+	/**
+	 * Retrieves registry persisted to a file, created and loaded on first use and shared by all adapter instances using the same file
+	 *
+	 * @param path path of the file, null or empty for the in-memory registry
+	 * @return registry of the file
+	 */
+	public static CapabilityRegistry getInstance(String path) {
+		if (path == null || path.isEmpty()) {
+			return INSTANCE;
+		}
+		return fileRegistries.computeIfAbsent(Paths.get(path).toAbsolutePath().normalize(), CapabilityRegistry::new);
+	}
+
+	/**
+	 * Build registry key of a device
+	 *
+	 * @param model model of device
+	 * @param firmwareVersion firmware version of device
+	 * @return key or null if model or firmware version is unknown
+	 */
+	public static String buildKey(String model, String firmwareVersion) {
+		if (model == null || firmwareVersion == null || CrestronConstant.NONE.equals(model) || CrestronConstant.NONE.equals(firmwareVersion)) {
+			return null;
+		}
+		return model + CrestronConstant.COLON + firmwareVersion;
+	}
+
+	/**
+	 * Check if a firmware answers the whole Device object in one request
+	 *
+	 * @param key registry key built by {@link #buildKey(String, String)}
+	 * @return true/false if already probed, null if unknown
+	 */
+	public Boolean isBulkFetchSupported(String key) {
+		return isEndpointSupported(key, CrestronUri.DEVICE_API);
+	}
+
+	/**
+	 * Record if a firmware answers the whole Device object in one request
+	 *
+	 * @param key registry key built by {@link #buildKey(String, String)}
+	 * @param isSupported result of the probe
+	 */
+	public void setBulkFetchSupported(String key, boolean isSupported) {
+		setEndpointSupported(key, CrestronUri.DEVICE_API, isSupported);
+	}
+
+	/**
+	 * Check if a firmware supports a REST API endpoint
+	 *
+	 * @param key registry key built by {@link #buildKey(String, String)}
+	 * @param uri endpoint uri
+	 * @return true/false if already probed, null if unknown
+	 */
+	public Boolean isEndpointSupported(String key, String uri) {
+		if (key == null) {
+			return null;
+		}
+		Map<String, Boolean> endpoints = endpointSupport.get(key);
+		return endpoints == null ? null : endpoints.get(uri);
+	}
+
+	/**
+	 * Record if a firmware supports a REST API endpoint, the change is persisted by {@link #save()}
+	 *
+	 * @param key registry key built by {@link #buildKey(String, String)}
+	 * @param uri endpoint uri
+	 * @param isSupported result of the probe
+	 */
+	public void setEndpointSupported(String key, String uri, boolean isSupported) {
+		if (key == null) {
+			return;
+		}
+		Boolean previous = endpointSupport.computeIfAbsent(key, k -> new ConcurrentHashMap<>()).put(uri, isSupported);
+		if (previous == null || previous != isSupported) {
+			synchronized (this) {
+				isModified = true;
+			}
+		}
+	}
+
+	/**
+	 * Retrieves last registry key recorded for a device
+	 *
+	 * @param address address of device
+	 * @return key or null if unknown
+	 */
+	public String getDeviceKey(String address) {
+		return address == null ? null : deviceKeys.get(address);
+	}
+
+	/**
+	 * Record registry key of a device, the change is persisted by {@link #save()}
+	 *
+	 * @param address address of device
+	 * @param key registry key built by {@link #buildKey(String, String)}
+	 */
+	public void setDeviceKey(String address, String key) {
+		if (address == null || key == null) {
+			return;
+		}
+		if (!key.equals(deviceKeys.put(address, key))) {
+			synchronized (this) {
+				isModified = true;
+			}
+		}
+	}
+
+	/**
+	 * Load capabilities already stored in {@link #storageFile}
+	 */
+	private void load() {
+		if (!Files.isRegularFile(storageFile)) {
+			return;
+		}
+		Properties properties = new Properties();
+		try (InputStream inputStream = Files.newInputStream(storageFile)) {
+			properties.load(inputStream);
+		} catch (IOException e) {
+			logger.warn("Failed to load capabilities from " + storageFile, e);
+			return;
+		}
+		// endpoint entries are named key#uri, device entries are named by the device address
+		for (String name : properties.stringPropertyNames()) {
+			int separator = name.indexOf(CrestronConstant.HASH);
+			if (separator < 0) {
+				deviceKeys.putIfAbsent(name, properties.getProperty(name));
+			} else if (separator > 0) {
+				endpointSupport.computeIfAbsent(name.substring(0, separator), k -> new ConcurrentHashMap<>())
+						.putIfAbsent(name.substring(separator + 1), Boolean.parseBoolean(properties.getProperty(name)));
+			}
+		}
+	}
+
+	/**
+	 * Write capabilities to the storage file if they changed since the last write.
+	 * The file is replaced at once, so a concurrent reader never sees a partial file.
+	 */
+	public synchronized void save() {
+		if (!isModified || storageFile == null) {
+			return;
+		}
+		Properties properties = new Properties();
+		properties.putAll(deviceKeys);
+		endpointSupport.forEach((key, endpoints) -> endpoints.forEach((uri, isSupported) -> properties.setProperty(key + CrestronConstant.HASH + uri, String.valueOf(isSupported))));
+		try {
+			Path directory = storageFile.toAbsolutePath().getParent();
+			if (directory != null) {
+				Files.createDirectories(directory);
+			}
+			Path temporaryFile = Files.createTempFile(directory, storageFile.getFileName().toString(), ".tmp");
+			try {
+				try (OutputStream outputStream = Files.newOutputStream(temporaryFile)) {
+					properties.store(outputStream, "REST API capabilities by model and firmware version");
+				}
+				Files.move(temporaryFile, storageFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+				isModified = false;
+			} finally {
+				Files.deleteIfExists(temporaryFile);
+			}
+		} catch (IOException e) {
+			logger.warn("Failed to save capabilities to " + storageFile, e);
+		}
+	}
+}
@@ -0,0 +1,158 @@
+/*
+ *  Copyright (c) 2024 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.avdevices.encoderdecoder.crestron.nvx.common;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * CircuitBreaker stops polling a device after consecutive failed cycles.
+ * While open, cycles fail without any request until the backoff expires, then a single probe is allowed.
+ * A failed probe doubles the backoff up to a maximum, a successful cycle closes the breaker.
+ *
+ * @author Kevin / Symphony Dev Team<br>
+ * Created on 10/18/2026
+ * @since 1.0.0
+ */
+public class CircuitBreaker {
+	/**
+	 * State of the breaker
+	 */
+	public enum State {
+		CLOSED("Closed"), OPEN("Open"), HALF_OPEN("HalfOpen");
+
+		private final String name;
+
+		State(String name) {
+			this.name = name;
+		}
+
+		/**
+		 * Retrieves {@link #name}
+		 *
+		 * @return value of {@link #name}
+		 */
+		public String getName() {
+			return name;
+		}
+	}
+
+	/**
+	 * Random part added to the backoff, as a fraction of it, so devices that failed together are not probed together
+	 */
+	private static final double BACKOFF_JITTER = 0.2;
+
+	private final int failureThreshold;
+	private final long initialBackoff;
+	private final long maxBackoff;
+
+	private State state = State.CLOSED;
+	private int consecutiveFailures;
+	private long backoff;
+	private long nextProbeTime;
+	private long openCount;
+	private long probeCount;
+
+	/**
+	 * Constructs a new instance of CircuitBreaker.
+	 *
+	 * @param failureThreshold consecutive failed cycles opening the breaker
+	 * @param initialBackoff delay in milliseconds before the first probe
+	 * @param maxBackoff maximum delay in milliseconds between two probes
+	 */
+	public CircuitBreaker(int failureThreshold, long initialBackoff, long maxBackoff) {
+		this.failureThreshold = failureThreshold;
+		this.initialBackoff = initialBackoff;
+		this.maxBackoff = Math.max(initialBackoff, maxBackoff);
+	}
+
+	/**
+	 * Check if a cycle may send requests, an open breaker turns half open when its backoff expires
+	 *
+	 * @return true if the cycle may run, the first cycle after the backoff has to probe the device first
+	 */
+	public synchronized boolean allowRequest() {
+		if (state == State.OPEN && System.currentTimeMillis() >= nextProbeTime) {
+			state = State.HALF_OPEN;
+			probeCount++;
+		}
+		return state != State.OPEN;
+	}
+
+	/**
+	 * Record a cycle that reached the device, the breaker closes
+	 */
+	public synchronized void recordSuccess() {
+		state = State.CLOSED;
+		consecutiveFailures = 0;
+		backoff = 0;
+	}
+
+	/**
+	 * Record a cycle or a probe that did not reach the device
+	 */
+	public synchronized void recordFailure() {
+		consecutiveFailures++;
+		if (state == State.HALF_OPEN) {
+			open(Math.min(maxBackoff, backoff * 2));
+		} else if (state == State.CLOSED && consecutiveFailures >= failureThreshold) {
+			openCount++;
+			open(initialBackoff);
+		}
+	}
+
+	/**
+	 * Check if the current cycle has to probe the device before polling it
+	 *
+	 * @return true if half open
+	 */
+	public synchronized boolean isHalfOpen() {
+		return state == State.HALF_OPEN;
+	}
+
+	/**
+	 * Retrieves current state
+	 *
+	 * @return state
+	 */
+	public synchronized State getState() {
+		return state;
+	}
+
+	/**
+	 * Retrieves time left before the next probe
+	 *
+	 * @return milliseconds, 0 if not open
+	 */
+	public synchronized long getRemainingBackoff() {
+		return state == State.OPEN ? Math.max(0, nextProbeTime - System.currentTimeMillis()) : 0;
+	}
+
+	/**
+	 * Retrieves number of times the breaker opened after consecutive failed cycles
+	 *
+	 * @return open count
+	 */
+	public synchronized long getOpenCount() {
+		return openCount;
+	}
+
+	/**
+	 * Retrieves number of probes sent while the breaker was open
+	 *
+	 * @return probe count
+	 */
+	public synchronized long getProbeCount() {
+		return probeCount;
+	}
+
+	/**
+	 * Open the breaker until the given backoff, plus jitter, expires
+	 */
+	private void open(long newBackoff) {
+		state = State.OPEN;
+		backoff = newBackoff;
+		nextProbeTime = System.currentTimeMillis() + newBackoff + (long) (newBackoff * BACKOFF_JITTER * ThreadLocalRandom.current().nextDouble());
+	}
+}
@@ -4,6 +4,8 @@
 
 package com.avispl.symphony.dal.avdevices.encoderdecoder.crestron.nvx.common;
 
+import java.util.Arrays;
+
 /**
  * CrestronCommand represents monitoring commands sent to a Crestron device.
  *
@@ -12,32 +14,34 @@ package com.avispl.symphony.dal.avdevices.encoderdecoder.crestron.nvx.common;
  * @since 1.0.0
  */
 public enum CrestronCommand {
-	DEVICE_INFO(CrestronConstant.DEVICE_INFO_API_GROUP, CrestronUri.DEVICE_INFO_API, CrestronConstant.EMPTY),
-	DEVICE_SPECIFIC(CrestronConstant.DEVICE_SPECIFIC_API_GROUP, CrestronUri.DEVICE_SPECIFIC_API, CrestronConstant.EMPTY),
-	DEVICE_OPERATION(CrestronConstant.DEVICE_OPERATION_API_GROUP, CrestronUri.DEVICE_OPERATIONS_API, CrestronConstant.EMPTY),
-	NETWORK(CrestronConstant.NETWORK_GROUP, CrestronUri.ETHERNET_API, CrestronConstant.EMPTY),
-	CLOUD_SETTING(CrestronConstant.DEVICE_XIO_CLOUD_API_GROUP, CrestronUri.XIO_CLOUD_STATUS_API, CrestronConstant.EMPTY),
-	CONTROL_SYSTEM(CrestronConstant.CONTROL_SYSTEM_GROUP, CrestronUri.IP_TABLE_API, CrestronConstant.EMPTY),
-	AUDIO_VIDEO_INPUT_OUTPUT(CrestronConstant.DEVICE_AUDIO_VIDEO_INPUT_OUTPUT_API_GROUP, CrestronUri.AUDIO_INPUT_OUTPUT_API, CrestronConstant.EMPTY),
-	AUTO_UPDATE(CrestronConstant.AUTO_UPDATE_GROUP, CrestronUri.AUTO_UPDATE_API, CrestronConstant.EMPTY),
-	DATE_TIME(CrestronConstant.DATE_TIME_GROUP, CrestronUri.SYSTEM_CLOCK_API, CrestronConstant.EMPTY),
-	DISCOVERY_CONFIG(CrestronConstant.DISCOVERY_CONFIG_GROUP, CrestronUri.DISCOVERY_API, CrestronConstant.EMPTY),
-	LOCALIZATION(CrestronConstant.LOCALIZATION_GROUP,CrestronUri.LOCALIZATION_API, CrestronConstant.EMPTY),
-	STREAM_RECEIVE(CrestronConstant.STREAM_RECEIVE_GROUP, CrestronUri.STREAM_RECEIVE_API, CrestronConstant.RECEIVER),
-	STREAM_TRANSMIT(CrestronConstant.STREAM_TRANSMIT_GROUP, CrestronUri.STREAM_TRANSMIT_API, CrestronConstant.TRANSMITTER),
-	STREAM_SUBSCRIPTION(CrestronConstant.STREAM_SUBSCRIPTION_GROUP, CrestronUri.STREAM_SUBSCRIPTION_API, CrestronConstant.RECEIVER),
-	STREAM_AVAILABLE(CrestronConstant.STREAM_AVAILABLE_GROUP, CrestronUri.STREAM_AVAILABLE_API, CrestronConstant.RECEIVER),
-	INPUT_ROUTING(CrestronConstant.INPUT_ROUTING_GROUP, CrestronUri.INPUT_ROUTING_API, CrestronConstant.EMPTY),
+	DEVICE_INFO(CrestronConstant.DEVICE_INFO_API_GROUP, CrestronUri.DEVICE_INFO_API, CrestronConstant.EMPTY, CrestronConstant.STATIC_GROUP_POLLING_INTERVAL),
+	DEVICE_SPECIFIC(CrestronConstant.DEVICE_SPECIFIC_API_GROUP, CrestronUri.DEVICE_SPECIFIC_API, CrestronConstant.EMPTY, 0),
+	DEVICE_OPERATION(CrestronConstant.DEVICE_OPERATION_API_GROUP, CrestronUri.DEVICE_OPERATIONS_API, CrestronConstant.EMPTY, CrestronConstant.SEMI_STATIC_GROUP_POLLING_INTERVAL),
+	NETWORK(CrestronConstant.NETWORK_GROUP, CrestronUri.ETHERNET_API, CrestronConstant.EMPTY, CrestronConstant.SEMI_STATIC_GROUP_POLLING_INTERVAL),
+	CLOUD_SETTING(CrestronConstant.DEVICE_XIO_CLOUD_API_GROUP, CrestronUri.XIO_CLOUD_STATUS_API, CrestronConstant.EMPTY, CrestronConstant.SEMI_STATIC_GROUP_POLLING_INTERVAL),
+	CONTROL_SYSTEM(CrestronConstant.CONTROL_SYSTEM_GROUP, CrestronUri.IP_TABLE_API, CrestronConstant.EMPTY, CrestronConstant.SEMI_STATIC_GROUP_POLLING_INTERVAL),
+	AUDIO_VIDEO_INPUT_OUTPUT(CrestronConstant.DEVICE_AUDIO_VIDEO_INPUT_OUTPUT_API_GROUP, CrestronUri.AUDIO_INPUT_OUTPUT_API, CrestronConstant.EMPTY, 0),
+	AUTO_UPDATE(CrestronConstant.AUTO_UPDATE_GROUP, CrestronUri.AUTO_UPDATE_API, CrestronConstant.EMPTY, CrestronConstant.STATIC_GROUP_POLLING_INTERVAL),
+	DATE_TIME(CrestronConstant.DATE_TIME_GROUP, CrestronUri.SYSTEM_CLOCK_API, CrestronConstant.EMPTY, 0),
+	DISCOVERY_CONFIG(CrestronConstant.DISCOVERY_CONFIG_GROUP, CrestronUri.DISCOVERY_API, CrestronConstant.EMPTY, CrestronConstant.STATIC_GROUP_POLLING_INTERVAL),
+	LOCALIZATION(CrestronConstant.LOCALIZATION_GROUP,CrestronUri.LOCALIZATION_API, CrestronConstant.EMPTY, CrestronConstant.STATIC_GROUP_POLLING_INTERVAL),
+	STREAM_RECEIVE(CrestronConstant.STREAM_RECEIVE_GROUP, CrestronUri.STREAM_RECEIVE_API, CrestronConstant.RECEIVER, 0),
+	STREAM_TRANSMIT(CrestronConstant.STREAM_TRANSMIT_GROUP, CrestronUri.STREAM_TRANSMIT_API, CrestronConstant.TRANSMITTER, 0),
+	STREAM_SUBSCRIPTION(CrestronConstant.STREAM_SUBSCRIPTION_GROUP, CrestronUri.STREAM_SUBSCRIPTION_API, CrestronConstant.RECEIVER, 0),
+	STREAM_AVAILABLE(CrestronConstant.STREAM_AVAILABLE_GROUP, CrestronUri.STREAM_AVAILABLE_API, CrestronConstant.RECEIVER, 0),
+	INPUT_ROUTING(CrestronConstant.INPUT_ROUTING_GROUP, CrestronUri.INPUT_ROUTING_API, CrestronConstant.EMPTY, 0),
 	;
 
 	private String groupCommand;
 	private String command;
 	private String deviceMode;
+	private long pollingInterval;
 
-  CrestronCommand(final String groupCommand, final String command, final String deviceMode) {
+  CrestronCommand(final String groupCommand, final String command, final String deviceMode, final long pollingInterval) {
 		this.groupCommand = groupCommand;
 		this.command = command;
 		this.deviceMode = deviceMode;
+		this.pollingInterval = pollingInterval;
 	}
 
 	/**
@@ -66,4 +70,25 @@ public enum CrestronCommand {
 	public String getDeviceMode() {
 		return deviceMode;
 	}
+
+	/**
+	 * Retrieves {@link #pollingInterval}
+	 *
+	 * @return default refresh interval of the group in seconds, 0 means every poll cycle
+	 */
+	public long getPollingInterval() {
+		return pollingInterval;
+	}
+
+	/**
+	 * Get the monitoring group that contains the given api
+	 *
+	 * @param uri device api used by a monitoring or controlling command
+	 */
+	public static CrestronCommand getEnumByUri(String uri) {
+		return Arrays.stream(values())
+				.filter(item -> uri.startsWith(item.getCommand()))
+				.findFirst()
+				.orElse(null);
+	}
 }
@@ -19,6 +19,8 @@ public class CrestronConstant {
 	public static final String COLON = ":";
 	public static final String COOKIE = "Cookie";
 	public static final String SET_COOKIE = "Set-Cookie";
+	public static final String GET = "GET";
+	public static final String POST = "POST";
 	public static final String TRUE = "true";
 	public static final String FALSE = "false";
 	public static final String NETWORK_GROUP = "Network#";
@@ -34,6 +36,7 @@ public class CrestronConstant {
 	public static final String STREAM_SUBSCRIPTION_GROUP = "StreamSubscription#";
 	public static final String STREAM_AVAILABLE_GROUP = "StreamAvailable#";
 	public static final String INPUT_ROUTING_GROUP = "InputRouting#";
+	public static final String ADAPTER_METRICS_GROUP = "AdapterMetrics#";
 	public static final String DEVICE_INFO_API_GROUP = "DeviceInfoApi";
 	public static final String DEVICE_OPERATION_API_GROUP = "DeviceOperationApi";
 	public static final String DEVICE_SPECIFIC_API_GROUP = "DeviceSpecificApi";
@@ -68,9 +71,39 @@ public class CrestronConstant {
 	public static final String ACTIONS = "Actions";
 	public static final String RESULTS = "Results";
 	public static final String STATUS_ID = "StatusId";
+	public static final String PROPERTY = "Property";
 	public static final String INPUTS = "Inputs";
 	public static final String PORTS = "Ports";
 	public static final String OUTPUTS = "Outputs";
 	public static final String ADDRESSES = "Addresses";
 	public static final String DNS_SERVERS = "DnsServers";
+	public static final int DEFAULT_FETCH_CONCURRENCY = 1;
+	public static final int DEFAULT_GROUP_FETCH_TIMEOUT = 10000;
+	public static final long STATIC_GROUP_POLLING_INTERVAL = 600;
+	public static final long SEMI_STATIC_GROUP_POLLING_INTERVAL = 120;
+	public static final String COMMA = ",";
+	public static final String DEVICE = "Device";
+	public static final int DEFAULT_POLLING_THREADS = 8;
+	public static final long DEFAULT_DEVICE_POLLING_INTERVAL = 60;
+	public static final int DEFAULT_MAX_CONNECTIONS_PER_DEVICE = 2;
+	public static final int DEFAULT_CONNECTIONS_MAX_IDLE_TIME = 60000;
+	public static final String CRESTRON = "Crestron";
+	public static final String MONITORED_DEVICES = "MonitoredDevices";
+	public static final String ONLINE_DEVICES = "OnlineDevices";
+	public static final String FAILED_POLLS = "FailedPolls";
+	public static final String OPEN_CONNECTIONS = "OpenConnections";
+	public static final int DEFAULT_REBOOT_COALESCING_WINDOW = 5000;
+	public static final String PENDING_REBOOT = "PendingReboot";
+	public static final int DEFAULT_SLIDER_CONTROL_INTERVAL = 500;
+	public static final String CAPABILITY_CACHE_FILE_NAME = "crestron-nvx-capabilities.properties";
+	public static final String SNAPSHOT_DIRECTORY_NAME = "crestron-nvx-snapshots";
+	public static final String STALE_DATA_SINCE = "StaleDataSince";
+	public static final int DEFAULT_MAX_REQUESTS_PER_SECOND = 25;
+	public static final int DEFAULT_MAX_IN_FLIGHT_REQUESTS = 8;
+	public static final int DEFAULT_CIRCUIT_BREAKER_THRESHOLD = 3;
+	public static final long CIRCUIT_BREAKER_INITIAL_BACKOFF = 30000;
+	public static final int DEFAULT_CIRCUIT_BREAKER_MAX_BACKOFF = 600000;
+	public static final String OPEN_CIRCUIT_BREAKERS = "OpenCircuitBreakers";
+	public static final int DEFAULT_MAX_DISCOVERED_STREAMS = 0;
+	public static final long REQUEST_DISPATCHER_KEEP_ALIVE = 60000;
 }
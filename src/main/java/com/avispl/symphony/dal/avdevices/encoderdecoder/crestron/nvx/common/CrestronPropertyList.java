@@ -145,6 +145,7 @@ public enum CrestronPropertyList {
 	private String apiGroupName;
 	private String apiPropertyName;
 	private String deviceMode;
+	private String propertyKey;
 
 	CrestronPropertyList(String name, String group, boolean isControl,String apiGroupName, String apiPropertyName, String deviceMode) {
 		this.name = name;
@@ -153,6 +154,7 @@ public enum CrestronPropertyList {
 		this.apiGroupName = apiGroupName;
 		this.apiPropertyName = apiPropertyName;
 		this.deviceMode = deviceMode;
+		this.propertyKey = group + name;
 	}
 
 	/**
@@ -200,6 +202,15 @@ public enum CrestronPropertyList {
 		return apiPropertyName;
 	}
 
+	/**
+	 * Retrieves {@link #propertyKey}
+	 *
+	 * @return value of {@link #propertyKey}, group and name of the property
+	 */
+	public String getPropertyKey() {
+		return propertyKey;
+	}
+
 	/**
 	 * Retrieves {@link #apiGroupName}
 	 *
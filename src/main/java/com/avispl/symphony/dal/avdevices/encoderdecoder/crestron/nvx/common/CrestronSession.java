@@ -0,0 +1,100 @@
+/*
+ *  Copyright (c) 2024 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.avdevices.encoderdecoder.crestron.nvx.common;
+
+import java.util.Objects;
+
+import com.avispl.symphony.dal.util.StringUtils;
+
+/**
+ * CrestronSession keeps the login cookie of a Crestron device between poll cycles.
+ * The cookie is reused until the device rejects it, then the session is renewed once.
+ *
+ * @author Kevin / Symphony Dev Team<br>
+ * Created on 10/18/2026
+ * @since 1.0.0
+ */
+public class CrestronSession {
+	private volatile String cookie = CrestronConstant.EMPTY;
+	private volatile long loginTimestamp;
+	private int loginCount;
+	private int reloginCount;
+
+	/**
+	 * Retrieves {@link #cookie}
+	 *
+	 * @return value of {@link #cookie}
+	 */
+	public String getCookie() {
+		return cookie;
+	}
+
+	/**
+	 * Check if the session holds a cookie that has not been rejected yet
+	 *
+	 * @return true if the cookie can be reused
+	 */
+	public boolean isActive() {
+		return StringUtils.isNotNullOrEmpty(cookie);
+	}
+
+	/**
+	 * Store the cookie of a successful login
+	 *
+	 * @param cookie cookie returned by the device
+	 */
+	public synchronized void update(String cookie) {
+		if (loginCount > 0) {
+			reloginCount++;
+		}
+		loginCount++;
+		this.cookie = cookie;
+		this.loginTimestamp = System.currentTimeMillis();
+	}
+
+	/**
+	 * Drop the current cookie so the next request logs in again
+	 */
+	public synchronized void invalidate() {
+		this.cookie = CrestronConstant.EMPTY;
+	}
+
+	/**
+	 * Check if the given rejected cookie has already been replaced by another login
+	 *
+	 * @param rejectedCookie cookie that was sent with the rejected request
+	 * @return true if the session holds a newer cookie
+	 */
+	public boolean isRenewedSince(String rejectedCookie) {
+		return isActive() && !Objects.equals(cookie, rejectedCookie);
+	}
+
+	/**
+	 * Retrieves age of the current cookie
+	 *
+	 * @return age in milliseconds, 0 if there is no active cookie
+	 */
+	public long getAge() {
+		return isActive() ? System.currentTimeMillis() - loginTimestamp : 0L;
+	}
+
+	/**
+	 * Retrieves {@link #loginCount}
+	 *
+	 * @return value of {@link #loginCount}
+	 */
+	public synchronized int getLoginCount() {
+		return loginCount;
+	}
+
+	/**
+	 * Retrieves {@link #reloginCount}
+	 *
+	 * @return value of {@link #reloginCount}
+	 */
+	public synchronized int getReloginCount() {
+		return reloginCount;
+	}
+}
@@ -12,6 +12,7 @@ package com.avispl.symphony.dal.avdevices.encoderdecoder.crestron.nvx.common;
  * @since 1.0.0
  */
 public class CrestronUri {
+	public static final String DEVICE_API = "Device";
 	public static final String DEVICE_INFO_API = "Device/DeviceInfo";
 	public static final String DEVICE_OPERATIONS_API = "Device/DeviceOperations";
 	public static final String DEVICE_SPECIFIC_API = "Device/DeviceSpecific";
@@ -32,4 +33,5 @@ public class CrestronUri {
 	public static final String INPUT_ROUTING_API = "Device/AvRouting";
 	public static final String XIO_CLOUD_STATUS_API = "Device/CloudSettings/XioCloud";
 	public static final String LOGIN_API = "/userlogin.html";
+	public static final String PING_API = "Device/DeviceInfo/Model";
 }
@@ -0,0 +1,168 @@
+/*
+ *  Copyright (c) 2024 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.avdevices.encoderdecoder.crestron.nvx.common;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+/**
+ * ExtractionPlan is a tree of field names read from a monitoring response.
+ * The response is streamed and every field outside the plan is skipped without being materialized.
+ * Arrays are transparent, their elements are read with the plan of the array itself,
+ * and a scalar found where the plan expects an object is kept as is.
+ *
+ * @author Kevin / Symphony Dev Team<br>
+ * Created on 10/18/2026
+ * @since 1.0.0
+ */
+public class ExtractionPlan {
+	private static final String SEPARATOR = "/";
+	private static final String WILDCARD = "*";
+
+	/**
+	 * Paths read below the group object in addition to the api property names of {@link CrestronPropertyList}
+	 */
+	private static final Map<String, List<String>> NESTED_PATHS = new HashMap<>();
+
+	private static final Map<CrestronCommand, ExtractionPlan> COMMAND_PLANS = new EnumMap<>(CrestronCommand.class);
+	private static final ExtractionPlan DEVICE_PLAN = new ExtractionPlan();
+
+	static {
+		NESTED_PATHS.put(CrestronConstant.NETWORK_GROUP, Arrays.asList("Adapters/AddressSchema", "Adapters/LinkStatus", "Adapters/MacAddress", "Adapters/*/IsDhcpEnabled",
+				"Adapters/*/DefaultGateway", "Adapters/*/Addresses/Address", "Adapters/*/Addresses/SubnetMask", "Adapters/*/DnsServers"));
+		NESTED_PATHS.put(CrestronConstant.CONTROL_SYSTEM_GROUP, Arrays.asList("MaxEntries", "Entries/IpId", "Entries/ProgramInstanceId", "Entries/Address", "Entries/Type",
+				"Entries/Port", "Entries/ConnectionType", "Entries/Status"));
+		NESTED_PATHS.put(CrestronConstant.DEVICE_AUDIO_VIDEO_INPUT_OUTPUT_API_GROUP, Arrays.asList("Inputs/Ports/Hdmi/Name", "Inputs/Ports/Hdmi/HdcpState",
+				"Inputs/Ports/Hdmi/HdcpReceiverCapability", "Inputs/Ports/Audio/Digital/Format", "Inputs/Ports/Audio/Digital/Channels", "Inputs/Ports/Edid/CurrentEdid",
+				"Inputs/Ports/IsSyncDetected", "Inputs/Ports/HorizontalResolution", "Inputs/Ports/VerticalResolution", "Inputs/Ports/IsInterlacedDetected", "Inputs/Ports/AspectRatio",
+				"Outputs/Ports/Hdmi/Name", "Outputs/Ports/Hdmi/HdcpState", "Outputs/Ports/Hdmi/DisabledByHdcp", "Outputs/Ports/IsSinkConnected", "Outputs/Ports/HorizontalResolution",
+				"Outputs/Ports/VerticalResolution", "Outputs/Ports/AspectRatio", "Outputs/Ports/Audio/Volume"));
+		NESTED_PATHS.put(CrestronConstant.AUTO_UPDATE_GROUP, Arrays.asList("AutoUpdateSchedule/DayOfWeek", "AutoUpdateSchedule/TimeOfDay", "AutoUpdateSchedule/CheckInterval"));
+		NESTED_PATHS.put(CrestronConstant.DATE_TIME_GROUP, Arrays.asList("Ntp/ServersCurrentKeyList", "Ntp/Servers/*/Address"));
+		NESTED_PATHS.put(CrestronConstant.STREAM_RECEIVE_GROUP, Arrays.asList("Streams/UUID", "Streams/StreamLocation", "Streams/MulticastAddress", "Streams/Status",
+				"Streams/HorizontalResolution", "Streams/VerticalResolution"));
+		NESTED_PATHS.put(CrestronConstant.STREAM_SUBSCRIPTION_GROUP, Arrays.asList("Subscriptions/*/SessionName", "Subscriptions/*/RtspUri", "Subscriptions/*/MulticastAddress",
+				"Subscriptions/*/Encryption", "Subscriptions/*/Transport", "Subscriptions/*/Resolution", "Subscriptions/*/AudioFormat", "Subscriptions/*/Bitrate"));
+		NESTED_PATHS.put(CrestronConstant.STREAM_AVAILABLE_GROUP, Arrays.asList("Streams/*/SessionName", "Streams/*/RtspUri", "Streams/*/MulticastAddress",
+				"Streams/*/Encryption", "Streams/*/Transport", "Streams/*/Resolution", "Streams/*/AudioFormat", "Streams/*/Bitrate"));
+
+		for (CrestronCommand command : CrestronCommand.values()) {
+			ExtractionPlan plan = new ExtractionPlan();
+			for (String apiGroupName : getApiGroupNames(command)) {
+				for (CrestronPropertyList property : CrestronPropertyList.values()) {
+					if (property.getApiGroupName().equals(apiGroupName) && !property.getApiPropertyName().isEmpty()) {
+						addPath(plan, command.getCommand() + SEPARATOR + property.getApiPropertyName());
+						addPath(DEVICE_PLAN, command.getCommand() + SEPARATOR + property.getApiPropertyName());
+					}
+				}
+				for (String path : NESTED_PATHS.getOrDefault(apiGroupName, Collections.emptyList())) {
+					addPath(plan, command.getCommand() + SEPARATOR + path);
+					addPath(DEVICE_PLAN, command.getCommand() + SEPARATOR + path);
+				}
+			}
+			COMMAND_PLANS.put(command, plan);
+		}
+	}
+
+	private final Map<String, ExtractionPlan> children = new HashMap<>();
+
+	/**
+	 * Retrieves plan of an endpoint group response
+	 *
+	 * @param command endpoint group
+	 * @return compiled plan
+	 */
+	public static ExtractionPlan forCommand(CrestronCommand command) {
+		return COMMAND_PLANS.get(command);
+	}
+
+	/**
+	 * Retrieves plan of the whole Device object, union of the plans of all endpoint groups
+	 *
+	 * @return compiled plan
+	 */
+	public static ExtractionPlan forDevice() {
+		return DEVICE_PLAN;
+	}
+
+	/**
+	 * Read the value the parser is positioned before, keeping only the fields of the plan
+	 *
+	 * @param parser parser of the response
+	 * @return pruned tree or null if the response is empty
+	 * @throws IOException if the response is not valid json
+	 */
+	public JsonNode read(JsonParser parser) throws IOException {
+		if (parser.nextToken() == null) {
+			return null;
+		}
+		return readValue(parser, this);
+	}
+
+	/**
+	 * Api groups cached from the response of a command, device specific response also feeds input routing
+	 */
+	private static List<String> getApiGroupNames(CrestronCommand command) {
+		if (command == CrestronCommand.DEVICE_SPECIFIC) {
+			return Arrays.asList(command.getGroupCommand(), CrestronCommand.INPUT_ROUTING.getGroupCommand());
+		}
+		return Collections.singletonList(command.getGroupCommand());
+	}
+
+	/**
+	 * Add a slash separated path to a plan
+	 */
+	private static void addPath(ExtractionPlan plan, String path) {
+		ExtractionPlan current = plan;
+		for (String name : path.split(SEPARATOR)) {
+			current = current.children.computeIfAbsent(name, key -> new ExtractionPlan());
+		}
+	}
+
+	/**
+	 * Read current value with the given plan, a plan without children keeps the whole value
+	 */
+	private static JsonNode readValue(JsonParser parser, ExtractionPlan plan) throws IOException {
+		JsonToken token = parser.currentToken();
+		if (plan.children.isEmpty() || !token.isStructStart()) {
+			return parser.readValueAsTree();
+		}
+		if (token == JsonToken.START_ARRAY) {
+			ArrayNode array = JsonNodeFactory.instance.arrayNode();
+			while (parser.nextToken() != JsonToken.END_ARRAY) {
+				array.add(readValue(parser, plan));
+			}
+			return array;
+		}
+
+		ObjectNode object = JsonNodeFactory.instance.objectNode();
+		while (parser.nextToken() == JsonToken.FIELD_NAME) {
+			String name = parser.currentName();
+			ExtractionPlan child = plan.children.get(name);
+			if (child == null) {
+				child = plan.children.get(WILDCARD);
+			}
+			parser.nextToken();
+			if (child == null) {
+				parser.skipChildren();
+			} else {
+				object.set(name, readValue(parser, child));
+			}
+		}
+		return object;
+	}
+}
@@ -0,0 +1,117 @@
+/*
+ *  Copyright (c) 2024 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.avdevices.encoderdecoder.crestron.nvx.common;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * FixedBucketHistogram counts samples in buckets with fixed upper bounds.
+ * Memory is allocated once, recording a sample does not allocate, and histograms with the same bounds can be merged.
+ * Percentiles are estimated by the upper bound of the bucket they fall in, capped by the largest sample.
+ *
+ * @author Kevin / Symphony Dev Team<br>
+ * Created on 10/18/2026
+ * @since 1.0.0
+ */
+public class FixedBucketHistogram {
+	private final long[] bounds;
+	private final AtomicLongArray counts;
+	private final AtomicLong count = new AtomicLong();
+	private final AtomicLong sum = new AtomicLong();
+	private final AtomicLong max = new AtomicLong();
+
+	/**
+	 * Constructs a new instance of FixedBucketHistogram.
+	 *
+	 * @param bounds inclusive upper bounds of the buckets in ascending order, larger samples go to an overflow bucket
+	 */
+	public FixedBucketHistogram(long[] bounds) {
+		this.bounds = bounds;
+		this.counts = new AtomicLongArray(bounds.length + 1);
+	}
+
+	/**
+	 * Record a sample
+	 *
+	 * @param value sample in the unit of the bounds
+	 */
+	public void record(long value) {
+		int bucket = Arrays.binarySearch(bounds, value);
+		counts.incrementAndGet(bucket >= 0 ? bucket : -bucket - 1);
+		count.incrementAndGet();
+		sum.addAndGet(value);
+		max.accumulateAndGet(value, Math::max);
+	}
+
+	/**
+	 * Add the samples of another histogram
+	 *
+	 * @param other histogram with the same bounds
+	 * @throws IllegalArgumentException if the bounds are different
+	 */
+	public void merge(FixedBucketHistogram other) {
+		if (!Arrays.equals(bounds, other.bounds)) {
+			throw new IllegalArgumentException("Histograms with different bucket bounds can't be merged");
+		}
+		for (int i = 0; i < counts.length(); i++) {
+			counts.addAndGet(i, other.counts.get(i));
+		}
+		count.addAndGet(other.count.get());
+		sum.addAndGet(other.sum.get());
+		max.accumulateAndGet(other.max.get(), Math::max);
+	}
+
+	/**
+	 * Retrieves number of samples
+	 *
+	 * @return number of samples
+	 */
+	public long getCount() {
+		return count.get();
+	}
+
+	/**
+	 * Retrieves largest sample
+	 *
+	 * @return largest sample, 0 if empty
+	 */
+	public long getMax() {
+		return max.get();
+	}
+
+	/**
+	 * Retrieves average of the samples
+	 *
+	 * @return average, 0 if empty
+	 */
+	public long getAverage() {
+		long samples = count.get();
+		return samples == 0 ? 0 : sum.get() / samples;
+	}
+
+	/**
+	 * Estimate a percentile of the samples
+	 *
+	 * @param percentile percentile between 0 and 100
+	 * @return upper bound of the bucket the percentile falls in, capped by the largest sample, 0 if empty
+	 */
+	public long getPercentile(double percentile) {
+		long samples = count.get();
+		if (samples == 0) {
+			return 0;
+		}
+		long rank = (long) Math.ceil(samples * percentile / 100);
+		long seen = 0;
+		for (int i = 0; i < bounds.length; i++) {
+			seen += counts.get(i);
+			if (seen >= rank) {
+				return Math.min(bounds[i], max.get());
+			}
+		}
+		return max.get();
+	}
+}
@@ -0,0 +1,64 @@
+/*
+ *  Copyright (c) 2024 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.avdevices.encoderdecoder.crestron.nvx.common;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * HttpResult is the response of a request sent by an {@link AsyncHttpTransport}
+ *
+ * @author Kevin / Symphony Dev Team<br>
+ * Created on 10/18/2026
+ * @since 1.0.0
+ */
+public class HttpResult {
+	private final int statusCode;
+	private final Map<String, List<String>> headers;
+	private final byte[] body;
+
+	/**
+	 * Constructs a new instance of HttpResult.
+	 *
+	 * @param statusCode status code of the response
+	 * @param headers response headers by lower case name
+	 * @param body response body, empty if the response has no body
+	 */
+	public HttpResult(int statusCode, Map<String, List<String>> headers, byte[] body) {
+		this.statusCode = statusCode;
+		this.headers = headers;
+		this.body = body;
+	}
+
+	/**
+	 * Retrieves {@link #statusCode}
+	 *
+	 * @return value of {@link #statusCode}
+	 */
+	public int getStatusCode() {
+		return statusCode;
+	}
+
+	/**
+	 * Retrieves all values of a response header
+	 *
+	 * @param name header name, case insensitive
+	 * @return values in received order, empty if the header is missing
+	 */
+	public List<String> getHeaders(String name) {
+		return headers.getOrDefault(name.toLowerCase(), Collections.emptyList());
+	}
+
+	/**
+	 * Retrieves body decoded as UTF-8
+	 *
+	 * @return body text, empty if the response has no body
+	 */
+	public String getBody() {
+		return new String(body, StandardCharsets.UTF_8);
+	}
+}
@@ -0,0 +1,1057 @@
+/*
+ *  Copyright (c) 2024 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.avdevices.encoderdecoder.crestron.nvx.common;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.StandardSocketOptions;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.net.UnknownHostException;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.net.ssl.SSLContext;
+import javax.net.ssl.SSLEngine;
+import javax.net.ssl.SSLEngineResult;
+import javax.net.ssl.SSLEngineResult.HandshakeStatus;
+import javax.net.ssl.SSLException;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.apache.http.conn.ssl.TrustAllStrategy;
+import org.apache.http.ssl.SSLContexts;
+
+/**
+ * NioHttpTransport is a minimal HTTP/1.1 client on non-blocking sockets, built on the JDK only.
+ * <ul>
+ *   <li>a few I/O threads, each running one selector, serve the requests of all devices</li>
+ *   <li>connections are kept alive and reused per host and port, bounded by {@link #maxConnectionsPerRoute}, extra requests wait in a queue</li>
+ *   <li>deadlines are enforced by one timer thread that closes the connection of the expired exchange, no thread is interrupted</li>
+ *   <li>a GET sent on a reused connection closed by the device before answering is sent once more on a new connection</li>
+ * </ul>
+ * Certificates are not verified, like the trust all setting of the adapters.
+ *
+ * @author Kevin / Symphony Dev Team<br>
+ * Created on 10/18/2026
+ * @since 1.0.0
+ */
+public class NioHttpTransport implements AsyncHttpTransport {
+	private static final Log logger = LogFactory.getLog(NioHttpTransport.class);
+
+	private static final int DEFAULT_IO_THREADS = 1;
+	private static final int DEFAULT_MAX_CONNECTIONS_PER_ROUTE = 4;
+	private static final long DEFAULT_IDLE_TIMEOUT = 30000;
+	private static final long SELECT_TIMEOUT = 1000;
+	private static final int BUFFER_SIZE = 16 * 1024;
+	private static final int MAX_HEADER_SIZE = 64 * 1024;
+	private static final int MAX_BODY_SIZE = 32 * 1024 * 1024;
+	private static final ByteBuffer EMPTY_BUFFER = ByteBuffer.allocate(0);
+
+	private static NioHttpTransport sharedInstance;
+
+	private final SSLContext sslContext;
+	private final IoLoop[] loops;
+	private final ScheduledThreadPoolExecutor timer;
+	private final int maxConnectionsPerRoute;
+	private final long idleTimeout;
+	private volatile boolean isClosed;
+
+	/**
+	 * Constructs a new instance of NioHttpTransport.
+	 *
+	 * @param ioThreads number of I/O threads
+	 * @param maxConnectionsPerRoute maximum number of connections to one host and port
+	 * @param idleTimeout time in milliseconds an idle connection is kept alive
+	 * @throws IOException if a selector can't be opened
+	 * @throws GeneralSecurityException if the SSL context can't be created
+	 */
+	public NioHttpTransport(int ioThreads, int maxConnectionsPerRoute, long idleTimeout) throws IOException, GeneralSecurityException {
+		this.sslContext = SSLContexts.custom().loadTrustMaterial(null, TrustAllStrategy.INSTANCE).build();
+		this.maxConnectionsPerRoute = Math.max(1, maxConnectionsPerRoute);
+		this.idleTimeout = idleTimeout;
+		AtomicInteger threadCount = new AtomicInteger();
+		this.timer = new ScheduledThreadPoolExecutor(1, runnable -> {
+			Thread thread = new Thread(runnable, "crestron-nvx-io-timer-" + threadCount.incrementAndGet());
+			thread.setDaemon(true);
+			return thread;
+		});
+		this.timer.setRemoveOnCancelPolicy(true);
+		this.loops = new IoLoop[Math.max(1, ioThreads)];
+		for (int i = 0; i < loops.length; i++) {
+			loops[i] = new IoLoop("crestron-nvx-io-" + threadCount.incrementAndGet());
+		}
+	}
+
+	/**
+	 * Retrieves transport shared by all adapter instances of the process, created on first use
+	 *
+	 * @return shared transport
+	 */
+	public static synchronized NioHttpTransport getInstance() {
+		if (sharedInstance == null || sharedInstance.isClosed) {
+			try {
+				sharedInstance = new NioHttpTransport(DEFAULT_IO_THREADS, DEFAULT_MAX_CONNECTIONS_PER_ROUTE, DEFAULT_IDLE_TIMEOUT);
+			} catch (IOException | GeneralSecurityException e) {
+				throw new IllegalStateException("Unable to create the shared HTTP transport", e);
+			}
+		}
+		return sharedInstance;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public CompletableFuture<HttpResult> send(String method, String url, Map<String, String> headers, byte[] body, long timeout) {
+		Exchange exchange;
+		try {
+			exchange = new Exchange(method, new URI(url), headers, body);
+		} catch (URISyntaxException | IOException e) {
+			CompletableFuture<HttpResult> future = new CompletableFuture<>();
+			future.completeExceptionally(e);
+			return future;
+		}
+		if (isClosed) {
+			exchange.fail(new IOException("Transport is closed"));
+			return exchange.future;
+		}
+
+		IoLoop loop = loops[Math.floorMod(exchange.routeKey.hashCode(), loops.length)];
+		exchange.deadline = timer.schedule(() -> loop.execute(() -> loop.expire(exchange, timeout)), timeout, TimeUnit.MILLISECONDS);
+		exchange.future.whenComplete((result, error) -> {
+			exchange.deadline.cancel(false);
+			if (!exchange.isFinished) {
+				// completed by the caller, e.g. cancelled, the connection can't be reused
+				loop.execute(() -> loop.abandon(exchange));
+			}
+		});
+		loop.execute(() -> loop.start(exchange));
+		return exchange.future;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void close() {
+		isClosed = true;
+		for (IoLoop loop : loops) {
+			loop.selector.wakeup();
+		}
+		timer.shutdownNow();
+	}
+
+	/**
+	 * Connections to one host and port, confined to the I/O thread of the route
+	 */
+	private static final class Route {
+		private final ArrayDeque<Connection> idle = new ArrayDeque<>();
+		private final ArrayDeque<Exchange> pending = new ArrayDeque<>();
+		private int openCount;
+	}
+
+	/**
+	 * One request and its future
+	 */
+	private static final class Exchange {
+		private final String host;
+		private final int port;
+		private final boolean isSecure;
+		private final String routeKey;
+		private final InetSocketAddress address;
+		private final byte[] request;
+		private final boolean isIdempotent;
+		private final boolean isHead;
+		private final CompletableFuture<HttpResult> future = new CompletableFuture<>();
+		private volatile boolean isFinished;
+		private ScheduledFuture<?> deadline;
+		private Connection connection;
+		private boolean isRetried;
+
+		/**
+		 * Constructs a new instance of Exchange, resolving the host in the calling thread
+		 */
+		private Exchange(String method, URI uri, Map<String, String> headers, byte[] body) throws IOException {
+			this.isSecure = "https".equalsIgnoreCase(uri.getScheme());
+			if (uri.getHost() == null || (!isSecure && !"http".equalsIgnoreCase(uri.getScheme()))) {
+				throw new IOException("Unsupported url " + uri);
+			}
+			this.host = uri.getHost().startsWith("[") ? uri.getHost().substring(1, uri.getHost().length() - 1) : uri.getHost();
+			this.port = uri.getPort() > 0 ? uri.getPort() : isSecure ? 443 : 80;
+			this.routeKey = uri.getScheme().toLowerCase() + "://" + host + CrestronConstant.COLON + port;
+			this.address = new InetSocketAddress(host, port);
+			if (address.isUnresolved()) {
+				throw new UnknownHostException(host);
+			}
+			this.isIdempotent = "GET".equalsIgnoreCase(method) || "HEAD".equalsIgnoreCase(method);
+			this.isHead = "HEAD".equalsIgnoreCase(method);
+			this.request = buildRequest(method, uri, headers, body);
+		}
+
+		/**
+		 * Complete the future with an error
+		 */
+		private void fail(Throwable error) {
+			isFinished = true;
+			future.completeExceptionally(error);
+		}
+
+		/**
+		 * Serialize request line, headers and body
+		 */
+		private byte[] buildRequest(String method, URI uri, Map<String, String> headers, byte[] body) {
+			StringBuilder builder = new StringBuilder(256);
+			String path = uri.getRawPath() == null || uri.getRawPath().isEmpty() ? "/" : uri.getRawPath();
+			builder.append(method.toUpperCase()).append(' ').append(path);
+			if (uri.getRawQuery() != null) {
+				builder.append('?').append(uri.getRawQuery());
+			}
+			builder.append(" HTTP/1.1\r\nHost: ").append(uri.getHost());
+			if (uri.getPort() > 0) {
+				builder.append(':').append(uri.getPort());
+			}
+			builder.append("\r\n");
+			boolean hasAccept = false;
+			if (headers != null) {
+				for (Map.Entry<String, String> header : headers.entrySet()) {
+					String name = header.getKey();
+					if ("host".equalsIgnoreCase(name) || "content-length".equalsIgnoreCase(name) || "connection".equalsIgnoreCase(name)) {
+						continue;
+					}
+					hasAccept |= "accept".equalsIgnoreCase(name);
+					builder.append(name).append(": ").append(header.getValue()).append("\r\n");
+				}
+			}
+			if (!hasAccept) {
+				builder.append("Accept: */*\r\n");
+			}
+			if (body != null || "POST".equalsIgnoreCase(method) || "PUT".equalsIgnoreCase(method)) {
+				builder.append("Content-Length: ").append(body == null ? 0 : body.length).append("\r\n");
+			}
+			builder.append("\r\n");
+			byte[] head = builder.toString().getBytes(StandardCharsets.ISO_8859_1);
+			if (body == null || body.length == 0) {
+				return head;
+			}
+			byte[] bytes = Arrays.copyOf(head, head.length + body.length);
+			System.arraycopy(body, 0, bytes, head.length, body.length);
+			return bytes;
+		}
+	}
+
+	/**
+	 * IoLoop runs one selector; routes, connections and exchanges assigned to it are only touched by its thread
+	 */
+	private final class IoLoop implements Runnable {
+		private final Selector selector;
+		private final Queue<Runnable> tasks = new ConcurrentLinkedQueue<>();
+		private final Map<String, Route> routes = new HashMap<>();
+
+		/**
+		 * Constructs a new instance of IoLoop and starts its thread
+		 */
+		private IoLoop(String threadName) throws IOException {
+			this.selector = Selector.open();
+			Thread thread = new Thread(this, threadName);
+			thread.setDaemon(true);
+			thread.start();
+		}
+
+		/**
+		 * Run a task on the I/O thread
+		 */
+		private void execute(Runnable task) {
+			tasks.add(task);
+			selector.wakeup();
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		public void run() {
+			while (!isClosed) {
+				try {
+					selector.select(SELECT_TIMEOUT);
+					Runnable task;
+					while ((task = tasks.poll()) != null) {
+						task.run();
+					}
+					Iterator<SelectionKey> keys = selector.selectedKeys().iterator();
+					while (keys.hasNext()) {
+						SelectionKey key = keys.next();
+						keys.remove();
+						if (key.isValid()) {
+							((Connection) key.attachment()).onReady();
+						}
+					}
+					evictIdleConnections();
+				} catch (Exception e) {
+					logger.error("Unexpected error in HTTP transport I/O loop", e);
+				}
+			}
+			shutdown();
+		}
+
+		/**
+		 * Send an exchange on an idle connection, a new connection, or queue it
+		 */
+		private void start(Exchange exchange) {
+			if (exchange.future.isDone()) {
+				return;
+			}
+			Route route = routes.computeIfAbsent(exchange.routeKey, key -> new Route());
+			Connection connection;
+			while ((connection = route.idle.pollLast()) != null) {
+				if (connection.channel.isOpen()) {
+					connection.assign(exchange, true);
+					return;
+				}
+				closeConnection(connection);
+			}
+			if (route.openCount < maxConnectionsPerRoute) {
+				open(route, exchange);
+			} else {
+				route.pending.add(exchange);
+			}
+		}
+
+		/**
+		 * Open a connection for an exchange
+		 */
+		private void open(Route route, Exchange exchange) {
+			route.openCount++;
+			Connection connection;
+			try {
+				connection = new Connection(this, route, exchange);
+			} catch (Exception e) {
+				route.openCount--;
+				exchange.fail(e);
+				return;
+			}
+			connection.assign(exchange, false);
+		}
+
+		/**
+		 * Complete the exchange of a connection and reuse or close the connection
+		 */
+		private void complete(Connection connection, HttpResult result, boolean isKeepAlive) {
+			Exchange exchange = connection.exchange;
+			connection.exchange = null;
+			exchange.isFinished = true;
+			if (isKeepAlive) {
+				release(connection);
+			} else {
+				closeConnection(connection);
+			}
+			exchange.future.complete(result);
+		}
+
+		/**
+		 * Give an idle connection to the next waiting exchange or keep it alive
+		 */
+		private void release(Connection connection) {
+			Exchange next;
+			while ((next = connection.route.pending.poll()) != null) {
+				if (!next.future.isDone()) {
+					connection.assign(next, true);
+					return;
+				}
+			}
+			connection.idleSince = System.currentTimeMillis();
+			connection.setInterest(SelectionKey.OP_READ);
+			connection.route.idle.add(connection);
+		}
+
+		/**
+		 * Close a connection after an error, sending its exchange once more if it is safe to do so
+		 */
+		private void failConnection(Connection connection, Exception error) {
+			Exchange exchange = connection.exchange;
+			boolean isRetry = exchange != null && exchange.isIdempotent && connection.isReused && !connection.isResponseStarted && !exchange.isRetried;
+			connection.exchange = null;
+			closeConnection(connection);
+			if (exchange == null || exchange.future.isDone()) {
+				return;
+			}
+			if (isRetry) {
+				exchange.isRetried = true;
+				start(exchange);
+			} else {
+				exchange.fail(error);
+			}
+		}
+
+		/**
+		 * Close a connection and open a new one for the next waiting exchange
+		 */
+		private void closeConnection(Connection connection) {
+			if (connection.isClosed) {
+				return;
+			}
+			connection.close();
+			Route route = connection.route;
+			route.openCount--;
+			route.idle.remove(connection);
+			Exchange next;
+			while (route.openCount < maxConnectionsPerRoute && (next = route.pending.poll()) != null) {
+				if (!next.future.isDone()) {
+					open(route, next);
+				}
+			}
+		}
+
+		/**
+		 * Fail an exchange that reached its deadline
+		 */
+		private void expire(Exchange exchange, long timeout) {
+			if (exchange.future.isDone()) {
+				return;
+			}
+			abandon(exchange);
+			exchange.fail(new TimeoutException(String.format("Request to %s did not complete within %s ms", exchange.routeKey, timeout)));
+		}
+
+		/**
+		 * Drop an exchange completed from outside of the I/O thread, closing its connection if it is in progress
+		 */
+		private void abandon(Exchange exchange) {
+			Connection connection = exchange.connection;
+			if (connection != null && connection.exchange == exchange) {
+				connection.exchange = null;
+				closeConnection(connection);
+			}
+			Route route = routes.get(exchange.routeKey);
+			if (route != null) {
+				route.pending.remove(exchange);
+			}
+		}
+
+		/**
+		 * Close connections idle for longer than {@link #idleTimeout}
+		 */
+		private void evictIdleConnections() {
+			long now = System.currentTimeMillis();
+			for (Route route : routes.values()) {
+				Connection connection;
+				while ((connection = route.idle.peekFirst()) != null && now - connection.idleSince > idleTimeout) {
+					closeConnection(connection);
+				}
+			}
+		}
+
+		/**
+		 * Close every connection and fail every exchange when the transport is closed
+		 */
+		private void shutdown() {
+			IOException error = new IOException("Transport is closed");
+			for (SelectionKey key : selector.keys()) {
+				Connection connection = (Connection) key.attachment();
+				if (connection.exchange != null) {
+					connection.exchange.fail(error);
+				}
+				connection.close();
+			}
+			for (Route route : routes.values()) {
+				route.pending.forEach(exchange -> exchange.fail(error));
+			}
+			Runnable task;
+			while ((task = tasks.poll()) != null) {
+				task.run();
+			}
+			try {
+				selector.close();
+			} catch (IOException e) {
+				logger.debug("Failed to close selector", e);
+			}
+		}
+	}
+
+	/**
+	 * One keep-alive connection, plain or TLS
+	 */
+	private final class Connection {
+		private final IoLoop loop;
+		private final Route route;
+		private final SocketChannel channel;
+		private final SelectionKey key;
+		private final SSLEngine engine;
+		private ByteBuffer netIn;
+		private ByteBuffer netOut;
+		private ByteBuffer appIn;
+		private boolean isConnected;
+		private boolean isHandshaking;
+		private boolean isEof;
+		private boolean isClosed;
+		private boolean isReused;
+		private boolean isResponseStarted;
+		private Exchange exchange;
+		private ByteBuffer request;
+		private ResponseParser parser;
+		private long idleSince;
+
+		/**
+		 * Constructs a new instance of Connection and starts connecting
+		 */
+		private Connection(IoLoop loop, Route route, Exchange exchange) throws IOException {
+			this.loop = loop;
+			this.route = route;
+			this.engine = exchange.isSecure ? sslContext.createSSLEngine(exchange.host, exchange.port) : null;
+			int packetSize = engine != null ? engine.getSession().getPacketBufferSize() : BUFFER_SIZE;
+			this.netIn = ByteBuffer.allocate(packetSize);
+			this.netOut = ByteBuffer.allocate(packetSize);
+			this.appIn = ByteBuffer.allocate(engine != null ? engine.getSession().getApplicationBufferSize() : BUFFER_SIZE);
+			if (engine != null) {
+				engine.setUseClientMode(true);
+			}
+			this.channel = SocketChannel.open();
+			try {
+				channel.configureBlocking(false);
+				channel.setOption(StandardSocketOptions.TCP_NODELAY, true);
+				channel.setOption(StandardSocketOptions.SO_KEEPALIVE, true);
+				isConnected = channel.connect(exchange.address);
+				key = channel.register(loop.selector, isConnected ? 0 : SelectionKey.OP_CONNECT, this);
+				if (isConnected) {
+					startHandshake();
+				}
+			} catch (IOException e) {
+				channel.close();
+				throw e;
+			}
+		}
+
+		/**
+		 * Start sending an exchange on this connection
+		 */
+		private void assign(Exchange exchange, boolean isReused) {
+			this.exchange = exchange;
+			this.isReused = isReused;
+			this.isResponseStarted = false;
+			this.request = ByteBuffer.wrap(exchange.request);
+			this.parser = new ResponseParser(exchange.isHead);
+			exchange.connection = this;
+			if (!isConnected) {
+				setInterest(SelectionKey.OP_CONNECT);
+				return;
+			}
+			try {
+				pump();
+			} catch (Exception e) {
+				loop.failConnection(this, e);
+			}
+		}
+
+		/**
+		 * Handle readiness of the channel
+		 */
+		private void onReady() {
+			try {
+				if (!isConnected) {
+					if (!channel.finishConnect()) {
+						return;
+					}
+					isConnected = true;
+					startHandshake();
+				}
+				if (exchange == null) {
+					// an idle connection is readable only when the device closes it
+					loop.closeConnection(this);
+					return;
+				}
+				pump();
+			} catch (Exception e) {
+				loop.failConnection(this, e);
+			}
+		}
+
+		/**
+		 * Begin the TLS handshake once the socket is connected
+		 */
+		private void startHandshake() throws SSLException {
+			if (engine != null) {
+				engine.beginHandshake();
+				isHandshaking = true;
+			}
+		}
+
+		/**
+		 * Make as much progress as the channel allows: flush, handshake, write the request, read the response
+		 */
+		private void pump() throws IOException {
+			while (true) {
+				if (!flush()) {
+					setInterest(SelectionKey.OP_WRITE);
+					return;
+				}
+				if (isHandshaking) {
+					HandshakeStatus status = engine.getHandshakeStatus();
+					if (status == HandshakeStatus.NEED_TASK) {
+						runDelegatedTasks();
+					} else if (status == HandshakeStatus.NEED_WRAP) {
+						wrap(EMPTY_BUFFER);
+					} else if (status == HandshakeStatus.NOT_HANDSHAKING || status == HandshakeStatus.FINISHED) {
+						isHandshaking = false;
+					} else {
+						if (!unwrap()) {
+							setInterest(SelectionKey.OP_READ);
+							return;
+						}
+						if (isEof) {
+							throw new SSLException("Connection closed during TLS handshake");
+						}
+					}
+					continue;
+				}
+				if (request.hasRemaining()) {
+					writeRequest();
+					continue;
+				}
+				if (readResponse()) {
+					return;
+				}
+				if (engine != null && isPostHandshake()) {
+					isHandshaking = true;
+					continue;
+				}
+				setInterest(SelectionKey.OP_READ);
+				return;
+			}
+		}
+
+		/**
+		 * Write pending network bytes
+		 *
+		 * @return true if everything is written
+		 */
+		private boolean flush() throws IOException {
+			if (netOut.position() == 0) {
+				return true;
+			}
+			netOut.flip();
+			try {
+				while (netOut.hasRemaining() && channel.write(netOut) > 0) {
+					// keep writing while the socket accepts bytes
+				}
+			} finally {
+				netOut.compact();
+			}
+			return netOut.position() == 0;
+		}
+
+		/**
+		 * Move request bytes to the network buffer
+		 */
+		private void writeRequest() throws IOException {
+			if (engine != null) {
+				wrap(request);
+				return;
+			}
+			int length = Math.min(request.remaining(), netOut.remaining());
+			ByteBuffer slice = request.duplicate();
+			slice.limit(slice.position() + length);
+			netOut.put(slice);
+			request.position(request.position() + length);
+		}
+
+		/**
+		 * Encrypt application bytes into the network buffer
+		 */
+		private void wrap(ByteBuffer source) throws IOException {
+			SSLEngineResult result = engine.wrap(source, netOut);
+			if (result.getStatus() == SSLEngineResult.Status.BUFFER_OVERFLOW && netOut.position() == 0) {
+				netOut = enlarge(netOut, engine.getSession().getPacketBufferSize());
+			} else if (result.getStatus() == SSLEngineResult.Status.CLOSED) {
+				throw new SSLException("TLS session is closed");
+			}
+		}
+
+		/**
+		 * Decrypt network bytes into the application buffer, reading the channel when more bytes are needed
+		 *
+		 * @return true if progress was made or the end of stream is reached, false if the channel has nothing to read
+		 */
+		private boolean unwrap() throws IOException {
+			while (true) {
+				netIn.flip();
+				SSLEngineResult result;
+				try {
+					result = engine.unwrap(netIn, appIn);
+				} finally {
+					netIn.compact();
+				}
+				switch (result.getStatus()) {
+					case OK:
+						if (result.bytesConsumed() > 0 || result.bytesProduced() > 0) {
+							return true;
+						}
+						break;
+					case BUFFER_OVERFLOW:
+						appIn = enlarge(appIn, engine.getSession().getApplicationBufferSize());
+						continue;
+					case BUFFER_UNDERFLOW:
+						if (!netIn.hasRemaining()) {
+							netIn = enlarge(netIn, engine.getSession().getPacketBufferSize());
+						}
+						break;
+					default:
+						isEof = true;
+						return true;
+				}
+				int read = channel.read(netIn);
+				if (read < 0) {
+					isEof = true;
+					return true;
+				}
+				if (read == 0) {
+					return false;
+				}
+			}
+		}
+
+		/**
+		 * Read and parse response bytes
+		 *
+		 * @return true if the exchange is completed
+		 */
+		private boolean readResponse() throws IOException {
+			while (true) {
+				if (appIn.position() > 0) {
+					isResponseStarted = true;
+					appIn.flip();
+					try {
+						parser.feed(appIn);
+					} finally {
+						appIn.compact();
+					}
+					if (parser.isComplete()) {
+						loop.complete(this, parser.toResult(), parser.isKeepAlive() && !isEof);
+						return true;
+					}
+				}
+				if (isEof) {
+					if (parser.onEndOfStream()) {
+						loop.complete(this, parser.toResult(), false);
+						return true;
+					}
+					throw new IOException("Connection closed before the response is complete");
+				}
+				boolean hasProgress = engine != null ? unwrap() : readPlain();
+				if (!hasProgress || (engine != null && isPostHandshake())) {
+					return false;
+				}
+			}
+		}
+
+		/**
+		 * Read a plain connection
+		 */
+		private boolean readPlain() throws IOException {
+			int read = channel.read(appIn);
+			if (read < 0) {
+				isEof = true;
+				return true;
+			}
+			return read > 0;
+		}
+
+		/**
+		 * Check if the device started a handshake message after the initial handshake, e.g. a key update
+		 */
+		private boolean isPostHandshake() {
+			HandshakeStatus status = engine.getHandshakeStatus();
+			return status != HandshakeStatus.NOT_HANDSHAKING && status != HandshakeStatus.FINISHED;
+		}
+
+		/**
+		 * Run handshake tasks inline, they are short for the key sizes used by devices
+		 */
+		private void runDelegatedTasks() {
+			Runnable task;
+			while ((task = engine.getDelegatedTask()) != null) {
+				task.run();
+			}
+		}
+
+		/**
+		 * Change the operations the selector waits for
+		 */
+		private void setInterest(int operations) {
+			if (key.isValid() && key.interestOps() != operations) {
+				key.interestOps(operations);
+			}
+		}
+
+		/**
+		 * Close the socket without waiting for the device
+		 */
+		private void close() {
+			isClosed = true;
+			key.cancel();
+			try {
+				channel.close();
+			} catch (IOException e) {
+				logger.debug("Failed to close connection", e);
+			}
+		}
+
+		/**
+		 * Copy a buffer into a larger one
+		 */
+		private ByteBuffer enlarge(ByteBuffer buffer, int minimumSize) {
+			ByteBuffer larger = ByteBuffer.allocate(Math.max(buffer.capacity() * 2, buffer.position() + minimumSize));
+			buffer.flip();
+			larger.put(buffer);
+			return larger;
+		}
+	}
+
+	/**
+	 * ResponseParser incrementally parses an HTTP/1.1 response with a fixed length, chunked or close delimited body
+	 */
+	private static final class ResponseParser {
+		private static final int STATUS_LINE = 0;
+		private static final int HEADERS = 1;
+		private static final int FIXED_BODY = 2;
+		private static final int CHUNK_SIZE = 3;
+		private static final int CHUNK_DATA = 4;
+		private static final int CHUNK_END = 5;
+		private static final int TRAILERS = 6;
+		private static final int CLOSE_DELIMITED_BODY = 7;
+		private static final int DONE = 8;
+
+		private final boolean isHead;
+		private final Map<String, List<String>> headers = new HashMap<>();
+		private final ByteArrayOutputStream body = new ByteArrayOutputStream();
+		private byte[] buffer = new byte[BUFFER_SIZE];
+		private int start;
+		private int end;
+		private int state = STATUS_LINE;
+		private int statusCode;
+		private boolean isHttp10;
+		private long remaining;
+
+		/**
+		 * Constructs a new instance of ResponseParser.
+		 *
+		 * @param isHead true if the response of a HEAD request has no body
+		 */
+		private ResponseParser(boolean isHead) {
+			this.isHead = isHead;
+		}
+
+		/**
+		 * Consume all bytes of the source buffer
+		 */
+		private void feed(ByteBuffer source) throws IOException {
+			int length = source.remaining();
+			if (start > 0) {
+				System.arraycopy(buffer, start, buffer, 0, end - start);
+				end -= start;
+				start = 0;
+			}
+			if (end + length > buffer.length) {
+				buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, end + length));
+			}
+			source.get(buffer, end, length);
+			end += length;
+			parse();
+		}
+
+		/**
+		 * Advance the state machine as far as the buffered bytes allow
+		 */
+		private void parse() throws IOException {
+			while (true) {
+				String line;
+				switch (state) {
+					case STATUS_LINE:
+					case HEADERS:
+					case CHUNK_SIZE:
+					case CHUNK_END:
+					case TRAILERS:
+						line = readLine();
+						if (line == null) {
+							if (end - start > MAX_HEADER_SIZE) {
+								throw new IOException("Response header is too large");
+							}
+							return;
+						}
+						parseLine(line);
+						break;
+					case FIXED_BODY:
+					case CHUNK_DATA:
+						int length = (int) Math.min(remaining, end - start);
+						appendBody(length);
+						remaining -= length;
+						if (remaining > 0) {
+							return;
+						}
+						state = state == FIXED_BODY ? DONE : CHUNK_END;
+						break;
+					case CLOSE_DELIMITED_BODY:
+						appendBody(end - start);
+						return;
+					default:
+						return;
+				}
+			}
+		}
+
+		/**
+		 * Handle one line of the status line, headers, chunk framing or trailers
+		 */
+		private void parseLine(String line) throws IOException {
+			switch (state) {
+				case STATUS_LINE:
+					if (line.isEmpty()) {
+						return;
+					}
+					String[] parts = line.split(" ", 3);
+					if (parts.length < 2 || !parts[0].startsWith("HTTP/")) {
+						throw new IOException("Invalid status line " + line);
+					}
+					isHttp10 = "HTTP/1.0".equals(parts[0]);
+					statusCode = Integer.parseInt(parts[1].trim());
+					state = HEADERS;
+					return;
+				case HEADERS:
+					if (!line.isEmpty()) {
+						int colon = line.indexOf(':');
+						if (colon > 0) {
+							headers.computeIfAbsent(line.substring(0, colon).trim().toLowerCase(), name -> new ArrayList<>()).add(line.substring(colon + 1).trim());
+						}
+						return;
+					}
+					if (statusCode / 100 == 1) {
+						// interim response, the final response follows
+						headers.clear();
+						state = STATUS_LINE;
+						return;
+					}
+					startBody();
+					return;
+				case CHUNK_SIZE:
+					int extension = line.indexOf(';');
+					remaining = Long.parseLong((extension >= 0 ? line.substring(0, extension) : line).trim(), 16);
+					state = remaining == 0 ? TRAILERS : CHUNK_DATA;
+					return;
+				case CHUNK_END:
+					state = CHUNK_SIZE;
+					return;
+				default:
+					if (line.isEmpty()) {
+						state = DONE;
+					}
+			}
+		}
+
+		/**
+		 * Choose how the body is delimited
+		 */
+		private void startBody() {
+			if (isHead || statusCode == 204 || statusCode == 304) {
+				state = DONE;
+			} else if (getHeader("transfer-encoding") != null && getHeader("transfer-encoding").toLowerCase().contains("chunked")) {
+				state = CHUNK_SIZE;
+			} else if (getHeader("content-length") != null) {
+				remaining = Long.parseLong(getHeader("content-length"));
+				state = remaining == 0 ? DONE : FIXED_BODY;
+			} else {
+				state = CLOSE_DELIMITED_BODY;
+			}
+		}
+
+		/**
+		 * Read one line terminated by LF, without the line terminator
+		 */
+		private String readLine() {
+			for (int i = start; i < end; i++) {
+				if (buffer[i] == '\n') {
+					int lineEnd = i > start && buffer[i - 1] == '\r' ? i - 1 : i;
+					String line = new String(buffer, start, lineEnd - start, StandardCharsets.ISO_8859_1);
+					start = i + 1;
+					return line;
+				}
+			}
+			return null;
+		}
+
+		/**
+		 * Move buffered bytes to the body
+		 */
+		private void appendBody(int length) throws IOException {
+			if (body.size() + length > MAX_BODY_SIZE) {
+				throw new IOException("Response body is too large");
+			}
+			body.write(buffer, start, length);
+			start += length;
+		}
+
+		/**
+		 * Retrieves first value of a header
+		 */
+		private String getHeader(String name) {
+			List<String> values = headers.get(name);
+			return values == null || values.isEmpty() ? null : values.get(0);
+		}
+
+		/**
+		 * Check if the whole response is received
+		 */
+		private boolean isComplete() {
+			return state == DONE;
+		}
+
+		/**
+		 * Complete a close delimited body when the device closes the connection
+		 *
+		 * @return true if the response is complete
+		 */
+		private boolean onEndOfStream() {
+			if (state == CLOSE_DELIMITED_BODY) {
+				state = DONE;
+			}
+			return state == DONE;
+		}
+
+		/**
+		 * Check if the connection can carry another request
+		 */
+		private boolean isKeepAlive() {
+			String connection = getHeader("connection");
+			if (connection != null && connection.equalsIgnoreCase("close")) {
+				return false;
+			}
+			return !isHttp10 || (connection != null && connection.equalsIgnoreCase("keep-alive"));
+		}
+
+		/**
+		 * Build the result of the parsed response
+		 */
+		private HttpResult toResult() {
+			return new HttpResult(statusCode, headers, body.toByteArray());
+		}
+	}
+}
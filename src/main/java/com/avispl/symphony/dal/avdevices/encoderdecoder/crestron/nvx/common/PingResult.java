@@ -0,0 +1,114 @@
+/*
+ *  Copyright (c) 2024 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.avdevices.encoderdecoder.crestron.nvx.common;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * PingResult collects the round trip times of the attempts of one ping.
+ *
+ * @author Kevin / Symphony Dev Team<br>
+ * Created on 10/18/2026
+ * @since 1.0.0
+ */
+public class PingResult {
+	private final int attempts;
+	private int successCount;
+	private long minNanos = Long.MAX_VALUE;
+	private long maxNanos;
+	private long totalNanos;
+	private Exception error;
+
+	/**
+	 * Constructs a new instance of PingResult.
+	 *
+	 * @param attempts number of attempts of the ping
+	 */
+	public PingResult(int attempts) {
+		this.attempts = attempts;
+	}
+
+	/**
+	 * Record a successful attempt
+	 *
+	 * @param nanos round trip time in nanoseconds
+	 */
+	public synchronized void record(long nanos) {
+		successCount++;
+		totalNanos += nanos;
+		minNanos = Math.min(minNanos, nanos);
+		maxNanos = Math.max(maxNanos, nanos);
+	}
+
+	/**
+	 * Sets {@link #error} value
+	 *
+	 * @param error new value of {@link #error}
+	 */
+	public synchronized void setError(Exception error) {
+		this.error = error;
+	}
+
+	/**
+	 * Retrieves number of attempts that succeeded within the timeout
+	 *
+	 * @return successful attempts
+	 */
+	public synchronized int getSuccessCount() {
+		return successCount;
+	}
+
+	/**
+	 * Retrieves number of attempts
+	 *
+	 * @return attempts
+	 */
+	public int getAttempts() {
+		return attempts;
+	}
+
+	/**
+	 * Retrieves shortest round trip time
+	 *
+	 * @return milliseconds, 0 if no attempt succeeded
+	 */
+	public synchronized double getMin() {
+		return successCount == 0 ? 0 : toMillis(minNanos);
+	}
+
+	/**
+	 * Retrieves average round trip time of the successful attempts
+	 *
+	 * @return milliseconds, 0 if no attempt succeeded
+	 */
+	public synchronized double getAverage() {
+		return successCount == 0 ? 0 : toMillis(totalNanos / successCount);
+	}
+
+	/**
+	 * Retrieves longest round trip time
+	 *
+	 * @return milliseconds, 0 if no attempt succeeded
+	 */
+	public synchronized double getMax() {
+		return toMillis(maxNanos);
+	}
+
+	/**
+	 * Retrieves last error of a failed attempt, e.g. a refused connection
+	 *
+	 * @return error or null if none
+	 */
+	public synchronized Exception getError() {
+		return error;
+	}
+
+	/**
+	 * Convert nanoseconds to milliseconds
+	 */
+	private static double toMillis(long nanos) {
+		return nanos / (double) TimeUnit.MILLISECONDS.toNanos(1);
+	}
+}
@@ -0,0 +1,106 @@
+/*
+ *  Copyright (c) 2024 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.avdevices.encoderdecoder.crestron.nvx.common;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import com.avispl.symphony.api.dal.dto.control.AdvancedControllableProperty;
+
+/**
+ * PopulatedGroup stores monitoring and controllable properties populated for one group,
+ * so they can be reused while the responses the group is built from are the same instances.
+ *
+ * @author Kevin / Symphony Dev Team<br>
+ * Created on 10/18/2026
+ * @since 1.0.0
+ */
+public class PopulatedGroup {
+	private final List<JsonNode> sources;
+	private final String deviceMode;
+	private final Map<String, String> filterValues;
+	private final Map<String, String> stats = new HashMap<>();
+	private final Map<String, String> controlStats = new HashMap<>();
+	private final List<AdvancedControllableProperty> advancedControllableProperties = new ArrayList<>();
+
+	/**
+	 * Constructs a new instance of PopulatedGroup.
+	 *
+	 * @param sources cached responses the group is populated from
+	 * @param deviceMode device mode the group is populated for
+	 * @param filterValues filter values selected in the user interface
+	 */
+	public PopulatedGroup(List<JsonNode> sources, String deviceMode, Map<String, String> filterValues) {
+		this.sources = new ArrayList<>(sources);
+		this.deviceMode = deviceMode;
+		this.filterValues = new HashMap<>(filterValues);
+	}
+
+	/**
+	 * Check if the group was populated from exactly the same responses, device mode and filter values
+	 *
+	 * @param sources cached responses of the current cycle
+	 * @param deviceMode current device mode
+	 * @param filterValues current filter values
+	 * @return true if the populated properties can be reused
+	 */
+	public boolean isPopulatedFrom(List<JsonNode> sources, String deviceMode, Map<String, String> filterValues) {
+		if (sources.size() != this.sources.size() || !Objects.equals(deviceMode, this.deviceMode) || !filterValues.equals(this.filterValues)) {
+			return false;
+		}
+		for (int i = 0; i < sources.size(); i++) {
+			// an unchanged payload keeps its cached tree, so identity is enough to detect a change
+			if (sources.get(i) != this.sources.get(i)) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Retrieves {@link #stats}
+	 *
+	 * @return value of {@link #stats}
+	 */
+	public Map<String, String> getStats() {
+		return stats;
+	}
+
+	/**
+	 * Retrieves {@link #controlStats}
+	 *
+	 * @return value of {@link #controlStats}
+	 */
+	public Map<String, String> getControlStats() {
+		return controlStats;
+	}
+
+	/**
+	 * Retrieves {@link #advancedControllableProperties}
+	 *
+	 * @return value of {@link #advancedControllableProperties}
+	 */
+	public List<AdvancedControllableProperty> getAdvancedControllableProperties() {
+		return advancedControllableProperties;
+	}
+
+	/**
+	 * Copy populated properties of the group into the properties of the current cycle
+	 *
+	 * @param stats store monitoring properties
+	 * @param controlStats store control properties
+	 * @param advancedControllableProperties store controllable properties
+	 */
+	public void copyTo(Map<String, String> stats, Map<String, String> controlStats, List<AdvancedControllableProperty> advancedControllableProperties) {
+		stats.putAll(this.stats);
+		controlStats.putAll(this.controlStats);
+		advancedControllableProperties.addAll(this.advancedControllableProperties);
+	}
+}
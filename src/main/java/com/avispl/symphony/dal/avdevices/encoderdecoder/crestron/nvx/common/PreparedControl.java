@@ -0,0 +1,96 @@
+/*
+ *  Copyright (c) 2024 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.avdevices.encoderdecoder.crestron.nvx.common;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * PreparedControl is a control value converted to the request field of its endpoint,
+ * so controls sent to the same endpoint can be merged into one request.
+ *
+ * @author Kevin / Symphony Dev Team<br>
+ * Created on 10/18/2026
+ * @since 1.0.0
+ */
+public class PreparedControl {
+	private final CrestronControlCommand command;
+	private final String uri;
+	private final String property;
+	private final Object value;
+	private final String localValue;
+	private final Map<String, String> relatedStats = new HashMap<>();
+
+	/**
+	 * Constructs a new instance of PreparedControl.
+	 *
+	 * @param command control command
+	 * @param uri device api the request is sent to
+	 * @param property name of the controllable property
+	 * @param value value of the request field
+	 * @param localValue value displayed once the control succeeds, null if the control has no value, e.g. a button
+	 */
+	public PreparedControl(CrestronControlCommand command, String uri, String property, Object value, String localValue) {
+		this.command = command;
+		this.uri = uri;
+		this.property = property;
+		this.value = value;
+		this.localValue = localValue;
+	}
+
+	/**
+	 * Retrieves {@link #command}
+	 *
+	 * @return value of {@link #command}
+	 */
+	public CrestronControlCommand getCommand() {
+		return command;
+	}
+
+	/**
+	 * Retrieves {@link #uri}
+	 *
+	 * @return value of {@link #uri}
+	 */
+	public String getUri() {
+		return uri;
+	}
+
+	/**
+	 * Retrieves {@link #property}
+	 *
+	 * @return value of {@link #property}
+	 */
+	public String getProperty() {
+		return property;
+	}
+
+	/**
+	 * Retrieves {@link #value}
+	 *
+	 * @return value of {@link #value}
+	 */
+	public Object getValue() {
+		return value;
+	}
+
+	/**
+	 * Retrieves {@link #localValue}
+	 *
+	 * @return value of {@link #localValue}
+	 */
+	public String getLocalValue() {
+		return localValue;
+	}
+
+	/**
+	 * Retrieves monitoring properties displayed along with the control once it succeeds
+	 *
+	 * @return value of {@link #relatedStats}
+	 */
+	public Map<String, String> getRelatedStats() {
+		return relatedStats;
+	}
+}
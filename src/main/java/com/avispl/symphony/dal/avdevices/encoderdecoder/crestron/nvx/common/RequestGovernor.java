@@ -0,0 +1,337 @@
+/*
+ *  Copyright (c) 2024 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.avdevices.encoderdecoder.crestron.nvx.common;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * RequestGovernor limits the requests sent to one device with a token bucket refilled at a fixed rate
+ * and a maximum number of requests in flight.
+ * Priority requests, i.e. controls and logins, are granted before any waiting polling request.
+ * A request that can't be sent yet is queued as a future completed when a slot and a token are available,
+ * so waiting does not hold a thread. Token refills and timeouts are run on one timer thread shared by all devices.
+ *
+ * @author Kevin / Symphony Dev Team<br>
+ * Created on 10/18/2026
+ * @since 1.0.0
+ */
+public class RequestGovernor {
+	private static final ScheduledThreadPoolExecutor timer = createTimer();
+
+	private final ReentrantLock lock = new ReentrantLock();
+	private final Deque<Waiter> priorityWaiters = new ArrayDeque<>();
+	private final Deque<Waiter> normalWaiters = new ArrayDeque<>();
+
+	private final double requestsPerSecond;
+	private final int maxInFlight;
+	private double tokens;
+	private long lastRefill = System.nanoTime();
+	private int inFlight;
+	private ScheduledFuture<?> refillTask;
+	private long throttledCount;
+	private long timeoutCount;
+
+	/**
+	 * Constructs a new instance of RequestGovernor.
+	 *
+	 * @param requestsPerSecond requests granted per second, also the burst size, 0 for no rate limit
+	 * @param maxInFlight requests in flight at the same time, 0 for no limit
+	 */
+	public RequestGovernor(int requestsPerSecond, int maxInFlight) {
+		this.requestsPerSecond = requestsPerSecond;
+		this.maxInFlight = maxInFlight;
+		this.tokens = requestsPerSecond;
+	}
+
+	/**
+	 * Grant a request only if it can be sent now, every granted request must be followed by {@link #release()}
+	 *
+	 * @param isPriority true for controls and logins, never granted ahead of a waiting request of the same or a higher priority
+	 * @return true if granted
+	 */
+	public boolean tryAcquire(boolean isPriority) {
+		lock.lock();
+		try {
+			return !isQueuedBehind(isPriority) && grant();
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * Queue a request until it can be sent, every granted request must be followed by {@link #release()}
+	 *
+	 * @param isPriority true for controls and logins, granted before polling requests
+	 * @param timeout maximum time to wait in milliseconds
+	 * @return future completed when the request is granted, or completed exceptionally with a {@link TimeoutException}
+	 * if it is not granted within the timeout. Cancelling the future removes the request from the queue.
+	 */
+	public CompletableFuture<Void> acquireAsync(boolean isPriority, long timeout) {
+		CompletableFuture<Void> future = new CompletableFuture<>();
+		Waiter waiter = new Waiter(future);
+		lock.lock();
+		try {
+			if (!isQueuedBehind(isPriority) && grant()) {
+				future.complete(null);
+				return future;
+			}
+			(isPriority ? priorityWaiters : normalWaiters).addLast(waiter);
+			waiter.timeout = timer.schedule(() -> expire(waiter, timeout), Math.max(0, timeout), TimeUnit.MILLISECONDS);
+			scheduleRefill();
+		} finally {
+			lock.unlock();
+		}
+		future.whenComplete((result, error) -> {
+			if (future.isCancelled()) {
+				remove(waiter);
+			}
+		});
+		return future;
+	}
+
+	/**
+	 * Wait until a request can be sent, every granted request must be followed by {@link #release()}
+	 *
+	 * @param isPriority true for controls and logins, granted before polling requests
+	 * @param timeout maximum time to wait in milliseconds
+	 * @return true if granted, false if the request could not be sent within the timeout
+	 * @throws InterruptedException if the thread is interrupted while waiting
+	 */
+	public boolean acquire(boolean isPriority, long timeout) throws InterruptedException {
+		CompletableFuture<Void> future = acquireAsync(isPriority, timeout);
+		try {
+			future.get();
+			return true;
+		} catch (ExecutionException e) {
+			// only completed exceptionally on timeout
+			return false;
+		} catch (InterruptedException e) {
+			if (!future.cancel(false) && !future.isCompletedExceptionally()) {
+				// granted while interrupted
+				release();
+			}
+			throw e;
+		}
+	}
+
+	/**
+	 * Release a request granted by {@link #acquire(boolean, long)}, {@link #acquireAsync(boolean, long)} or {@link #tryAcquire(boolean)}
+	 * once its response is received or it failed
+	 */
+	public void release() {
+		lock.lock();
+		try {
+			inFlight--;
+		} finally {
+			lock.unlock();
+		}
+		dispatch();
+	}
+
+	/**
+	 * Retrieves number of requests waiting to be granted
+	 *
+	 * @return queue depth
+	 */
+	public int getQueueDepth() {
+		lock.lock();
+		try {
+			return priorityWaiters.size() + normalWaiters.size();
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * Retrieves number of requests granted after waiting
+	 *
+	 * @return throttled requests
+	 */
+	public long getThrottledCount() {
+		lock.lock();
+		try {
+			return throttledCount;
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * Retrieves number of requests not granted within their timeout
+	 *
+	 * @return timed out requests
+	 */
+	public long getTimeoutCount() {
+		lock.lock();
+		try {
+			return timeoutCount;
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * Check if a request has to wait behind the queued requests, priority requests only wait behind priority requests
+	 */
+	private boolean isQueuedBehind(boolean isPriority) {
+		return !priorityWaiters.isEmpty() || !isPriority && !normalWaiters.isEmpty();
+	}
+
+	/**
+	 * Take a token and a slot if both are available, called with {@link #lock} held
+	 *
+	 * @return true if granted
+	 */
+	private boolean grant() {
+		refill();
+		boolean hasToken = requestsPerSecond <= 0 || tokens >= 1;
+		boolean hasSlot = maxInFlight <= 0 || inFlight < maxInFlight;
+		if (!hasToken || !hasSlot) {
+			return false;
+		}
+		if (requestsPerSecond > 0) {
+			tokens -= 1;
+		}
+		inFlight++;
+		return true;
+	}
+
+	/**
+	 * Grant the queued requests that can be sent now, priority requests first, and complete their futures outside the lock
+	 */
+	private void dispatch() {
+		List<Waiter> granted = null;
+		lock.lock();
+		try {
+			while (true) {
+				Deque<Waiter> waiters = priorityWaiters.isEmpty() ? normalWaiters : priorityWaiters;
+				if (waiters.isEmpty() || !grant()) {
+					break;
+				}
+				if (granted == null) {
+					granted = new ArrayList<>();
+				}
+				granted.add(waiters.pollFirst());
+				throttledCount++;
+			}
+			scheduleRefill();
+		} finally {
+			lock.unlock();
+		}
+		if (granted != null) {
+			for (Waiter waiter : granted) {
+				waiter.timeout.cancel(false);
+				if (!waiter.future.complete(null)) {
+					// cancelled by the caller meanwhile, give the slot to the next request
+					release();
+				}
+			}
+		}
+	}
+
+	/**
+	 * Schedule a dispatch when the next token is earned if requests wait only for a token, called with {@link #lock} held.
+	 * A request waiting for a slot is dispatched by {@link #release()}.
+	 */
+	private void scheduleRefill() {
+		boolean hasWaiters = !priorityWaiters.isEmpty() || !normalWaiters.isEmpty();
+		boolean hasSlot = maxInFlight <= 0 || inFlight < maxInFlight;
+		if (refillTask != null || !hasWaiters || !hasSlot || requestsPerSecond <= 0 || tokens >= 1) {
+			return;
+		}
+		long delay = (long) ((1 - tokens) * TimeUnit.SECONDS.toNanos(1) / requestsPerSecond) + 1;
+		refillTask = timer.schedule(() -> {
+			lock.lock();
+			try {
+				refillTask = null;
+			} finally {
+				lock.unlock();
+			}
+			dispatch();
+		}, delay, TimeUnit.NANOSECONDS);
+	}
+
+	/**
+	 * Fail a request still queued when its timeout elapses
+	 */
+	private void expire(Waiter waiter, long timeout) {
+		if (remove(waiter)) {
+			lock.lock();
+			try {
+				timeoutCount++;
+			} finally {
+				lock.unlock();
+			}
+			waiter.future.completeExceptionally(new TimeoutException(String.format("Request is not granted within %s ms", timeout)));
+		}
+	}
+
+	/**
+	 * Remove a request from the queue, the requests behind it may be granted now
+	 *
+	 * @return true if the request was still queued
+	 */
+	private boolean remove(Waiter waiter) {
+		boolean isRemoved;
+		lock.lock();
+		try {
+			isRemoved = priorityWaiters.remove(waiter) || normalWaiters.remove(waiter);
+		} finally {
+			lock.unlock();
+		}
+		if (isRemoved) {
+			waiter.timeout.cancel(false);
+			dispatch();
+		}
+		return isRemoved;
+	}
+
+	/**
+	 * Add the tokens earned since the last refill, up to one second of requests
+	 */
+	private void refill() {
+		if (requestsPerSecond <= 0) {
+			return;
+		}
+		long now = System.nanoTime();
+		tokens = Math.min(requestsPerSecond, tokens + (now - lastRefill) * requestsPerSecond / TimeUnit.SECONDS.toNanos(1));
+		lastRefill = now;
+	}
+
+	/**
+	 * Create the timer shared by all governors, the futures it completes must not be followed by blocking callbacks
+	 */
+	private static ScheduledThreadPoolExecutor createTimer() {
+		ScheduledThreadPoolExecutor executor = new ScheduledThreadPoolExecutor(1, runnable -> {
+			Thread thread = new Thread(runnable, "crestron-nvx-governor-timer");
+			thread.setDaemon(true);
+			return thread;
+		});
+		executor.setRemoveOnCancelPolicy(true);
+		return executor;
+	}
+
+	/**
+	 * Request queued until it can be sent
+	 */
+	private static class Waiter {
+		private final CompletableFuture<Void> future;
+		private ScheduledFuture<?> timeout;
+
+		private Waiter(CompletableFuture<Void> future) {
+			this.future = future;
+		}
+	}
+}
@@ -0,0 +1,137 @@
+/*
+ *  Copyright (c) 2024 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.avdevices.encoderdecoder.crestron.nvx.common;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * RequestMetrics records latency, response size and error count of each REST API endpoint,
+ * plus login time and polling cycle time, in fixed bucket histograms that can be merged across devices.
+ *
+ * @author Kevin / Symphony Dev Team<br>
+ * Created on 10/18/2026
+ * @since 1.0.0
+ */
+public class RequestMetrics {
+	private static final long[] LATENCY_BOUNDS = { 1, 2, 5, 10, 20, 50, 100, 200, 500, 1000, 2000, 5000, 10000, 30000 };
+	private static final long[] SIZE_BOUNDS = { 256, 1024, 4096, 16384, 65536, 262144, 1048576 };
+
+	/**
+	 * Metrics of one endpoint
+	 */
+	private static class EndpointMetrics {
+		private final FixedBucketHistogram latency = new FixedBucketHistogram(LATENCY_BOUNDS);
+		private final FixedBucketHistogram size = new FixedBucketHistogram(SIZE_BOUNDS);
+		private final AtomicLong errors = new AtomicLong();
+	}
+
+	private final Map<String, EndpointMetrics> endpoints = new ConcurrentHashMap<>();
+	private final FixedBucketHistogram loginLatency = new FixedBucketHistogram(LATENCY_BOUNDS);
+	private final AtomicLong loginErrors = new AtomicLong();
+	private final FixedBucketHistogram cycleTime = new FixedBucketHistogram(LATENCY_BOUNDS);
+
+	/**
+	 * Record a completed request
+	 *
+	 * @param uri endpoint uri
+	 * @param startNanos {@link System#nanoTime()} when the request was sent
+	 * @param size response size in bytes
+	 */
+	public void recordRequest(String uri, long startNanos, long size) {
+		EndpointMetrics metrics = endpoints.computeIfAbsent(uri, key -> new EndpointMetrics());
+		metrics.latency.record(elapsedMillis(startNanos));
+		metrics.size.record(size);
+	}
+
+	/**
+	 * Record a failed request
+	 *
+	 * @param uri endpoint uri
+	 */
+	public void recordError(String uri) {
+		endpoints.computeIfAbsent(uri, key -> new EndpointMetrics()).errors.incrementAndGet();
+	}
+
+	/**
+	 * Record a login
+	 *
+	 * @param startNanos {@link System#nanoTime()} when the login request was sent
+	 * @param isSucceeded false if the device did not answer the login request
+	 */
+	public void recordLogin(long startNanos, boolean isSucceeded) {
+		if (isSucceeded) {
+			loginLatency.record(elapsedMillis(startNanos));
+		} else {
+			loginErrors.incrementAndGet();
+		}
+	}
+
+	/**
+	 * Record a completed polling cycle
+	 *
+	 * @param startNanos {@link System#nanoTime()} when the cycle started
+	 */
+	public void recordCycle(long startNanos) {
+		cycleTime.record(elapsedMillis(startNanos));
+	}
+
+	/**
+	 * Add the metrics of another instance, e.g. to aggregate the metrics of several devices
+	 *
+	 * @param other metrics to add
+	 */
+	public void merge(RequestMetrics other) {
+		other.endpoints.forEach((uri, metrics) -> {
+			EndpointMetrics target = endpoints.computeIfAbsent(uri, key -> new EndpointMetrics());
+			target.latency.merge(metrics.latency);
+			target.size.merge(metrics.size);
+			target.errors.addAndGet(metrics.errors.get());
+		});
+		loginLatency.merge(other.loginLatency);
+		loginErrors.addAndGet(other.loginErrors.get());
+		cycleTime.merge(other.cycleTime);
+	}
+
+	/**
+	 * Populate the metrics as monitoring properties of the adapter metrics group
+	 *
+	 * @param stats store monitoring properties
+	 */
+	public void populate(Map<String, String> stats) {
+		endpoints.forEach((uri, metrics) -> {
+			String prefix = CrestronConstant.ADAPTER_METRICS_GROUP + getEndpointName(uri);
+			stats.put(prefix + "Requests", String.valueOf(metrics.latency.getCount()));
+			stats.put(prefix + "Errors", String.valueOf(metrics.errors.get()));
+			stats.put(prefix + "LatencyP50(ms)", String.valueOf(metrics.latency.getPercentile(50)));
+			stats.put(prefix + "LatencyP95(ms)", String.valueOf(metrics.latency.getPercentile(95)));
+			stats.put(prefix + "LatencyMax(ms)", String.valueOf(metrics.latency.getMax()));
+			stats.put(prefix + "ResponseSizeAvg(B)", String.valueOf(metrics.size.getAverage()));
+		});
+		stats.put(CrestronConstant.ADAPTER_METRICS_GROUP + "Logins", String.valueOf(loginLatency.getCount()));
+		stats.put(CrestronConstant.ADAPTER_METRICS_GROUP + "LoginErrors", String.valueOf(loginErrors.get()));
+		stats.put(CrestronConstant.ADAPTER_METRICS_GROUP + "LoginLatencyP95(ms)", String.valueOf(loginLatency.getPercentile(95)));
+		stats.put(CrestronConstant.ADAPTER_METRICS_GROUP + "CycleTimeP50(ms)", String.valueOf(cycleTime.getPercentile(50)));
+		stats.put(CrestronConstant.ADAPTER_METRICS_GROUP + "CycleTimeP95(ms)", String.valueOf(cycleTime.getPercentile(95)));
+		stats.put(CrestronConstant.ADAPTER_METRICS_GROUP + "CycleTimeMax(ms)", String.valueOf(cycleTime.getMax()));
+	}
+
+	/**
+	 * Build property name of an endpoint, e.g. CloudSettingsXioCloud for Device/CloudSettings/XioCloud
+	 */
+	private static String getEndpointName(String uri) {
+		String name = uri.startsWith(CrestronUri.DEVICE_API + "/") ? uri.substring(CrestronUri.DEVICE_API.length() + 1) : uri;
+		return name.replace("/", CrestronConstant.EMPTY);
+	}
+
+	/**
+	 * Milliseconds elapsed since the given {@link System#nanoTime()}
+	 */
+	private static long elapsedMillis(long startNanos) {
+		return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+	}
+}
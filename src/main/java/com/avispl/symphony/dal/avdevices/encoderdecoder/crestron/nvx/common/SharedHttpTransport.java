@@ -0,0 +1,111 @@
+/*
+ *  Copyright (c) 2024 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.avdevices.encoderdecoder.crestron.nvx.common;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import javax.net.ssl.SSLContext;
+import org.apache.http.client.HttpClient;
+import org.apache.http.client.config.RequestConfig;
+import org.apache.http.config.Registry;
+import org.apache.http.config.RegistryBuilder;
+import org.apache.http.conn.socket.ConnectionSocketFactory;
+import org.apache.http.conn.socket.PlainConnectionSocketFactory;
+import org.apache.http.conn.ssl.NoopHostnameVerifier;
+import org.apache.http.conn.ssl.SSLConnectionSocketFactory;
+import org.apache.http.conn.ssl.TrustAllStrategy;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.impl.client.HttpClients;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.apache.http.ssl.SSLContexts;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.http.converter.xml.MappingJackson2XmlHttpMessageConverter;
+import org.springframework.web.client.RestTemplate;
+
+/**
+ * SharedHttpTransport is one pooled HTTP client shared by the adapter instances of many devices,
+ * so a fleet of devices keeps a bounded number of connections and a single idle connection evictor.
+ * Cookies are not stored by the client, every adapter instance sends its own session cookie.
+ *
+ * @author Kevin / Symphony Dev Team<br>
+ * Created on 10/18/2026
+ * @since 1.0.0
+ */
+public class SharedHttpTransport {
+	private final PoolingHttpClientConnectionManager connectionManager;
+	private final CloseableHttpClient httpClient;
+	private final RestTemplate restTemplate;
+
+	/**
+	 * Constructs a new instance of SharedHttpTransport.
+	 *
+	 * @param timeout connect and read timeout in milliseconds
+	 * @param maxConnectionsTotal maximum number of connections to all devices
+	 * @param maxConnectionsPerRoute maximum number of connections to one device
+	 * @param connectionsMaxIdleTime time in milliseconds an idle connection is kept alive
+	 * @throws Exception if the SSL context can't be created
+	 */
+	public SharedHttpTransport(int timeout, int maxConnectionsTotal, int maxConnectionsPerRoute, int connectionsMaxIdleTime) throws Exception {
+		SSLContext sslContext = SSLContexts.custom().loadTrustMaterial(null, TrustAllStrategy.INSTANCE).build();
+		Registry<ConnectionSocketFactory> registry = RegistryBuilder.<ConnectionSocketFactory>create()
+				.register("http", PlainConnectionSocketFactory.getSocketFactory())
+				.register("https", new SSLConnectionSocketFactory(sslContext, NoopHostnameVerifier.INSTANCE))
+				.build();
+		connectionManager = new PoolingHttpClientConnectionManager(registry);
+		connectionManager.setMaxTotal(maxConnectionsTotal);
+		connectionManager.setDefaultMaxPerRoute(maxConnectionsPerRoute);
+
+		RequestConfig requestConfig = RequestConfig.custom().setConnectTimeout(timeout).setConnectionRequestTimeout(timeout).setSocketTimeout(timeout).build();
+		httpClient = HttpClients.custom()
+				.setConnectionManager(connectionManager)
+				.setDefaultRequestConfig(requestConfig)
+				.disableCookieManagement()
+				.evictExpiredConnections()
+				.evictIdleConnections(connectionsMaxIdleTime, TimeUnit.MILLISECONDS)
+				.build();
+
+		restTemplate = new RestTemplate(new HttpComponentsClientHttpRequestFactory(httpClient));
+		restTemplate.getMessageConverters().removeIf(converter -> converter instanceof MappingJackson2XmlHttpMessageConverter);
+	}
+
+	/**
+	 * Retrieves {@link #httpClient}
+	 *
+	 * @return value of {@link #httpClient}
+	 */
+	public HttpClient getHttpClient() {
+		return httpClient;
+	}
+
+	/**
+	 * Retrieves {@link #restTemplate}
+	 *
+	 * @return value of {@link #restTemplate}
+	 */
+	public RestTemplate getRestTemplate() {
+		return restTemplate;
+	}
+
+	/**
+	 * Retrieves number of connections currently leased or kept alive
+	 *
+	 * @return leased plus available connections
+	 */
+	public int getConnectionCount() {
+		return connectionManager.getTotalStats().getLeased() + connectionManager.getTotalStats().getAvailable();
+	}
+
+	/**
+	 * Close all connections of the pool
+	 */
+	public void close() {
+		try {
+			httpClient.close();
+		} catch (IOException e) {
+			connectionManager.shutdown();
+		}
+	}
+}
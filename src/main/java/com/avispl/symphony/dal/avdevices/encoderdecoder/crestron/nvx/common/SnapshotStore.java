@@ -0,0 +1,180 @@
+/*
+ *  Copyright (c) 2024 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.avdevices.encoderdecoder.crestron.nvx.common;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+/**
+ * SnapshotStore persists the state the statistics of a device are populated from: the pruned group responses,
+ * the filter values selected in the user interface and the device mode.
+ * A restarted adapter loads it to deliver the last known statistics until its first poll succeeds.
+ * Snapshots of all devices are written on one shared thread.
+ *
+ * @author Kevin / Symphony Dev Team<br>
+ * Created on 10/18/2026
+ * @since 1.0.0
+ */
+public class SnapshotStore {
+	private static final String GROUPS = "Groups";
+	private static final String FILTERS = "Filters";
+	private static final String DEVICE_MODE = "DeviceMode";
+	private static final String TIMESTAMP = "Timestamp";
+	private static final String FILE_EXTENSION = ".json";
+	private static final ExecutorService writer = Executors.newSingleThreadExecutor(runnable -> {
+		Thread thread = new Thread(runnable, "crestron-nvx-snapshot-writer");
+		thread.setDaemon(true);
+		return thread;
+	});
+
+	private final ObjectMapper objectMapper;
+	private final Path file;
+
+	private Map<String, JsonNode> groups = new HashMap<>();
+	private Map<String, String> filterValues = new HashMap<>();
+	private String deviceMode;
+	private long timestamp;
+
+	/**
+	 * Constructs a new instance of SnapshotStore.
+	 *
+	 * @param objectMapper mapper reading and writing the snapshot
+	 * @param directory directory of the snapshots
+	 * @param host host of device
+	 * @param port port of device
+	 */
+	public SnapshotStore(ObjectMapper objectMapper, String directory, String host, int port) {
+		this.objectMapper = objectMapper;
+		this.file = Paths.get(directory, host.replaceAll("[^A-Za-z0-9.-]", "_") + "_" + port + FILE_EXTENSION);
+	}
+
+	/**
+	 * Load the snapshot file, the loaded state is exposed by the getters
+	 *
+	 * @return true if a snapshot was loaded
+	 * @throws IOException if the file can't be read
+	 */
+	public boolean load() throws IOException {
+		if (!Files.isRegularFile(file)) {
+			return false;
+		}
+		JsonNode snapshot = objectMapper.readTree(file.toFile());
+		if (snapshot == null || !snapshot.path(GROUPS).isObject()) {
+			return false;
+		}
+		groups = new HashMap<>();
+		for (Iterator<Entry<String, JsonNode>> iterator = snapshot.get(GROUPS).fields(); iterator.hasNext(); ) {
+			Entry<String, JsonNode> group = iterator.next();
+			groups.put(group.getKey(), group.getValue());
+		}
+		filterValues = new HashMap<>();
+		for (Iterator<Entry<String, JsonNode>> iterator = snapshot.path(FILTERS).fields(); iterator.hasNext(); ) {
+			Entry<String, JsonNode> filter = iterator.next();
+			filterValues.put(filter.getKey(), filter.getValue().asText());
+		}
+		deviceMode = snapshot.path(DEVICE_MODE).asText(CrestronConstant.NONE);
+		timestamp = snapshot.path(TIMESTAMP).asLong();
+		return true;
+	}
+
+	/**
+	 * Build a snapshot of the current state, the responses are referenced, not copied
+	 *
+	 * @param groups cached group responses by group name, null responses are left out
+	 * @param filterValues filter values selected in the user interface
+	 * @param deviceMode current device mode
+	 * @return snapshot to write with {@link #write(ObjectNode)}
+	 */
+	public ObjectNode build(Map<String, JsonNode> groups, Map<String, String> filterValues, String deviceMode) {
+		ObjectNode snapshot = objectMapper.createObjectNode();
+		snapshot.put(TIMESTAMP, System.currentTimeMillis());
+		snapshot.put(DEVICE_MODE, deviceMode);
+		ObjectNode filters = snapshot.putObject(FILTERS);
+		filterValues.forEach(filters::put);
+		ObjectNode groupsNode = snapshot.putObject(GROUPS);
+		groups.forEach((name, response) -> {
+			if (response != null && !response.isNull()) {
+				groupsNode.set(name, response);
+			}
+		});
+		return snapshot;
+	}
+
+	/**
+	 * Write a snapshot, the file is replaced at once so a restart never reads a partial file
+	 *
+	 * @param snapshot snapshot built by {@link #build(Map, Map, String)}
+	 * @throws IOException if the file can't be written
+	 */
+	public void write(ObjectNode snapshot) throws IOException {
+		Path directory = file.toAbsolutePath().getParent();
+		Files.createDirectories(directory);
+		Path temporaryFile = Files.createTempFile(directory, file.getFileName().toString(), ".tmp");
+		try {
+			objectMapper.writeValue(temporaryFile.toFile(), snapshot);
+			Files.move(temporaryFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+		} finally {
+			Files.deleteIfExists(temporaryFile);
+		}
+	}
+
+	/**
+	 * Run a snapshot write on the writer thread shared by all devices
+	 *
+	 * @param task write to run, e.g. {@link #write(ObjectNode)} of the latest snapshot
+	 */
+	public static void queueWrite(Runnable task) {
+		writer.execute(task);
+	}
+
+	/**
+	 * Retrieves {@link #groups}
+	 *
+	 * @return value of {@link #groups}
+	 */
+	public Map<String, JsonNode> getGroups() {
+		return groups;
+	}
+
+	/**
+	 * Retrieves {@link #filterValues}
+	 *
+	 * @return value of {@link #filterValues}
+	 */
+	public Map<String, String> getFilterValues() {
+		return filterValues;
+	}
+
+	/**
+	 * Retrieves {@link #deviceMode}
+	 *
+	 * @return value of {@link #deviceMode}
+	 */
+	public String getDeviceMode() {
+		return deviceMode;
+	}
+
+	/**
+	 * Retrieves {@link #timestamp}
+	 *
+	 * @return value of {@link #timestamp}
+	 */
+	public long getTimestamp() {
+		return timestamp;
+	}
+}
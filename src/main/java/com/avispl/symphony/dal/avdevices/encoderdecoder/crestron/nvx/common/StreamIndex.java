@@ -0,0 +1,144 @@
+/*
+ *  Copyright (c) 2024 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.avdevices.encoderdecoder.crestron.nvx.common;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.NullNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+/**
+ * StreamIndex keeps the unique ids of the streams discovered by a receiver, up to a maximum, in the order of the device.
+ * Only the detail of the selected stream is kept, every other stream is reduced to its unique id,
+ * so a receiver that sees hundreds of transmitters does not keep all of them in memory.
+ * The ids are compared in place with each response and the list is rebuilt only when they change.
+ *
+ * @author Kevin / Symphony Dev Team<br>
+ * Created on 10/18/2026
+ * @since 1.0.0
+ */
+public class StreamIndex {
+	private String[] uniqueIds = new String[0];
+	private int streamCount;
+	private JsonNode compactResponse;
+
+	/**
+	 * Update the index from a DiscoveredStreams response and reduce the response to the retained streams
+	 *
+	 * @param groupResponse DiscoveredStreams object, full or already reduced
+	 * @param selectedId unique id selected in the user interface, null to select the first stream
+	 * @param maxStreams maximum number of streams retained, the selected one is retained in addition if it comes later, 0 for no limit
+	 * @return response with the retained streams, the selected one with its detail and the others with a null value
+	 */
+	public synchronized JsonNode update(JsonNode groupResponse, String selectedId, int maxStreams) {
+		JsonNode streams = groupResponse == null ? null : groupResponse.get(CrestronConstant.STREAMS);
+		if (streams == null || !streams.isObject()) {
+			clear();
+			return groupResponse;
+		}
+		boolean isSelectedPresent = selectedId != null && streams.has(selectedId);
+		int count = 0;
+		int retained = 0;
+		List<String> changedIds = null;
+		for (Iterator<String> names = streams.fieldNames(); names.hasNext(); ) {
+			String id = names.next();
+			count++;
+			if (maxStreams > 0 && retained >= maxStreams && !(isSelectedPresent && selectedId.equals(id))) {
+				continue;
+			}
+			if (changedIds == null && (retained >= uniqueIds.length || !uniqueIds[retained].equals(id))) {
+				changedIds = new ArrayList<>(Math.max(retained, 16));
+				for (int i = 0; i < retained; i++) {
+					changedIds.add(uniqueIds[i]);
+				}
+			}
+			if (changedIds != null) {
+				changedIds.add(id);
+			}
+			retained++;
+		}
+		if (changedIds != null) {
+			uniqueIds = changedIds.toArray(new String[0]);
+		} else if (retained != uniqueIds.length) {
+			String[] ids = new String[retained];
+			System.arraycopy(uniqueIds, 0, ids, 0, retained);
+			uniqueIds = ids;
+		}
+		streamCount = count;
+
+		String selected = isSelectedPresent ? selectedId : uniqueIds.length > 0 ? uniqueIds[0] : null;
+		JsonNode detail = selected == null ? null : streams.get(selected);
+		if (changedIds == null && compactResponse != null && Objects.equals(detail, getDetail(compactResponse, selected))) {
+			return compactResponse;
+		}
+		ObjectNode response = JsonNodeFactory.instance.objectNode();
+		ObjectNode compactStreams = response.putObject(CrestronConstant.STREAMS);
+		for (String id : uniqueIds) {
+			compactStreams.set(id, id.equals(selected) && detail != null ? detail : NullNode.getInstance());
+		}
+		compactResponse = response;
+		return response;
+	}
+
+	/**
+	 * Retrieves unique ids of the retained streams, the returned array must not be modified
+	 *
+	 * @return unique ids in the order of the device
+	 */
+	public synchronized String[] getUniqueIds() {
+		return uniqueIds;
+	}
+
+	/**
+	 * Retrieves number of streams in the last response, retained or not
+	 *
+	 * @return stream count
+	 */
+	public synchronized int getStreamCount() {
+		return streamCount;
+	}
+
+	/**
+	 * Check if the index contains the given unique id
+	 *
+	 * @param uniqueId unique id of stream
+	 * @return true if the stream is retained
+	 */
+	public synchronized boolean contains(String uniqueId) {
+		for (String id : uniqueIds) {
+			if (id.equals(uniqueId)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Remove all streams from the index
+	 */
+	public synchronized void clear() {
+		uniqueIds = new String[0];
+		streamCount = 0;
+		compactResponse = null;
+	}
+
+	/**
+	 * Get detail of a stream from a reduced response
+	 *
+	 * @param compactResponse response returned by {@link #update(JsonNode, String, int)}
+	 * @param uniqueId unique id of stream
+	 * @return detail, null if the stream is unknown or its detail is not kept
+	 */
+	public static JsonNode getDetail(JsonNode compactResponse, String uniqueId) {
+		JsonNode streams = compactResponse == null || uniqueId == null ? null : compactResponse.get(CrestronConstant.STREAMS);
+		JsonNode detail = streams == null ? null : streams.get(uniqueId);
+		return detail == null || detail.isNull() ? null : detail;
+	}
+}
@@ -0,0 +1,95 @@
+/*
+ *  Copyright (c) 2024 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.avdevices.encoderdecoder.crestron.nvx.common;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.SocketChannel;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * TcpPing measures the time to open a TCP connection to a device.
+ * All attempts are started at once on non-blocking channels and share one deadline,
+ * so an unreachable device costs the ping timeout once instead of the system connect timeout per attempt.
+ *
+ * @author Kevin / Symphony Dev Team<br>
+ * Created on 10/18/2026
+ * @since 1.0.0
+ */
+public class TcpPing {
+	private TcpPing() {
+	}
+
+	/**
+	 * Open the given number of connections concurrently and measure the time each one takes to connect
+	 *
+	 * @param host host of device
+	 * @param port port of device
+	 * @param attempts number of connections
+	 * @param timeout time in milliseconds all connections have to connect within
+	 * @return result of the attempts
+	 * @throws IOException if the host can't be resolved or the channels can't be opened
+	 */
+	public static PingResult run(String host, int port, int attempts, int timeout) throws IOException {
+		PingResult ping = new PingResult(Math.max(1, attempts));
+		InetSocketAddress address = new InetSocketAddress(InetAddress.getByName(host), port);
+		List<SocketChannel> channels = new ArrayList<>();
+		try (Selector selector = Selector.open()) {
+			int pending = 0;
+			for (int i = 0; i < ping.getAttempts(); i++) {
+				SocketChannel channel = SocketChannel.open();
+				channels.add(channel);
+				channel.configureBlocking(false);
+				long start = System.nanoTime();
+				try {
+					if (channel.connect(address)) {
+						ping.record(System.nanoTime() - start);
+					} else {
+						channel.register(selector, SelectionKey.OP_CONNECT, start);
+						pending++;
+					}
+				} catch (IOException e) {
+					ping.setError(e);
+				}
+			}
+
+			long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeout);
+			while (pending > 0) {
+				long remaining = TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime());
+				if (remaining <= 0) {
+					break;
+				}
+				selector.select(remaining);
+				long now = System.nanoTime();
+				for (SelectionKey key : selector.selectedKeys()) {
+					pending--;
+					key.cancel();
+					try {
+						if (((SocketChannel) key.channel()).finishConnect()) {
+							ping.record(now - (Long) key.attachment());
+						}
+					} catch (IOException e) {
+						ping.setError(e);
+					}
+				}
+				selector.selectedKeys().clear();
+			}
+		} finally {
+			for (SocketChannel channel : channels) {
+				try {
+					channel.close();
+				} catch (IOException ignored) {
+					// the result is already measured
+				}
+			}
+		}
+		return ping;
+	}
+}
@@ -0,0 +1,150 @@
+/*
+ *  Copyright (c) 2024 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.avdevices.encoderdecoder.crestron.nvx;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.util.Map;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import com.avispl.symphony.api.dal.dto.control.ControllableProperty;
+import com.avispl.symphony.api.dal.dto.monitor.ExtendedStatistics;
+import com.avispl.symphony.dal.avdevices.encoderdecoder.crestron.nvx.common.CrestronConstant;
+import com.avispl.symphony.dal.avdevices.encoderdecoder.crestron.nvx.simulator.NvxSimulator;
+import com.avispl.symphony.dal.avdevices.encoderdecoder.crestron.nvx.simulator.VirtualDevice;
+
+/**
+ * CrestronNVXControlTest covers the merge of batched control bodies and the coalescing of reboots against a simulated device
+ *
+ * @author Kevin / Symphony Dev Team<br>
+ * Created on 10/18/2026
+ * @since 1.0.0
+ */
+@Tag("Mock")
+public class CrestronNVXControlTest {
+	private static final String HOST = "127.0.0.1";
+	private static final int REBOOT_COALESCING_WINDOW = 300;
+	private static final long TIMEOUT = 10000;
+
+	private final ObjectMapper objectMapper = new ObjectMapper();
+	private NvxSimulator simulator;
+	private VirtualDevice device;
+	private CrestronNVXCommunicator crestronNVXCommunicator;
+
+	@BeforeEach
+	void setUp() throws Exception {
+		int port = findFreePort();
+		simulator = new NvxSimulator(NvxSimulator.parseArguments(new String[] { "--devices", "1", "--mode", NvxSimulator.MODE_PORT, "--port", String.valueOf(port),
+				"--fixtures", "nvx-350-transmitter" }));
+		simulator.start();
+		device = simulator.getDevices().get(HOST + CrestronConstant.COLON + port);
+
+		crestronNVXCommunicator = new CrestronNVXCommunicator();
+		crestronNVXCommunicator.setTrustAllCertificates(true);
+		crestronNVXCommunicator.setProtocol("https");
+		crestronNVXCommunicator.setHost(HOST);
+		crestronNVXCommunicator.setPort(port);
+		crestronNVXCommunicator.setLogin("admin");
+		crestronNVXCommunicator.setPassword("admin");
+		crestronNVXCommunicator.setSnapshotDirectory(CrestronConstant.EMPTY);
+		crestronNVXCommunicator.setCapabilityCacheFile(CrestronConstant.EMPTY);
+		crestronNVXCommunicator.setConfigManagement("true");
+		crestronNVXCommunicator.setRebootCoalescingWindow(REBOOT_COALESCING_WINDOW);
+		crestronNVXCommunicator.init();
+	}
+
+	@AfterEach
+	void destroy() throws Exception {
+		crestronNVXCommunicator.destroy();
+		simulator.stop();
+	}
+
+	@Test
+	void testMergeControlBodyMergesObjectsAndArrays() throws Exception {
+		JsonNode target = objectMapper.readTree("{\"Device\":{\"DiscoveryConfig\":{\"TTL\":5},\"AudioVideoInputOutput\":{\"Outputs\":[{\"Ports\":[{\"Audio\":{\"Volume\":10}}]}]}}}");
+		JsonNode source = objectMapper.readTree("{\"Device\":{\"DiscoveryConfig\":{\"TTL\":6,\"DiscoveryAgent\":true},\"AudioVideoInputOutput\":{\"Outputs\":[{\"Ports\":[{\"Audio\":{\"Mute\":true}}]}]}}}");
+
+		crestronNVXCommunicator.mergeControlBody(target, source);
+
+		JsonNode expected = objectMapper.readTree("{\"Device\":{\"DiscoveryConfig\":{\"TTL\":6,\"DiscoveryAgent\":true},\"AudioVideoInputOutput\":{\"Outputs\":[{\"Ports\":[{\"Audio\":{\"Volume\":10,\"Mute\":true}}]}]}}}");
+		Assertions.assertEquals(expected, target);
+	}
+
+	@Test
+	void testMergeControlBodyAppendsArrayElements() throws Exception {
+		JsonNode target = objectMapper.readTree("{\"Outputs\":[{\"Volume\":1}]}");
+		JsonNode source = objectMapper.readTree("{\"Outputs\":[{\"Mute\":false},{\"Volume\":2}]}");
+
+		crestronNVXCommunicator.mergeControlBody(target, source);
+
+		Assertions.assertEquals(objectMapper.readTree("{\"Outputs\":[{\"Volume\":1,\"Mute\":false},{\"Volume\":2}]}"), target);
+	}
+
+	@Test
+	void testRebootsCoalescedWithinWindow() throws Exception {
+		crestronNVXCommunicator.getMultipleStatistics();
+
+		crestronNVXCommunicator.controlProperty(buildControl("Network#IGMPSupport", "v2"));
+		crestronNVXCommunicator.controlProperty(buildControl("Network#CloudConfigurationServiceConnection", "0"));
+		Assertions.assertEquals(0, device.getRebootCount());
+		Assertions.assertEquals("True", retrieveStatistics().get(CrestronConstant.PENDING_REBOOT));
+
+		long deadline = System.currentTimeMillis() + TIMEOUT;
+		while (device.getRebootCount() == 0 && System.currentTimeMillis() < deadline) {
+			Thread.sleep(20);
+		}
+		Assertions.assertEquals(1, device.getRebootCount());
+		awaitPendingReboot("False");
+		Assertions.assertEquals(1, device.getRebootCount());
+	}
+
+	@Test
+	void testRebootControlReplacesPendingReboot() throws Exception {
+		crestronNVXCommunicator.getMultipleStatistics();
+
+		crestronNVXCommunicator.controlProperty(buildControl("Network#IGMPSupport", "v2"));
+		crestronNVXCommunicator.controlProperty(buildControl("Reboot", "1"));
+		Assertions.assertEquals(1, device.getRebootCount());
+		awaitPendingReboot("False");
+		Assertions.assertEquals(1, device.getRebootCount());
+	}
+
+	private ControllableProperty buildControl(String property, String value) {
+		ControllableProperty controllableProperty = new ControllableProperty();
+		controllableProperty.setProperty(property);
+		controllableProperty.setValue(value);
+		return controllableProperty;
+	}
+
+	private Map<String, String> retrieveStatistics() throws Exception {
+		return ((ExtendedStatistics) crestronNVXCommunicator.getMultipleStatistics().get(0)).getStatistics();
+	}
+
+	/**
+	 * Poll until the adapter reports the given pending reboot state, once it is False no reboot is left to send
+	 */
+	private void awaitPendingReboot(String expected) throws Exception {
+		long deadline = System.currentTimeMillis() + TIMEOUT;
+		while (!expected.equals(retrieveStatistics().get(CrestronConstant.PENDING_REBOOT)) && System.currentTimeMillis() < deadline) {
+			Thread.sleep(20);
+		}
+		Assertions.assertEquals(expected, retrieveStatistics().get(CrestronConstant.PENDING_REBOOT));
+	}
+
+	private static int findFreePort() throws IOException {
+		try (ServerSocket socket = new ServerSocket(0, 1, InetAddress.getLoopbackAddress())) {
+			return socket.getLocalPort();
+		}
+	}
+}
@@ -0,0 +1,94 @@
+/*
+ *  Copyright (c) 2024 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.avdevices.encoderdecoder.crestron.nvx;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DynamicTest;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.TestFactory;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import com.avispl.symphony.api.dal.dto.control.AdvancedControllableProperty;
+import com.avispl.symphony.dal.avdevices.encoderdecoder.crestron.nvx.common.CrestronConstant;
+
+/**
+ * CrestronNVXExtractionPlanTest checks that the fields kept by the extraction plans populate the same properties as the full responses
+ *
+ * @author Kevin / Symphony Dev Team<br>
+ * Created on 10/18/2026
+ * @since 1.0.0
+ */
+@Tag("Mock")
+public class CrestronNVXExtractionPlanTest {
+	private static final String[] FIXTURES = { "nvx-e30-transmitter", "nvx-d30-receiver", "nvx-350-transmitter", "nvx-350-receiver", "nvx-352-transmitter",
+			"nvx-352-receiver" };
+
+	private final ObjectMapper objectMapper = new ObjectMapper();
+
+	@TestFactory
+	Stream<DynamicTest> testPrunedResponsePopulatesAsFullResponse() {
+		return Arrays.stream(FIXTURES).map(fixture -> DynamicTest.dynamicTest(fixture, () -> {
+			String response = readFixture(fixture);
+			CrestronNVXCommunicator pruned = new CrestronNVXCommunicator();
+			pruned.cacheDeviceResponse(response);
+			CrestronNVXCommunicator full = new CrestronNVXCommunicator();
+			full.cacheDeviceResponse(objectMapper.readTree(response));
+
+			Map<String, String> expectedStats = new TreeMap<>();
+			Map<String, String> expectedControls = new TreeMap<>();
+			populate(full, expectedStats, expectedControls);
+			Map<String, String> stats = new TreeMap<>();
+			Map<String, String> controls = new TreeMap<>();
+			populate(pruned, stats, controls);
+
+			Assertions.assertFalse(expectedStats.isEmpty());
+			Assertions.assertEquals(expectedStats, stats);
+			Assertions.assertEquals(expectedControls, controls);
+		}));
+	}
+
+	/**
+	 * Populate a full cycle, controllable properties are collected as name, value and options
+	 */
+	private void populate(CrestronNVXCommunicator communicator, Map<String, String> stats, Map<String, String> controls) throws Exception {
+		Map<String, String> controlStats = new HashMap<>();
+		List<AdvancedControllableProperty> advancedControllableProperties = new ArrayList<>();
+		communicator.populateMonitoringAndControllableProperties(stats, controlStats, advancedControllableProperties, false, CrestronConstant.EMPTY);
+		stats.putAll(controlStats);
+		for (AdvancedControllableProperty property : advancedControllableProperties) {
+			String options = property.getType() instanceof AdvancedControllableProperty.DropDown
+					? Arrays.toString(((AdvancedControllableProperty.DropDown) property.getType()).getOptions()) : property.getType().getClass().getSimpleName();
+			controls.put(property.getName(), property.getValue() + " " + options);
+		}
+	}
+
+	private static String readFixture(String name) throws IOException {
+		try (InputStream stream = CrestronNVXExtractionPlanTest.class.getResourceAsStream("/fixtures/" + name + ".json")) {
+			if (stream == null) {
+				throw new IOException("Fixture not found: " + name);
+			}
+			ByteArrayOutputStream output = new ByteArrayOutputStream();
+			byte[] buffer = new byte[8192];
+			int length;
+			while ((length = stream.read(buffer)) != -1) {
+				output.write(buffer, 0, length);
+			}
+			return new String(output.toByteArray(), StandardCharsets.UTF_8);
+		}
+	}
+}
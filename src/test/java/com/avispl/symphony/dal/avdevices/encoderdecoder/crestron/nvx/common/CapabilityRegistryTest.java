@@ -0,0 +1,86 @@
+/*
+ *  Copyright (c) 2024 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.avdevices.encoderdecoder.crestron.nvx.common;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * CapabilityRegistryTest persists capabilities to files of a temporary directory
+ *
+ * @author Kevin / Symphony Dev Team<br>
+ * Created on 10/18/2026
+ * @since 1.0.0
+ */
+@Tag("Mock")
+public class CapabilityRegistryTest {
+	private static final String KEY = CapabilityRegistry.buildKey("DM-NVX-350", "7.1.5215.00048");
+
+	@TempDir
+	Path directory;
+
+	@Test
+	void testOneRegistryPerFile() {
+		Path file = directory.resolve("capabilities.properties");
+		CapabilityRegistry registry = CapabilityRegistry.getInstance(file.toString());
+
+		Assertions.assertSame(registry, CapabilityRegistry.getInstance(directory.resolve("sub").resolve("..").resolve("capabilities.properties").toString()));
+		Assertions.assertNotSame(registry, CapabilityRegistry.getInstance(directory.resolve("other.properties").toString()));
+		Assertions.assertSame(CapabilityRegistry.getInstance(), CapabilityRegistry.getInstance(CrestronConstant.EMPTY));
+		Assertions.assertNotSame(registry, CapabilityRegistry.getInstance());
+	}
+
+	@Test
+	void testSaveAndLoad() throws Exception {
+		Path file = directory.resolve("saved.properties");
+		CapabilityRegistry registry = CapabilityRegistry.getInstance(file.toString());
+		registry.setBulkFetchSupported(KEY, false);
+		registry.setEndpointSupported(KEY, "Device/StreamReceive", true);
+		registry.setDeviceKey("10.0.0.10", KEY);
+		registry.save();
+
+		// a registry is loaded once per file, a copy is loaded by a new registry as after a restart
+		Path copy = Files.copy(file, directory.resolve("restarted.properties"));
+		CapabilityRegistry loaded = CapabilityRegistry.getInstance(copy.toString());
+		Assertions.assertEquals(Boolean.FALSE, loaded.isBulkFetchSupported(KEY));
+		Assertions.assertEquals(Boolean.TRUE, loaded.isEndpointSupported(KEY, "Device/StreamReceive"));
+		Assertions.assertNull(loaded.isEndpointSupported(KEY, "Device/StreamTransmit"));
+		Assertions.assertEquals(KEY, loaded.getDeviceKey("10.0.0.10"));
+	}
+
+	@Test
+	void testUnchangedRegistryNotWritten() throws Exception {
+		Path file = directory.resolve("unchanged.properties");
+		CapabilityRegistry registry = CapabilityRegistry.getInstance(file.toString());
+		registry.setDeviceKey("10.0.0.11", KEY);
+		registry.save();
+		Files.move(file, directory.resolve("moved.properties"), StandardCopyOption.REPLACE_EXISTING);
+
+		registry.setDeviceKey("10.0.0.11", KEY);
+		registry.save();
+		Assertions.assertFalse(Files.exists(file));
+	}
+
+	@Test
+	void testTemporaryFileDeletedWhenSaveFails() throws Exception {
+		// a non-empty directory in place of the file can't be replaced
+		Path file = Files.createDirectories(directory.resolve("blocked.properties"));
+		Files.createFile(file.resolve("entry"));
+		CapabilityRegistry registry = CapabilityRegistry.getInstance(file.toString());
+		registry.setDeviceKey("10.0.0.12", KEY);
+		registry.save();
+
+		try (Stream<Path> files = Files.list(directory)) {
+			Assertions.assertFalse(files.anyMatch(path -> path.getFileName().toString().endsWith(".tmp")));
+		}
+	}
+}
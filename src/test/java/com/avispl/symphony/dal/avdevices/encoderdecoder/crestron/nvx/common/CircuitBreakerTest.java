@@ -0,0 +1,84 @@
+/*
+ *  Copyright (c) 2024 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.avdevices.encoderdecoder.crestron.nvx.common;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+/**
+ * CircuitBreakerTest
+ *
+ * @author Kevin / Symphony Dev Team<br>
+ * Created on 10/18/2026
+ * @since 1.0.0
+ */
+@Tag("Mock")
+public class CircuitBreakerTest {
+
+	@Test
+	void testOpenAfterConsecutiveFailures() {
+		CircuitBreaker breaker = new CircuitBreaker(3, 1000, 8000);
+		breaker.recordFailure();
+		breaker.recordFailure();
+		Assertions.assertEquals(CircuitBreaker.State.CLOSED, breaker.getState());
+		Assertions.assertTrue(breaker.allowRequest());
+
+		breaker.recordFailure();
+		Assertions.assertEquals(CircuitBreaker.State.OPEN, breaker.getState());
+		Assertions.assertFalse(breaker.allowRequest());
+		Assertions.assertEquals(1, breaker.getOpenCount());
+		long remaining = breaker.getRemainingBackoff();
+		Assertions.assertTrue(remaining > 0 && remaining <= 1200, "Remaining backoff " + remaining);
+	}
+
+	@Test
+	void testSuccessResetsConsecutiveFailures() {
+		CircuitBreaker breaker = new CircuitBreaker(2, 1000, 8000);
+		breaker.recordFailure();
+		breaker.recordSuccess();
+		breaker.recordFailure();
+		Assertions.assertEquals(CircuitBreaker.State.CLOSED, breaker.getState());
+	}
+
+	@Test
+	void testHalfOpenAfterBackoff() throws Exception {
+		CircuitBreaker breaker = new CircuitBreaker(1, 20, 1000);
+		breaker.recordFailure();
+		Assertions.assertFalse(breaker.allowRequest());
+
+		Thread.sleep(50);
+		Assertions.assertTrue(breaker.allowRequest());
+		Assertions.assertTrue(breaker.isHalfOpen());
+		Assertions.assertEquals(1, breaker.getProbeCount());
+
+		breaker.recordSuccess();
+		Assertions.assertEquals(CircuitBreaker.State.CLOSED, breaker.getState());
+		Assertions.assertEquals(0, breaker.getRemainingBackoff());
+	}
+
+	@Test
+	void testBackoffDoubledUpToMaximum() throws Exception {
+		CircuitBreaker breaker = new CircuitBreaker(1, 50, 150);
+		breaker.recordFailure();
+		long remaining = breaker.getRemainingBackoff();
+		Assertions.assertTrue(remaining <= 60, "Initial backoff " + remaining);
+
+		Thread.sleep(remaining + 20);
+		Assertions.assertTrue(breaker.allowRequest());
+		breaker.recordFailure();
+		remaining = breaker.getRemainingBackoff();
+		Assertions.assertEquals(CircuitBreaker.State.OPEN, breaker.getState());
+		Assertions.assertTrue(remaining > 60 && remaining <= 120, "Doubled backoff " + remaining);
+
+		Thread.sleep(remaining + 20);
+		Assertions.assertTrue(breaker.allowRequest());
+		breaker.recordFailure();
+		remaining = breaker.getRemainingBackoff();
+		Assertions.assertTrue(remaining > 120 && remaining <= 180, "Maximum backoff " + remaining);
+		Assertions.assertEquals(1, breaker.getOpenCount());
+		Assertions.assertEquals(2, breaker.getProbeCount());
+	}
+}
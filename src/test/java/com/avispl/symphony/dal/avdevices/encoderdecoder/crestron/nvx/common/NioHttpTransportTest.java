@@ -0,0 +1,201 @@
+/*
+ *  Copyright (c) 2024 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.avdevices.encoderdecoder.crestron.nvx.common;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+/**
+ * NioHttpTransportTest sends requests to a local server answering scripted raw responses
+ *
+ * @author Kevin / Symphony Dev Team<br>
+ * Created on 10/18/2026
+ * @since 1.0.0
+ */
+@Tag("Mock")
+public class NioHttpTransportTest {
+	private static final long TIMEOUT = 5000;
+
+	private ScriptedServer server;
+	private NioHttpTransport transport;
+
+	@BeforeEach
+	void setUp() throws Exception {
+		server = new ScriptedServer();
+		transport = new NioHttpTransport(1, 1, 30000);
+	}
+
+	@AfterEach
+	void destroy() throws Exception {
+		transport.close();
+		server.close();
+	}
+
+	@Test
+	void testChunkedBody() throws Exception {
+		server.answer("HTTP/1.1 200 OK\r\nTransfer-Encoding: chunked\r\n\r\n5\r\nHello\r\n7;name=value\r\n, World\r\n0\r\nX-Trailer: 1\r\n\r\n", false);
+		server.answer("HTTP/1.1 200 OK\r\nContent-Length: 2\r\n\r\nok", false);
+
+		HttpResult result = get();
+		Assertions.assertEquals(200, result.getStatusCode());
+		Assertions.assertEquals("Hello, World", result.getBody());
+		Assertions.assertEquals("ok", get().getBody());
+		Assertions.assertEquals(1, server.getConnectionCount());
+	}
+
+	@Test
+	void testCloseDelimitedBody() throws Exception {
+		server.answer("HTTP/1.1 200 OK\r\nContent-Type: application/json\r\nConnection: close\r\n\r\n{\"Device\":{}}", true);
+		server.answer("HTTP/1.1 200 OK\r\nContent-Length: 2\r\n\r\nok", false);
+
+		HttpResult result = get();
+		Assertions.assertEquals(200, result.getStatusCode());
+		Assertions.assertEquals("{\"Device\":{}}", result.getBody());
+		Assertions.assertEquals("ok", get().getBody());
+		Assertions.assertEquals(2, server.getConnectionCount());
+	}
+
+	@Test
+	void testConnectionReusedAfterErrorStatus() throws Exception {
+		server.answer("HTTP/1.1 500 Internal Server Error\r\nContent-Length: 5\r\n\r\nerror", false);
+		server.answer("HTTP/1.1 200 OK\r\nContent-Length: 2\r\n\r\nok", false);
+
+		HttpResult error = get();
+		Assertions.assertEquals(500, error.getStatusCode());
+		Assertions.assertEquals("error", error.getBody());
+		HttpResult result = get();
+		Assertions.assertEquals(200, result.getStatusCode());
+		Assertions.assertEquals("ok", result.getBody());
+		Assertions.assertEquals(1, server.getConnectionCount());
+	}
+
+	@Test
+	void testNewConnectionAfterTruncatedBody() throws Exception {
+		server.answer("HTTP/1.1 200 OK\r\nContent-Length: 100\r\n\r\npartial", true);
+		server.answer("HTTP/1.1 200 OK\r\nContent-Length: 2\r\n\r\nok", false);
+
+		ExecutionException exception = assertThrows(ExecutionException.class, this::get);
+		Assertions.assertTrue(exception.getCause() instanceof IOException);
+		Assertions.assertEquals("ok", get().getBody());
+		Assertions.assertEquals(2, server.getConnectionCount());
+	}
+
+	private HttpResult get() throws Exception {
+		return transport.send("GET", "http://127.0.0.1:" + server.getPort() + "/Device/DeviceInfo", Collections.emptyMap(), null, TIMEOUT)
+				.get(TIMEOUT * 2, TimeUnit.MILLISECONDS);
+	}
+
+	/**
+	 * Local server answering each request with the next scripted response, in the order they are queued
+	 */
+	private static class ScriptedServer implements AutoCloseable {
+		private final ServerSocket serverSocket = new ServerSocket(0, 50, InetAddress.getLoopbackAddress());
+		private final BlockingQueue<String[]> responses = new LinkedBlockingQueue<>();
+		private final AtomicInteger connectionCount = new AtomicInteger();
+		private final Thread acceptor;
+
+		private ScriptedServer() throws IOException {
+			acceptor = new Thread(this::accept, "scripted-server");
+			acceptor.setDaemon(true);
+			acceptor.start();
+		}
+
+		/**
+		 * Queue a raw response
+		 *
+		 * @param response status line, headers and body
+		 * @param isClosed true if the connection is closed once the response is written
+		 */
+		private void answer(String response, boolean isClosed) {
+			responses.add(new String[] { response, String.valueOf(isClosed) });
+		}
+
+		private int getPort() {
+			return serverSocket.getLocalPort();
+		}
+
+		private int getConnectionCount() {
+			return connectionCount.get();
+		}
+
+		private void accept() {
+			while (!serverSocket.isClosed()) {
+				try {
+					Socket socket = serverSocket.accept();
+					connectionCount.incrementAndGet();
+					Thread handler = new Thread(() -> serve(socket), "scripted-connection");
+					handler.setDaemon(true);
+					handler.start();
+				} catch (IOException e) {
+					return;
+				}
+			}
+		}
+
+		private void serve(Socket socket) {
+			try (Socket connection = socket) {
+				InputStream input = connection.getInputStream();
+				OutputStream output = connection.getOutputStream();
+				while (readRequest(input)) {
+					String[] response = responses.poll(TIMEOUT, TimeUnit.MILLISECONDS);
+					if (response == null) {
+						return;
+					}
+					output.write(response[0].getBytes(StandardCharsets.US_ASCII));
+					output.flush();
+					if (Boolean.parseBoolean(response[1])) {
+						return;
+					}
+				}
+			} catch (IOException | InterruptedException e) {
+				// the client closed the connection
+			}
+		}
+
+		/**
+		 * Read the request line and headers of a request without body
+		 *
+		 * @return false if the client closed the connection
+		 */
+		private boolean readRequest(InputStream input) throws IOException {
+			ByteArrayOutputStream request = new ByteArrayOutputStream();
+			int matched = 0;
+			int value;
+			while ((value = input.read()) != -1) {
+				request.write(value);
+				matched = value == "\r\n\r\n".charAt(matched) ? matched + 1 : value == '\r' ? 1 : 0;
+				if (matched == 4) {
+					return true;
+				}
+			}
+			return false;
+		}
+
+		@Override
+		public void close() throws IOException {
+			serverSocket.close();
+		}
+	}
+}
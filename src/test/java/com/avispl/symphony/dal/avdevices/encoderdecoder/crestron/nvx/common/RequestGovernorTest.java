@@ -0,0 +1,108 @@
+/*
+ *  Copyright (c) 2024 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.avdevices.encoderdecoder.crestron.nvx.common;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+/**
+ * RequestGovernorTest
+ *
+ * @author Kevin / Symphony Dev Team<br>
+ * Created on 10/18/2026
+ * @since 1.0.0
+ */
+@Tag("Mock")
+public class RequestGovernorTest {
+
+	@Test
+	void testPriorityRequestGrantedBeforeWaitingPollingRequest() throws Exception {
+		RequestGovernor governor = new RequestGovernor(0, 1);
+		Assertions.assertTrue(governor.tryAcquire(false));
+
+		CompletableFuture<Void> polling = governor.acquireAsync(false, 5000);
+		CompletableFuture<Void> control = governor.acquireAsync(true, 5000);
+		Assertions.assertEquals(2, governor.getQueueDepth());
+		Assertions.assertFalse(governor.tryAcquire(true));
+
+		governor.release();
+		Assertions.assertTrue(control.isDone());
+		Assertions.assertFalse(polling.isDone());
+
+		governor.release();
+		Assertions.assertTrue(polling.isDone());
+		Assertions.assertEquals(0, governor.getQueueDepth());
+		Assertions.assertEquals(2, governor.getThrottledCount());
+		governor.release();
+	}
+
+	@Test
+	void testPollingRequestNotGrantedAheadOfQueue() {
+		RequestGovernor governor = new RequestGovernor(0, 1);
+		Assertions.assertTrue(governor.tryAcquire(false));
+		CompletableFuture<Void> queued = governor.acquireAsync(false, 5000);
+
+		governor.release();
+		Assertions.assertTrue(queued.isDone());
+		Assertions.assertFalse(governor.tryAcquire(false));
+		governor.release();
+	}
+
+	@Test
+	void testTokensRefilledAtConfiguredRate() throws Exception {
+		RequestGovernor governor = new RequestGovernor(10, 0);
+		for (int i = 0; i < 10; i++) {
+			Assertions.assertTrue(governor.tryAcquire(false));
+			governor.release();
+		}
+		Assertions.assertFalse(governor.tryAcquire(false));
+
+		long start = System.nanoTime();
+		governor.acquireAsync(false, 5000).get(2, TimeUnit.SECONDS);
+		long elapsed = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+		Assertions.assertTrue(elapsed >= 50, "A token is earned every 100 ms, granted after " + elapsed + " ms");
+		Assertions.assertEquals(1, governor.getThrottledCount());
+		governor.release();
+	}
+
+	@Test
+	void testRequestFailsAfterTimeout() throws Exception {
+		RequestGovernor governor = new RequestGovernor(0, 1);
+		Assertions.assertTrue(governor.tryAcquire(true));
+
+		CompletableFuture<Void> future = governor.acquireAsync(false, 50);
+		ExecutionException exception = assertThrows(ExecutionException.class, () -> future.get(2, TimeUnit.SECONDS));
+		Assertions.assertTrue(exception.getCause() instanceof TimeoutException);
+		Assertions.assertFalse(governor.acquire(false, 50));
+		Assertions.assertEquals(2, governor.getTimeoutCount());
+		Assertions.assertEquals(0, governor.getQueueDepth());
+
+		governor.release();
+		Assertions.assertTrue(governor.tryAcquire(false));
+		governor.release();
+	}
+
+	@Test
+	void testCancelledRequestLeavesQueue() {
+		RequestGovernor governor = new RequestGovernor(0, 1);
+		Assertions.assertTrue(governor.tryAcquire(false));
+		CompletableFuture<Void> cancelled = governor.acquireAsync(true, 5000);
+		CompletableFuture<Void> queued = governor.acquireAsync(false, 5000);
+
+		cancelled.cancel(false);
+		Assertions.assertEquals(1, governor.getQueueDepth());
+		governor.release();
+		Assertions.assertTrue(queued.isDone());
+		governor.release();
+	}
+}
@@ -0,0 +1,159 @@
+/*
+ *  Copyright (c) 2024 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.avdevices.encoderdecoder.crestron.nvx.common;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.NullNode;
+
+import com.avispl.symphony.api.dal.dto.monitor.ExtendedStatistics;
+import com.avispl.symphony.dal.avdevices.encoderdecoder.crestron.nvx.CrestronNVXCommunicator;
+import com.avispl.symphony.dal.avdevices.encoderdecoder.crestron.nvx.simulator.NvxSimulator;
+
+/**
+ * SnapshotStoreTest writes snapshots to a temporary directory and warm-starts an adapter from them
+ *
+ * @author Kevin / Symphony Dev Team<br>
+ * Created on 10/18/2026
+ * @since 1.0.0
+ */
+@Tag("Mock")
+public class SnapshotStoreTest {
+	private static final String HOST = "127.0.0.1";
+
+	private final ObjectMapper objectMapper = new ObjectMapper();
+
+	@TempDir
+	Path directory;
+
+	@Test
+	void testWriteAndLoad() throws Exception {
+		SnapshotStore store = new SnapshotStore(objectMapper, directory.toString(), "nvx-01.example.com", 443);
+		Map<String, JsonNode> groups = new HashMap<>();
+		groups.put("DeviceInfo", objectMapper.readTree("{\"Model\":\"DM-NVX-350\",\"SerialNumber\":\"2012NEJ01234\"}"));
+		groups.put("StreamReceive", NullNode.getInstance());
+		long start = System.currentTimeMillis();
+		store.write(store.build(groups, Collections.singletonMap("StreamAvailable#", "00000001-0000-0000-0000-000000000001"), "Receiver"));
+
+		SnapshotStore loaded = new SnapshotStore(objectMapper, directory.toString(), "nvx-01.example.com", 443);
+		Assertions.assertTrue(loaded.load());
+		Assertions.assertEquals(Collections.singleton("DeviceInfo"), loaded.getGroups().keySet());
+		Assertions.assertEquals(groups.get("DeviceInfo"), loaded.getGroups().get("DeviceInfo"));
+		Assertions.assertEquals("00000001-0000-0000-0000-000000000001", loaded.getFilterValues().get("StreamAvailable#"));
+		Assertions.assertEquals("Receiver", loaded.getDeviceMode());
+		Assertions.assertTrue(loaded.getTimestamp() >= start);
+		try (Stream<Path> files = Files.list(directory)) {
+			Assertions.assertEquals(1, files.count());
+		}
+	}
+
+	@Test
+	void testMissingAndInvalidSnapshot() throws Exception {
+		SnapshotStore store = new SnapshotStore(objectMapper, directory.toString(), HOST, 443);
+		Assertions.assertFalse(store.load());
+
+		Files.write(directory.resolve("127.0.0.1_443.json"), "{\"Groups\":".getBytes(StandardCharsets.UTF_8));
+		assertThrows(IOException.class, store::load);
+
+		Files.write(directory.resolve("127.0.0.1_443.json"), "{\"Groups\":[]}".getBytes(StandardCharsets.UTF_8));
+		Assertions.assertFalse(store.load());
+	}
+
+	@Test
+	void testWarmStartDeliversStaleSnapshotUntilPollSucceeds() throws Exception {
+		int port = findFreePort();
+		NvxSimulator simulator = startSimulator(port);
+		CrestronNVXCommunicator communicator = createCommunicator(port);
+		Map<String, String> polledStats;
+		try {
+			polledStats = retrieveStatistics(communicator);
+		} finally {
+			communicator.destroy();
+			simulator.stop();
+			awaitQueuedWrites();
+		}
+		Assertions.assertNull(polledStats.get(CrestronConstant.STALE_DATA_SINCE));
+
+		// the device is down when the adapter restarts
+		communicator = createCommunicator(port);
+		try {
+			Map<String, String> staleStats = retrieveStatistics(communicator);
+			Assertions.assertNotNull(staleStats.get(CrestronConstant.STALE_DATA_SINCE));
+			Map<String, String> expectedStats = new HashMap<>(staleStats);
+			expectedStats.remove(CrestronConstant.STALE_DATA_SINCE);
+			Assertions.assertEquals(polledStats, expectedStats);
+
+			simulator = startSimulator(port);
+			try {
+				Assertions.assertNull(retrieveStatistics(communicator).get(CrestronConstant.STALE_DATA_SINCE));
+			} finally {
+				simulator.stop();
+			}
+		} finally {
+			communicator.destroy();
+			awaitQueuedWrites();
+		}
+	}
+
+	private NvxSimulator startSimulator(int port) throws Exception {
+		NvxSimulator simulator = new NvxSimulator(NvxSimulator.parseArguments(new String[] { "--devices", "1", "--mode", NvxSimulator.MODE_PORT, "--port", String.valueOf(port),
+				"--fixtures", "nvx-350-receiver" }));
+		simulator.start();
+		return simulator;
+	}
+
+	private CrestronNVXCommunicator createCommunicator(int port) throws Exception {
+		CrestronNVXCommunicator communicator = new CrestronNVXCommunicator();
+		communicator.setTrustAllCertificates(true);
+		communicator.setProtocol("https");
+		communicator.setHost(HOST);
+		communicator.setPort(port);
+		communicator.setLogin("admin");
+		communicator.setPassword("admin");
+		communicator.setSnapshotDirectory(directory.toString());
+		communicator.setCapabilityCacheFile(CrestronConstant.EMPTY);
+		communicator.init();
+		return communicator;
+	}
+
+	private Map<String, String> retrieveStatistics(CrestronNVXCommunicator communicator) throws Exception {
+		return ((ExtendedStatistics) communicator.getMultipleStatistics().get(0)).getStatistics();
+	}
+
+	/**
+	 * Wait for the snapshot writes queued by the polls, the shared writer runs them in order
+	 */
+	private void awaitQueuedWrites() throws InterruptedException {
+		CountDownLatch latch = new CountDownLatch(1);
+		SnapshotStore.queueWrite(latch::countDown);
+		Assertions.assertTrue(latch.await(10, TimeUnit.SECONDS));
+	}
+
+	private static int findFreePort() throws IOException {
+		try (ServerSocket socket = new ServerSocket(0, 1, InetAddress.getLoopbackAddress())) {
+			return socket.getLocalPort();
+		}
+	}
+}
@@ -0,0 +1,96 @@
+/*
+ *  Copyright (c) 2024 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.avdevices.encoderdecoder.crestron.nvx.common;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+/**
+ * StreamIndexTest
+ *
+ * @author Kevin / Symphony Dev Team<br>
+ * Created on 10/18/2026
+ * @since 1.0.0
+ */
+@Tag("Mock")
+public class StreamIndexTest {
+	private final ObjectMapper objectMapper = new ObjectMapper();
+
+	@Test
+	void testRetainMaximumStreamsAndSelectedStream() {
+		StreamIndex index = new StreamIndex();
+		JsonNode response = index.update(buildResponse(5), "stream-4", 2);
+
+		Assertions.assertArrayEquals(new String[] { "stream-0", "stream-1", "stream-4" }, index.getUniqueIds());
+		Assertions.assertEquals(5, index.getStreamCount());
+		Assertions.assertTrue(index.contains("stream-4"));
+		Assertions.assertFalse(index.contains("stream-2"));
+		Assertions.assertEquals("Encoder 4", StreamIndex.getDetail(response, "stream-4").get("SessionName").asText());
+		Assertions.assertNull(StreamIndex.getDetail(response, "stream-0"));
+		Assertions.assertNull(StreamIndex.getDetail(response, "stream-2"));
+	}
+
+	@Test
+	void testFirstStreamSelectedByDefault() {
+		StreamIndex index = new StreamIndex();
+		JsonNode response = index.update(buildResponse(3), null, 0);
+
+		Assertions.assertEquals(3, index.getUniqueIds().length);
+		Assertions.assertEquals("Encoder 0", StreamIndex.getDetail(response, "stream-0").get("SessionName").asText());
+		Assertions.assertNull(StreamIndex.getDetail(response, "stream-1"));
+	}
+
+	@Test
+	void testUnchangedStreamsKeepReducedResponse() {
+		StreamIndex index = new StreamIndex();
+		JsonNode response = index.update(buildResponse(4), "stream-1", 0);
+		String[] uniqueIds = index.getUniqueIds();
+
+		Assertions.assertSame(response, index.update(buildResponse(4), "stream-1", 0));
+		Assertions.assertSame(uniqueIds, index.getUniqueIds());
+		Assertions.assertNotSame(response, index.update(buildResponse(4), "stream-2", 0));
+		Assertions.assertSame(uniqueIds, index.getUniqueIds());
+	}
+
+	@Test
+	void testIndexRebuiltWhenStreamsChange() {
+		StreamIndex index = new StreamIndex();
+		index.update(buildResponse(4), null, 0);
+		index.update(buildResponse(2), null, 0);
+		Assertions.assertArrayEquals(new String[] { "stream-0", "stream-1" }, index.getUniqueIds());
+
+		index.update(buildResponse(3), null, 0);
+		Assertions.assertArrayEquals(new String[] { "stream-0", "stream-1", "stream-2" }, index.getUniqueIds());
+		Assertions.assertEquals(3, index.getStreamCount());
+	}
+
+	@Test
+	void testClearedWithoutStreams() {
+		StreamIndex index = new StreamIndex();
+		index.update(buildResponse(3), null, 0);
+		ObjectNode emptyResponse = objectMapper.createObjectNode();
+
+		Assertions.assertSame(emptyResponse, index.update(emptyResponse, null, 0));
+		Assertions.assertEquals(0, index.getUniqueIds().length);
+		Assertions.assertEquals(0, index.getStreamCount());
+		Assertions.assertNull(StreamIndex.getDetail(null, "stream-0"));
+	}
+
+	private JsonNode buildResponse(int streamCount) {
+		ObjectNode response = objectMapper.createObjectNode();
+		ObjectNode streams = response.putObject(CrestronConstant.STREAMS);
+		for (int i = 0; i < streamCount; i++) {
+			ObjectNode stream = streams.putObject("stream-" + i);
+			stream.put("SessionName", "Encoder " + i);
+			stream.put("RtspUri", "rtsp://10.0.0." + i + ":554/live.sdp");
+		}
+		return response;
+	}
+}
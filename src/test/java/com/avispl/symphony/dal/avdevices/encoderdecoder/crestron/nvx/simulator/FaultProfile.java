@@ -0,0 +1,122 @@
+/*
+ *  Copyright (c) 2024 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.avdevices.encoderdecoder.crestron.nvx.simulator;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * FaultProfile describes latency, jitter and errors injected into the responses of a virtual device.
+ * Values are volatile so a running load test can change them.
+ *
+ * @author Kevin / Symphony Dev Team<br>
+ * Created on 10/18/2026
+ * @since 1.0.0
+ */
+public class FaultProfile {
+	private volatile long latency;
+	private volatile long jitter;
+	private volatile double errorRate;
+	private volatile double timeoutRate;
+
+	/**
+	 * Retrieves {@link #latency}
+	 *
+	 * @return value of {@link #latency} in milliseconds
+	 */
+	public long getLatency() {
+		return latency;
+	}
+
+	/**
+	 * Sets {@link #latency} value
+	 *
+	 * @param latency base delay of every response in milliseconds
+	 */
+	public void setLatency(long latency) {
+		this.latency = Math.max(0, latency);
+	}
+
+	/**
+	 * Retrieves {@link #jitter}
+	 *
+	 * @return value of {@link #jitter} in milliseconds
+	 */
+	public long getJitter() {
+		return jitter;
+	}
+
+	/**
+	 * Sets {@link #jitter} value
+	 *
+	 * @param jitter random delay added to {@link #latency}, from 0 to jitter milliseconds
+	 */
+	public void setJitter(long jitter) {
+		this.jitter = Math.max(0, jitter);
+	}
+
+	/**
+	 * Retrieves {@link #errorRate}
+	 *
+	 * @return value of {@link #errorRate}
+	 */
+	public double getErrorRate() {
+		return errorRate;
+	}
+
+	/**
+	 * Sets {@link #errorRate} value
+	 *
+	 * @param errorRate probability from 0 to 1 that a request is answered with HTTP 500
+	 */
+	public void setErrorRate(double errorRate) {
+		this.errorRate = errorRate;
+	}
+
+	/**
+	 * Retrieves {@link #timeoutRate}
+	 *
+	 * @return value of {@link #timeoutRate}
+	 */
+	public double getTimeoutRate() {
+		return timeoutRate;
+	}
+
+	/**
+	 * Sets {@link #timeoutRate} value
+	 *
+	 * @param timeoutRate probability from 0 to 1 that a request is never answered
+	 */
+	public void setTimeoutRate(double timeoutRate) {
+		this.timeoutRate = timeoutRate;
+	}
+
+	/**
+	 * Draw the delay of the next response
+	 *
+	 * @return delay in milliseconds
+	 */
+	public long nextDelay() {
+		long currentJitter = jitter;
+		return latency + (currentJitter > 0 ? ThreadLocalRandom.current().nextLong(currentJitter + 1) : 0);
+	}
+
+	/**
+	 * Draw if the next response is an error
+	 *
+	 * @return true if the request has to fail
+	 */
+	public boolean nextError() {
+		return errorRate > 0 && ThreadLocalRandom.current().nextDouble() < errorRate;
+	}
+
+	/**
+	 * Draw if the next request is left unanswered
+	 *
+	 * @return true if the request has to time out
+	 */
+	public boolean nextTimeout() {
+		return timeoutRate > 0 && ThreadLocalRandom.current().nextDouble() < timeoutRate;
+	}
+}
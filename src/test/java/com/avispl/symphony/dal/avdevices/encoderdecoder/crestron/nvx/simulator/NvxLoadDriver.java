@@ -0,0 +1,172 @@
+/*
+ *  Copyright (c) 2024 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.avdevices.encoderdecoder.crestron.nvx.simulator;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.avispl.symphony.api.dal.dto.control.ControllableProperty;
+import com.avispl.symphony.dal.avdevices.encoderdecoder.crestron.nvx.CrestronNVXCommunicator;
+
+/**
+ * NvxLoadDriver starts an {@link NvxSimulator} and polls every virtual device with its own adapter instance,
+ * measuring poll throughput, poll latency and control latency.
+ * Besides the simulator options it accepts --duration (seconds), --interval (milliseconds between polls of a device),
+ * --pollThreads and --controlInterval (milliseconds between controls, 0 to disable).
+ *
+ * Run with: mvn test-compile exec:java -Dexec.classpathScope=test
+ * -Dexec.mainClass=com.avispl.symphony.dal.avdevices.encoderdecoder.crestron.nvx.simulator.NvxLoadDriver -Dexec.args="--devices 100 --latency 20"
+ *
+ * @author Kevin / Symphony Dev Team<br>
+ * Created on 10/18/2026
+ * @since 1.0.0
+ */
+public class NvxLoadDriver {
+	private static final String CONTROL_PROPERTY = "DiscoveryConfig#DiscoveryAgent";
+
+	/**
+	 * Run the load test and print the report
+	 *
+	 * @param args options of the simulator and of the driver
+	 * @throws Exception if the simulator can't start
+	 */
+	public static void main(String[] args) throws Exception {
+		Map<String, String> options = NvxSimulator.parseArguments(args);
+		long duration = Long.parseLong(options.getOrDefault("duration", "30"));
+		long interval = Long.parseLong(options.getOrDefault("interval", "0"));
+		long controlInterval = Long.parseLong(options.getOrDefault("controlInterval", "1000"));
+		int pollThreads = Integer.parseInt(options.getOrDefault("pollThreads", "32"));
+
+		NvxSimulator simulator = new NvxSimulator(options);
+		simulator.start();
+		List<CrestronNVXCommunicator> communicators = new ArrayList<>();
+		for (String endpoint : simulator.getDevices().keySet()) {
+			String[] hostAndPort = endpoint.split(":");
+			CrestronNVXCommunicator communicator = new CrestronNVXCommunicator();
+			communicator.setProtocol("https");
+			communicator.setTrustAllCertificates(true);
+			communicator.setHost(hostAndPort[0]);
+			communicator.setPort(Integer.parseInt(hostAndPort[1]));
+			communicator.setLogin(options.getOrDefault("login", "admin"));
+			communicator.setPassword(options.getOrDefault("password", "admin"));
+			communicator.setConfigManagement("true");
+			communicator.init();
+			communicators.add(communicator);
+		}
+
+		LatencyRecorder polls = new LatencyRecorder();
+		LatencyRecorder controls = new LatencyRecorder();
+		ScheduledExecutorService executor = Executors.newScheduledThreadPool(pollThreads);
+		for (CrestronNVXCommunicator communicator : communicators) {
+			executor.scheduleWithFixedDelay(() -> {
+				long start = System.nanoTime();
+				try {
+					communicator.getMultipleStatistics();
+					polls.record(System.nanoTime() - start);
+				} catch (Exception e) {
+					polls.fail();
+				}
+			}, ThreadLocalRandom.current().nextLong(Math.max(1, interval)), Math.max(1, interval), TimeUnit.MILLISECONDS);
+		}
+		if (controlInterval > 0) {
+			executor.scheduleWithFixedDelay(() -> {
+				CrestronNVXCommunicator communicator = communicators.get(ThreadLocalRandom.current().nextInt(communicators.size()));
+				ControllableProperty control = new ControllableProperty();
+				control.setProperty(CONTROL_PROPERTY);
+				control.setValue(ThreadLocalRandom.current().nextInt(2));
+				long start = System.nanoTime();
+				try {
+					communicator.controlProperty(control);
+					controls.record(System.nanoTime() - start);
+				} catch (Exception e) {
+					controls.fail();
+				}
+			}, controlInterval, controlInterval, TimeUnit.MILLISECONDS);
+		}
+
+		long startTime = System.nanoTime();
+		TimeUnit.SECONDS.sleep(duration);
+		executor.shutdownNow();
+		executor.awaitTermination(30, TimeUnit.SECONDS);
+		double elapsed = (System.nanoTime() - startTime) / 1e9;
+
+		long requests = simulator.getDevices().values().stream().mapToLong(VirtualDevice::getRequestCount).sum();
+		System.out.printf("devices=%s duration=%.1fs simulator requests=%s (%.0f/s)%n", communicators.size(), elapsed, requests, requests / elapsed);
+		System.out.printf("polls    %s, throughput %.1f/s%n", polls.report(), polls.getCount() / elapsed);
+		System.out.printf("controls %s%n", controls.report());
+
+		for (CrestronNVXCommunicator communicator : communicators) {
+			communicator.destroy();
+		}
+		simulator.stop();
+	}
+
+	/**
+	 * LatencyRecorder collects latencies of successful operations and counts failures
+	 */
+	static class LatencyRecorder {
+		private final AtomicLong failures = new AtomicLong();
+		private long[] latencies = new long[1024];
+		private int count;
+
+		/**
+		 * Record latency of a successful operation
+		 *
+		 * @param nanos latency in nanoseconds
+		 */
+		synchronized void record(long nanos) {
+			if (count == latencies.length) {
+				latencies = Arrays.copyOf(latencies, count * 2);
+			}
+			latencies[count++] = nanos;
+		}
+
+		/**
+		 * Count a failed operation
+		 */
+		void fail() {
+			failures.incrementAndGet();
+		}
+
+		/**
+		 * Retrieves {@link #count}
+		 *
+		 * @return number of successful operations
+		 */
+		synchronized int getCount() {
+			return count;
+		}
+
+		/**
+		 * Build summary of the recorded latencies
+		 *
+		 * @return count, failures and percentiles in milliseconds
+		 */
+		synchronized String report() {
+			long[] sorted = Arrays.copyOf(latencies, count);
+			Arrays.sort(sorted);
+			return String.format("ok=%s failed=%s p50=%.1fms p90=%.1fms p99=%.1fms max=%.1fms", count, failures.get(), percentile(sorted, 0.5), percentile(sorted, 0.9),
+					percentile(sorted, 0.99), percentile(sorted, 1));
+		}
+
+		/**
+		 * Retrieves percentile of sorted latencies in milliseconds
+		 */
+		private static double percentile(long[] sorted, double percentile) {
+			if (sorted.length == 0) {
+				return 0;
+			}
+			int index = (int) Math.ceil(percentile * sorted.length) - 1;
+			return sorted[Math.max(0, index)] / 1e6;
+		}
+	}
+}
@@ -0,0 +1,328 @@
+/*
+ *  Copyright (c) 2024 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.avdevices.encoderdecoder.crestron.nvx.simulator;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.security.KeyStore;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import javax.net.ssl.KeyManagerFactory;
+import javax.net.ssl.SSLContext;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpsConfigurator;
+import com.sun.net.httpserver.HttpsServer;
+
+/**
+ * NvxSimulator is an embedded HTTPS stand-in for the REST API of Crestron NVX devices, used for load and scale testing.
+ * It serves the login page, GET of every Device group and POST of partial Device objects for any number of virtual devices.
+ * <ul>
+ *   <li>address mode: all devices listen on one port, device n is reached on the loopback address 127.1.x.y</li>
+ *   <li>port mode: device n is reached on 127.0.0.1 and port + n</li>
+ * </ul>
+ * Latency, jitter, errors and timeouts are injected per device through {@link FaultProfile}.
+ * A delayed response is completed by a scheduler, so slow devices do not hold worker threads.
+ *
+ * Run with: mvn test-compile exec:java -Dexec.classpathScope=test
+ * -Dexec.mainClass=com.avispl.symphony.dal.avdevices.encoderdecoder.crestron.nvx.simulator.NvxSimulator -Dexec.args="--devices 100"
+ *
+ * @author Kevin / Symphony Dev Team<br>
+ * Created on 10/18/2026
+ * @since 1.0.0
+ */
+public class NvxSimulator {
+	public static final String MODE_ADDRESS = "address";
+	public static final String MODE_PORT = "port";
+
+	private static final String KEY_STORE = "/simulator/nvx-simulator.p12";
+	private static final char[] KEY_STORE_PASSWORD = "simulator".toCharArray();
+	private static final String LOGIN_PATH = "/userlogin.html";
+	private static final String COOKIE_NAME = "userstr";
+	private static final long UNANSWERED_HOLD = 60_000;
+
+	static {
+		// small responses written as headers then body would otherwise wait for the delayed ack of the client
+		if (System.getProperty("sun.net.httpserver.nodelay") == null) {
+			System.setProperty("sun.net.httpserver.nodelay", "true");
+		}
+	}
+
+	private final Map<String, String> options;
+	private final Map<String, VirtualDevice> devices = new LinkedHashMap<>();
+	private final List<HttpsServer> servers = new ArrayList<>();
+	private ExecutorService workers;
+	private ScheduledExecutorService scheduler;
+
+	/**
+	 * Constructs a new instance of NvxSimulator.
+	 *
+	 * @param options options parsed by {@link #parseArguments(String[])}
+	 */
+	public NvxSimulator(Map<String, String> options) {
+		this.options = options;
+	}
+
+	/**
+	 * Start the simulator and block until the process is stopped
+	 *
+	 * @param args --devices, --mode, --port, --fixtures, --login, --password, --latency, --jitter, --errorRate,
+	 * --timeoutRate, --sessionTimeout, --rebootDuration, --threads
+	 * @throws Exception if the simulator can't start
+	 */
+	public static void main(String[] args) throws Exception {
+		NvxSimulator simulator = new NvxSimulator(parseArguments(args));
+		simulator.start();
+		Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+			simulator.stop();
+			simulator.getDevices().values().forEach(device -> System.out.println(device.summary()));
+		}));
+		System.out.printf("Simulating %s devices, first at %s%n", simulator.getDevices().size(), simulator.getDevices().keySet().iterator().next());
+		Thread.currentThread().join();
+	}
+
+	/**
+	 * Parse --name value pairs
+	 *
+	 * @param args command line arguments
+	 * @return options by name
+	 */
+	public static Map<String, String> parseArguments(String[] args) {
+		Map<String, String> options = new HashMap<>();
+		for (int i = 0; i + 1 < args.length; i += 2) {
+			options.put(args[i].replaceFirst("^--", ""), args[i + 1]);
+		}
+		return options;
+	}
+
+	/**
+	 * Create the virtual devices and start listening
+	 *
+	 * @throws Exception if the key store can't be loaded or a port can't be bound
+	 */
+	public synchronized void start() throws Exception {
+		int deviceCount = Integer.parseInt(options.getOrDefault("devices", "10"));
+		String mode = options.getOrDefault("mode", MODE_ADDRESS);
+		int port = Integer.parseInt(options.getOrDefault("port", "8443"));
+		String[] fixtures = options.getOrDefault("fixtures", "nvx-350-transmitter,nvx-350-receiver").split(",");
+		String login = options.getOrDefault("login", "admin");
+		String password = options.getOrDefault("password", "admin");
+
+		workers = Executors.newFixedThreadPool(Integer.parseInt(options.getOrDefault("threads", "16")));
+		scheduler = Executors.newScheduledThreadPool(2);
+		HttpsConfigurator configurator = new HttpsConfigurator(createSslContext());
+
+		for (int i = 0; i < deviceCount; i++) {
+			FaultProfile faultProfile = new FaultProfile();
+			faultProfile.setLatency(Long.parseLong(options.getOrDefault("latency", "0")));
+			faultProfile.setJitter(Long.parseLong(options.getOrDefault("jitter", "0")));
+			faultProfile.setErrorRate(Double.parseDouble(options.getOrDefault("errorRate", "0")));
+			faultProfile.setTimeoutRate(Double.parseDouble(options.getOrDefault("timeoutRate", "0")));
+			VirtualDevice device = new VirtualDevice(String.format("nvx-%04d", i + 1), fixtures[i % fixtures.length].trim(), login, password, faultProfile);
+			device.setSessionTimeout(Long.parseLong(options.getOrDefault("sessionTimeout", "0")));
+			device.setRebootDuration(Long.parseLong(options.getOrDefault("rebootDuration", "0")));
+
+			if (MODE_PORT.equals(mode)) {
+				devices.put("127.0.0.1:" + (port + i), device);
+				servers.add(createServer(new InetSocketAddress("127.0.0.1", port + i), configurator));
+			} else {
+				int index = i + 1;
+				devices.put(String.format("127.1.%s.%s:%s", index >> 8, index & 0xff, port), device);
+			}
+		}
+		if (!MODE_PORT.equals(mode)) {
+			servers.add(createServer(new InetSocketAddress(port), configurator));
+		}
+		servers.forEach(HttpsServer::start);
+	}
+
+	/**
+	 * Stop listening and release the threads of the simulator
+	 */
+	public synchronized void stop() {
+		servers.forEach(server -> server.stop(0));
+		servers.clear();
+		if (workers != null) {
+			workers.shutdownNow();
+		}
+		if (scheduler != null) {
+			scheduler.shutdownNow();
+		}
+	}
+
+	/**
+	 * Retrieves {@link #devices}
+	 *
+	 * @return virtual devices by host:port
+	 */
+	public Map<String, VirtualDevice> getDevices() {
+		return Collections.unmodifiableMap(devices);
+	}
+
+	/**
+	 * Create a server sharing the worker pool of the simulator
+	 */
+	private HttpsServer createServer(InetSocketAddress address, HttpsConfigurator configurator) throws IOException {
+		HttpsServer server = HttpsServer.create(address, 1024);
+		server.setHttpsConfigurator(configurator);
+		server.setExecutor(workers);
+		server.createContext("/", this::handle);
+		return server;
+	}
+
+	/**
+	 * Route a request to the virtual device owning the local address it was received on
+	 */
+	private void handle(HttpExchange exchange) throws IOException {
+		InetSocketAddress localAddress = exchange.getLocalAddress();
+		VirtualDevice device = devices.get(localAddress.getAddress().getHostAddress() + ":" + localAddress.getPort());
+		if (device == null) {
+			respond(exchange, 404, null, null);
+			return;
+		}
+		FaultProfile faultProfile = device.getFaultProfile();
+		if (faultProfile.nextTimeout()) {
+			device.countError();
+			scheduler.schedule(exchange::close, UNANSWERED_HOLD, TimeUnit.MILLISECONDS);
+			return;
+		}
+
+		int status;
+		byte[] body;
+		String cookie = null;
+		try {
+			String path = exchange.getRequestURI().getPath();
+			String method = exchange.getRequestMethod();
+			byte[] requestBody = readBody(exchange.getRequestBody());
+			if (device.isRebooting()) {
+				status = 503;
+				body = null;
+			} else if (faultProfile.nextError()) {
+				status = 500;
+				body = "Injected error".getBytes(StandardCharsets.UTF_8);
+			} else if (LOGIN_PATH.equals(path)) {
+				Map<String, String> form = parseForm(new String(requestBody, StandardCharsets.UTF_8));
+				String token = device.login(form.get("login"), form.get("passwd"));
+				status = token == null ? 403 : 200;
+				body = (token == null ? "Invalid user name or password" : "<html></html>").getBytes(StandardCharsets.UTF_8);
+				cookie = token == null ? null : COOKIE_NAME + "=" + token + "; Path=/; Secure; HttpOnly";
+			} else if (!device.isAuthorized(exchange.getRequestHeaders().getFirst("Cookie"))) {
+				status = 401;
+				body = null;
+			} else if ("GET".equals(method)) {
+				body = device.get(path);
+				status = body == null ? 404 : 200;
+			} else if ("POST".equals(method)) {
+				body = device.post(path, requestBody);
+				status = 200;
+			} else {
+				status = 405;
+				body = null;
+			}
+		} catch (Exception e) {
+			status = 500;
+			body = String.valueOf(e.getMessage()).getBytes(StandardCharsets.UTF_8);
+		}
+		if (status >= 400) {
+			device.countError();
+		}
+
+		long delay = faultProfile.nextDelay();
+		if (delay <= 0) {
+			respond(exchange, status, body, cookie);
+			return;
+		}
+		int delayedStatus = status;
+		byte[] delayedBody = body;
+		String delayedCookie = cookie;
+		scheduler.schedule(() -> {
+			try {
+				respond(exchange, delayedStatus, delayedBody, delayedCookie);
+			} catch (IOException e) {
+				exchange.close();
+			}
+		}, delay, TimeUnit.MILLISECONDS);
+	}
+
+	/**
+	 * Send the response and release the exchange
+	 */
+	private static void respond(HttpExchange exchange, int status, byte[] body, String cookie) throws IOException {
+		try {
+			if (cookie != null) {
+				exchange.getResponseHeaders().add("Set-Cookie", cookie);
+			}
+			if (body != null && body.length > 0 && body[0] == '{') {
+				exchange.getResponseHeaders().set("Content-Type", "application/json");
+			}
+			if (body == null || body.length == 0) {
+				exchange.sendResponseHeaders(status, -1);
+			} else {
+				exchange.sendResponseHeaders(status, body.length);
+				try (OutputStream outputStream = exchange.getResponseBody()) {
+					outputStream.write(body);
+				}
+			}
+		} finally {
+			exchange.close();
+		}
+	}
+
+	/**
+	 * Read the whole request body
+	 */
+	private static byte[] readBody(InputStream inputStream) throws IOException {
+		ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+		byte[] buffer = new byte[4096];
+		int read;
+		while ((read = inputStream.read(buffer)) != -1) {
+			outputStream.write(buffer, 0, read);
+		}
+		return outputStream.toByteArray();
+	}
+
+	/**
+	 * Parse a form body, the adapter separates fields with && so empty pairs are ignored
+	 */
+	private static Map<String, String> parseForm(String body) throws IOException {
+		Map<String, String> form = new HashMap<>();
+		for (String pair : body.split("&")) {
+			int index = pair.indexOf('=');
+			if (index > 0) {
+				form.put(pair.substring(0, index), URLDecoder.decode(pair.substring(index + 1), StandardCharsets.UTF_8.name()));
+			}
+		}
+		return form;
+	}
+
+	/**
+	 * Load the self-signed certificate of the simulator
+	 */
+	private static SSLContext createSslContext() throws Exception {
+		KeyStore keyStore = KeyStore.getInstance("PKCS12");
+		try (InputStream inputStream = NvxSimulator.class.getResourceAsStream(KEY_STORE)) {
+			keyStore.load(inputStream, KEY_STORE_PASSWORD);
+		}
+		KeyManagerFactory keyManagerFactory = KeyManagerFactory.getInstance(KeyManagerFactory.getDefaultAlgorithm());
+		keyManagerFactory.init(keyStore, KEY_STORE_PASSWORD);
+		SSLContext sslContext = SSLContext.getInstance("TLS");
+		sslContext.init(keyManagerFactory.getKeyManagers(), null, null);
+		return sslContext;
+	}
+}
@@ -0,0 +1,372 @@
+/*
+ *  Copyright (c) 2024 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.avdevices.encoderdecoder.crestron.nvx.simulator;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+/**
+ * VirtualDevice holds the mutable state of one simulated NVX device.
+ * The state starts as a copy of a fixture and is changed by the POST requests sent to the device,
+ * so monitoring after a control reflects the new value like a real device does.
+ *
+ * @author Kevin / Symphony Dev Team<br>
+ * Created on 10/18/2026
+ * @since 1.0.0
+ */
+public class VirtualDevice {
+	private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+	private static final String DEVICE = "Device";
+	private static final String SEPARATOR = "/";
+
+	private final String name;
+	private final String fixture;
+	private final String login;
+	private final String password;
+	private final ObjectNode state;
+	private final FaultProfile faultProfile;
+	private final Map<String, Long> sessions = new ConcurrentHashMap<>();
+	private final AtomicLong loginCount = new AtomicLong();
+	private final AtomicLong getCount = new AtomicLong();
+	private final AtomicLong postCount = new AtomicLong();
+	private final AtomicLong errorCount = new AtomicLong();
+	private final AtomicLong rebootCount = new AtomicLong();
+	private volatile long sessionTimeout;
+	private volatile long rebootDuration;
+	private volatile long rebootUntil;
+
+	/**
+	 * Constructs a new instance of VirtualDevice.
+	 *
+	 * @param name name of device, used in logs and reports
+	 * @param fixture name of fixture in /fixtures the state is copied from
+	 * @param login accepted login
+	 * @param password accepted password
+	 * @param faultProfile faults injected into the responses of the device
+	 * @throws IOException if the fixture can't be read
+	 */
+	public VirtualDevice(String name, String fixture, String login, String password, FaultProfile faultProfile) throws IOException {
+		this.name = name;
+		this.fixture = fixture;
+		this.login = login;
+		this.password = password;
+		this.faultProfile = faultProfile;
+		this.state = (ObjectNode) loadFixture(fixture).get(DEVICE);
+	}
+
+	/**
+	 * Retrieves {@link #name}
+	 *
+	 * @return value of {@link #name}
+	 */
+	public String getName() {
+		return name;
+	}
+
+	/**
+	 * Retrieves {@link #fixture}
+	 *
+	 * @return value of {@link #fixture}
+	 */
+	public String getFixture() {
+		return fixture;
+	}
+
+	/**
+	 * Retrieves {@link #faultProfile}
+	 *
+	 * @return value of {@link #faultProfile}
+	 */
+	public FaultProfile getFaultProfile() {
+		return faultProfile;
+	}
+
+	/**
+	 * Sets {@link #sessionTimeout} value
+	 *
+	 * @param sessionTimeout lifetime of a session cookie in milliseconds, 0 to never expire
+	 */
+	public void setSessionTimeout(long sessionTimeout) {
+		this.sessionTimeout = sessionTimeout;
+	}
+
+	/**
+	 * Sets {@link #rebootDuration} value
+	 *
+	 * @param rebootDuration time the device stays unavailable after a reboot in milliseconds
+	 */
+	public void setRebootDuration(long rebootDuration) {
+		this.rebootDuration = rebootDuration;
+	}
+
+	/**
+	 * Login with the given credentials
+	 *
+	 * @param requestLogin login of the request
+	 * @param requestPassword password of the request
+	 * @return session token or null if the credentials are rejected
+	 */
+	public String login(String requestLogin, String requestPassword) {
+		if (!login.equals(requestLogin) || !password.equals(requestPassword)) {
+			return null;
+		}
+		loginCount.incrementAndGet();
+		String token = UUID.randomUUID().toString().replace("-", "");
+		sessions.put(token, System.currentTimeMillis());
+		return token;
+	}
+
+	/**
+	 * Check if a request carries a valid session cookie
+	 *
+	 * @param cookieHeader Cookie header of the request, may be null
+	 * @return true if one of the sessions of the device is found and not expired
+	 */
+	public boolean isAuthorized(String cookieHeader) {
+		if (cookieHeader == null) {
+			return false;
+		}
+		long now = System.currentTimeMillis();
+		long timeout = sessionTimeout;
+		for (Iterator<Map.Entry<String, Long>> iterator = sessions.entrySet().iterator(); iterator.hasNext(); ) {
+			Map.Entry<String, Long> session = iterator.next();
+			if (timeout > 0 && now - session.getValue() > timeout) {
+				iterator.remove();
+			} else if (cookieHeader.contains(session.getKey())) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Check if the device is still rebooting
+	 *
+	 * @return true if requests have to be answered with 503
+	 */
+	public boolean isRebooting() {
+		return System.currentTimeMillis() < rebootUntil;
+	}
+
+	/**
+	 * Read the object at the given path, wrapped in the Device object like the device api does
+	 *
+	 * @param path request path such as Device/Ethernet
+	 * @return response body or null if the path does not exist
+	 * @throws IOException if the response can't be serialized
+	 */
+	public byte[] get(String path) throws IOException {
+		getCount.incrementAndGet();
+		String[] names = trim(path).split(SEPARATOR);
+		if (!DEVICE.equals(names[0])) {
+			return null;
+		}
+		synchronized (state) {
+			refreshClock();
+			ObjectNode response = OBJECT_MAPPER.createObjectNode();
+			ObjectNode source = state;
+			ObjectNode target = response.putObject(DEVICE);
+			for (int i = 1; i < names.length; i++) {
+				JsonNode child = source.get(names[i]);
+				if (child == null) {
+					return null;
+				}
+				if (i == names.length - 1 || !child.isObject()) {
+					target.set(names[i], child);
+					break;
+				}
+				source = (ObjectNode) child;
+				target = target.putObject(names[i]);
+			}
+			if (names.length == 1) {
+				response.set(DEVICE, state);
+			}
+			return OBJECT_MAPPER.writeValueAsBytes(response);
+		}
+	}
+
+	/**
+	 * Apply a partial update sent to the given path
+	 *
+	 * @param path request path such as Device/DiscoveryConfig
+	 * @param body request body, a partial Device object
+	 * @return response body reporting the result of the update
+	 * @throws IOException if the body is not valid json
+	 */
+	public byte[] post(String path, byte[] body) throws IOException {
+		postCount.incrementAndGet();
+		JsonNode request = OBJECT_MAPPER.readTree(body);
+		JsonNode device = request == null ? null : request.get(DEVICE);
+		ObjectNode response = OBJECT_MAPPER.createObjectNode();
+		ObjectNode action = response.putArray("Actions").addObject();
+		action.put("Operation", "SetPartial");
+		action.put("TargetObject", trim(path));
+		ArrayNode results = action.putArray("Results");
+		if (device == null || !device.isObject()) {
+			ObjectNode result = results.addObject();
+			result.put("Path", trim(path));
+			result.put("StatusId", -1);
+			result.put("StatusInfo", "Invalid request body");
+			return OBJECT_MAPPER.writeValueAsBytes(response);
+		}
+
+		boolean isReboot = device.path("DeviceOperations").path("Reboot").asBoolean(false);
+		if (isReboot) {
+			reboot();
+		} else {
+			synchronized (state) {
+				merge(state, (ObjectNode) device);
+			}
+		}
+		addResults(results, DEVICE, DEVICE, device);
+		return OBJECT_MAPPER.writeValueAsBytes(response);
+	}
+
+	/**
+	 * Report one result per updated field, as the device does for a partial update of several fields
+	 */
+	private void addResults(ArrayNode results, String path, String name, JsonNode node) {
+		if (node.isObject()) {
+			Iterator<Map.Entry<String, JsonNode>> fields = node.fields();
+			while (fields.hasNext()) {
+				Map.Entry<String, JsonNode> field = fields.next();
+				addResults(results, path + "." + field.getKey(), field.getKey(), field.getValue());
+			}
+		} else if (node.isArray()) {
+			for (JsonNode element : node) {
+				addResults(results, path, name, element);
+			}
+		} else {
+			ObjectNode result = results.addObject();
+			result.put("Path", path);
+			result.put("Property", name);
+			result.put("StatusId", 0);
+			result.put("StatusInfo", "OK");
+		}
+	}
+
+	/**
+	 * Count a response answered with an injected or real error
+	 */
+	public void countError() {
+		errorCount.incrementAndGet();
+	}
+
+	/**
+	 * Build one line summary of the counters of the device
+	 *
+	 * @return summary
+	 */
+	public String summary() {
+		return String.format("%s logins=%s gets=%s posts=%s errors=%s reboots=%s", name, loginCount.get(), getCount.get(), postCount.get(), errorCount.get(), rebootCount.get());
+	}
+
+	/**
+	 * Retrieves number of requests answered by the device
+	 *
+	 * @return login, GET and POST requests
+	 */
+	public long getRequestCount() {
+		return loginCount.get() + getCount.get() + postCount.get();
+	}
+
+	/**
+	 * Retrieves number of reboots requested to the device
+	 *
+	 * @return reboots
+	 */
+	public long getRebootCount() {
+		return rebootCount.get();
+	}
+
+	/**
+	 * Restart the device: sessions are dropped and the device is unavailable for {@link #rebootDuration}
+	 */
+	private void reboot() {
+		rebootCount.incrementAndGet();
+		sessions.clear();
+		rebootUntil = System.currentTimeMillis() + rebootDuration;
+	}
+
+	/**
+	 * Current time of the system clock follows the wall clock like a real device
+	 */
+	private void refreshClock() {
+		JsonNode clock = state.get("SystemClock");
+		if (clock != null && clock.isObject()) {
+			((ObjectNode) clock).put("CurrentTime", Instant.now().truncatedTo(ChronoUnit.SECONDS).toString());
+		}
+	}
+
+	/**
+	 * Merge a partial update into the state, arrays are merged element by element
+	 */
+	private static void merge(JsonNode target, JsonNode update) {
+		if (target.isObject() && update.isObject()) {
+			ObjectNode targetObject = (ObjectNode) target;
+			Iterator<Map.Entry<String, JsonNode>> fields = update.fields();
+			while (fields.hasNext()) {
+				Map.Entry<String, JsonNode> field = fields.next();
+				JsonNode current = targetObject.get(field.getKey());
+				if (current != null && current.isContainerNode() && current.getNodeType() == field.getValue().getNodeType()) {
+					merge(current, field.getValue());
+				} else {
+					targetObject.set(field.getKey(), field.getValue().deepCopy());
+				}
+			}
+		} else if (target.isArray() && update.isArray()) {
+			ArrayNode targetArray = (ArrayNode) target;
+			for (int i = 0; i < update.size(); i++) {
+				JsonNode current = targetArray.get(i);
+				if (current != null && current.isContainerNode() && current.getNodeType() == update.get(i).getNodeType()) {
+					merge(current, update.get(i));
+				} else if (current != null) {
+					targetArray.set(i, update.get(i).deepCopy());
+				} else {
+					targetArray.add(update.get(i).deepCopy());
+				}
+			}
+		}
+	}
+
+	/**
+	 * Remove leading and trailing separators of a request path
+	 */
+	private static String trim(String path) {
+		int start = 0;
+		int end = path.length();
+		while (start < end && path.charAt(start) == '/') {
+			start++;
+		}
+		while (end > start && path.charAt(end - 1) == '/') {
+			end--;
+		}
+		return path.substring(start, end);
+	}
+
+	/**
+	 * Read a fixture of the test resources
+	 */
+	private static JsonNode loadFixture(String fixture) throws IOException {
+		try (InputStream inputStream = VirtualDevice.class.getResourceAsStream("/fixtures/" + fixture + ".json")) {
+			if (inputStream == null) {
+				throw new IOException("Fixture not found: " + fixture);
+			}
+			return OBJECT_MAPPER.readTree(inputStream);
+		}
+	}
+}